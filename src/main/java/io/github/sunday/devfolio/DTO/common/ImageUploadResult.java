@@ -3,6 +3,7 @@ package io.github.sunday.devfolio.dto.common;
 import lombok.*;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 /**
  * AWS S3 이미지 업로드 결과 처리용 DTO
@@ -38,4 +39,30 @@ public class ImageUploadResult {
      * 업로드 날짜
      */
     private ZonedDateTime uploadedAt;
+
+    /**
+     * 처리 중 여부
+     * 대기 시간 안에 업로드가 끝나지 않으면 true (이미지 URL은 업로드가 끝난 뒤부터 유효)
+     */
+    private boolean pending;
+
+    /**
+     * 저장된 이미지 너비
+     */
+    private Integer width;
+
+    /**
+     * 저장된 이미지 높이
+     */
+    private Integer height;
+
+    /**
+     * 함께 저장된 크기별 이미지 너비 (오름차순)
+     */
+    private List<Integer> variantWidths;
+
+    /**
+     * 로딩 중 표시할 미리보기 이미지 (data URI)
+     */
+    private String placeholder;
 }
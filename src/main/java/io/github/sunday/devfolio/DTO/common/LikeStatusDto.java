@@ -0,0 +1,25 @@
+package io.github.sunday.devfolio.dto.common;
+
+import lombok.*;
+
+/**
+ * 좋아요 추가/제거 결과 응답 DTO
+ * 요청 처리 후의 좋아요 상태와 좋아요 수
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LikeStatusDto {
+
+    /**
+     * 현재 사용자의 좋아요 여부
+     */
+    private boolean liked;
+
+    /**
+     * 처리 후 좋아요 수
+     */
+    private Integer likeCount;
+}
@@ -0,0 +1,28 @@
+package io.github.sunday.devfolio.dto.common;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 검색 결과 캐시에 저장하는 결과 페이지
+ * 정렬된 결과 IDX 목록과 다음 페이지 커서 (커서 기반 조회가 아니면 null)
+ * 조회수, 좋아요 수 등은 캐시하지 않고 IDX로 다시 조회해서 최신 값을 사용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchIdPage {
+
+    /**
+     * 정렬된 결과 IDX 목록
+     */
+    private List<Long> ids;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지거나 커서 기반 조회가 아니면 null)
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,39 @@
+package io.github.sunday.devfolio.dto.common;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 파일을 한 번에 처리(삭제, 태그 변경)한 결과 DTO
+ * 일부만 실패할 수 있으므로 키별로 성공, 실패를 나눠 전달
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StorageBatchResult {
+
+    /**
+     * 처리에 성공한 키
+     */
+    @Builder.Default
+    private List<String> succeeded = new ArrayList<>();
+
+    /**
+     * 처리에 실패한 키와 실패 사유
+     */
+    @Builder.Default
+    private Map<String, String> failed = new LinkedHashMap<>();
+
+    /**
+     * 모든 키 처리 성공 여부
+     */
+    public boolean isAllSucceeded() {
+        return failed.isEmpty();
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.sunday.devfolio.dto.common;
+
+import lombok.*;
+
+/**
+ * 자동완성 항목 DTO
+ * 대상 종류(portfolio, category, community, user), 대상 IDX, 표시 문구
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionDto {
+
+    /**
+     * 대상 종류
+     */
+    private String type;
+
+    /**
+     * 대상 IDX (포트폴리오, 카테고리, 게시글, 사용자 IDX)
+     */
+    private Long idx;
+
+    /**
+     * 표시 문구 (제목, 카테고리 이름, 닉네임)
+     */
+    private String text;
+}
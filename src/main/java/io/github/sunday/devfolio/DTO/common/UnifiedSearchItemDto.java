@@ -0,0 +1,40 @@
+package io.github.sunday.devfolio.dto.common;
+
+import lombok.*;
+
+/**
+ * 통합 검색 결과 항목 DTO
+ * 대상 종류(portfolio, community, user), 대상 IDX, 제목(닉네임), 대상 내 rank, 정규화한 점수
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UnifiedSearchItemDto {
+
+    /**
+     * 대상 종류
+     */
+    private String type;
+
+    /**
+     * 대상 IDX (포트폴리오, 게시글, 사용자 IDX)
+     */
+    private Long idx;
+
+    /**
+     * 제목 (사용자는 닉네임)
+     */
+    private String title;
+
+    /**
+     * 대상 검색에서 계산한 rank (ts_rank, 유사도 등 대상마다 척도가 다름)
+     */
+    private Float rank;
+
+    /**
+     * 대상별 rank 기준값으로 계산한 0~1 사이 점수 (대상 간 병합 정렬에 사용)
+     */
+    private double score;
+}
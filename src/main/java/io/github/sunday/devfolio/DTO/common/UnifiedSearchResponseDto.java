@@ -0,0 +1,34 @@
+package io.github.sunday.devfolio.dto.common;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 통합 검색 응답 DTO
+ * 점수순으로 병합한 결과 목록과 제한 시간 안에 응답하지 못한 대상 목록
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UnifiedSearchResponseDto {
+
+    /**
+     * 점수순으로 병합한 검색 결과
+     */
+    private List<UnifiedSearchItemDto> items;
+
+    /**
+     * 시간 초과, 오류로 결과에서 빠진 대상 (비어 있으면 전체 결과)
+     */
+    private List<String> degradedSources;
+
+    /**
+     * 일부 대상의 결과가 빠졌는지 여부
+     */
+    public boolean isPartial() {
+        return degradedSources != null && !degradedSources.isEmpty();
+    }
+}
@@ -1,26 +1,29 @@
 package io.github.sunday.devfolio.dto.community;
 
 import io.github.sunday.devfolio.entity.table.community.CommunityComment;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
- * 댓글 정보 응답을 위한 DTO. 대댓글을 포함하는 계층 구조를 지원합니다.
+ * 댓글 정보 응답을 위한 DTO.
+ * <p>
+ * 답글은 함께 담지 않고 답글 수만 전달하며, 답글 목록은 부모 댓글별로 따로 조회합니다.
+ * 목록 쿼리에서 작성자를 조인한 프로젝션으로 직접 생성합니다.
  */
 @Getter
 @Builder
+@AllArgsConstructor
 public class CommentResponseDto {
     private final Long commentId;
     private final String content;
     private final String authorNickname;
     private final String authorProfileImg;
     private final ZonedDateTime createdAt;
-    private final List<CommentResponseDto> children = new ArrayList<>();
     private final Long authorUserIdx;
+    private final Long replyCount;
 
 
     /**
@@ -36,6 +39,7 @@ public class CommentResponseDto {
                 .authorProfileImg(comment.getUser().getProfileImg())
                 .createdAt(comment.getCreatedAt())
                 .authorUserIdx(comment.getUser().getUserIdx()) // [추가] 작성자 ID 설정
+                .replyCount(0L)
                 .build();
     }
-}
\ No newline at end of file
+}
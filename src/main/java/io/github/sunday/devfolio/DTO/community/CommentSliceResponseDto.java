@@ -0,0 +1,32 @@
+package io.github.sunday.devfolio.dto.community;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서 기반으로 조회한 댓글 목록 응답 DTO
+ * 댓글 목록, 다음 페이지 커서(마지막 댓글 IDX), 다음 페이지 존재 여부
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentSliceResponseDto {
+
+    /**
+     * 댓글 목록
+     */
+    private List<CommentResponseDto> content;
+
+    /**
+     * 다음 페이지 요청에 사용할 커서 (마지막 페이지면 null)
+     */
+    private Long nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
@@ -2,6 +2,7 @@ package io.github.sunday.devfolio.dto.community;
 
 import io.github.sunday.devfolio.annotation.community.CommunityCategoryValid;
 import io.github.sunday.devfolio.enums.community.CommunitySort;
+import io.github.sunday.devfolio.utils.SearchKeywordUtils;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import org.springframework.data.domain.Sort;
@@ -58,4 +59,18 @@ public class CommunitySearchRequestDto {
         if (sort == null) return true;
         return CommunitySort.fromName(sort.name()) != null;
     }
-}
\ No newline at end of file
+
+    /**
+     * 검색 결과 캐시 키 생성
+     */
+    public String toCacheKey() {
+        return String.join("|",
+                SearchKeywordUtils.normalize(keyword),
+                categoryName != null ? categoryName : "",
+                String.valueOf(sort),
+                String.valueOf(direction),
+                String.valueOf(page),
+                String.valueOf(size)
+        );
+    }
+}
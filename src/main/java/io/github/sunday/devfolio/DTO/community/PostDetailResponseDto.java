@@ -24,12 +24,14 @@ public class PostDetailResponseDto {
     private final Integer views;
     private final Integer likeCount;
     private final List<CommentResponseDto> comments;
+    private final Long commentNextCursor;
+    private final boolean hasMoreComments;
     private final long totalCommentCount;
     private boolean likedByCurrentUser;
     private final Category category;
     private final String status;
 
-    public static PostDetailResponseDto of(CommunityPost post, List<CommentResponseDto> comments, long totalCommentCount, boolean isLiked) {
+    public static PostDetailResponseDto of(CommunityPost post, Integer views, CommentSliceResponseDto comments, long totalCommentCount, boolean isLiked) {
         return PostDetailResponseDto.builder()
                 .postIdx(post.getPostIdx())
                 .title(post.getTitle())
@@ -38,9 +40,11 @@ public class PostDetailResponseDto {
                 .authorProfileImg(post.getUser().getProfileImg())
                 .authorUserIdx(post.getUser().getUserIdx())
                 .createdAt(post.getCreatedAt())
-                .views(post.getViews())
+                .views(views)
                 .likeCount(post.getLikeCount())
-                .comments(comments)
+                .comments(comments.getContent())
+                .commentNextCursor(comments.getNextCursor())
+                .hasMoreComments(comments.isHasNext())
                 .totalCommentCount(totalCommentCount)
                 .likedByCurrentUser(isLiked)
                 .category(post.getCategory())
@@ -0,0 +1,40 @@
+package io.github.sunday.devfolio.dto.community;
+
+import lombok.*;
+import org.springframework.data.domain.Page;
+
+/**
+ * 게시글 목록 페이지 응답 DTO
+ * 게시글 페이지와 전체 개수의 정확도(개수 미계산, 최대 개수 초과) 정보
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostPageResponseDto {
+
+    /**
+     * 게시글 페이지
+     * 다음 페이지 여부만 확인한 경우 전체 개수는 다음 페이지까지의 개수
+     */
+    private Page<PostListResponseDto> page;
+
+    /**
+     * 전체 개수 계산 여부
+     */
+    private boolean totalKnown;
+
+    /**
+     * 전체 개수가 최대 개수를 초과했는지 여부
+     */
+    private boolean totalCapped;
+
+    /**
+     * 화면에 표시할 전체 개수 (계산하지 않은 경우 null)
+     */
+    public String getTotalLabel() {
+        if (!totalKnown) return null;
+        return page.getTotalElements() + (totalCapped ? "+" : "");
+    }
+}
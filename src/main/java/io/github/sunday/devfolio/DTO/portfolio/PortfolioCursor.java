@@ -0,0 +1,120 @@
+package io.github.sunday.devfolio.dto.portfolio;
+
+import io.github.sunday.devfolio.enums.portfolio.PortfolioSort;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * 포트폴리오 커서 기반 페이지네이션에 사용하는 커서
+ * 마지막으로 전달한 포트폴리오의 정렬 컬럼 값, 포트폴리오 IDX, 검색 rank를 담고
+ * 클라이언트에는 불투명한 토큰 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class PortfolioCursor {
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서 생성 시의 정렬 기준
+     */
+    private final PortfolioSort sort;
+
+    /**
+     * 커서 생성 시의 정렬 방향
+     */
+    private final Sort.Direction direction;
+
+    /**
+     * 마지막 포트폴리오의 정렬 컬럼 값
+     */
+    private final String sortValue;
+
+    /**
+     * 마지막 포트폴리오의 IDX
+     */
+    private final Long portfolioIdx;
+
+    /**
+     * 마지막 포트폴리오의 검색 rank (키워드 검색이 아니면 null)
+     */
+    private final Float rank;
+
+    /**
+     * 포트폴리오로 다음 페이지용 커서 생성
+     */
+    public static PortfolioCursor of(PortfolioSummaryDto portfolio, PortfolioSort sort, Sort.Direction direction, Float rank) {
+        String sortValue = switch (sort) {
+            case UPDATED_AT -> portfolio.getUpdatedAt().toInstant().toString();
+            case COMMENT_COUNT -> String.valueOf(portfolio.getCommentCount());
+            case VIEWS -> String.valueOf(portfolio.getViews());
+            case LIKE_COUNT -> String.valueOf(portfolio.getLikeCount());
+        };
+        return new PortfolioCursor(sort, direction, sortValue, portfolio.getPortfolioIdx(), rank);
+    }
+
+    /**
+     * 커서를 토큰 문자열로 변환
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                sort.name(),
+                direction.name(),
+                sortValue,
+                String.valueOf(portfolioIdx),
+                rank != null ? String.valueOf(rank) : ""
+        );
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 문자열을 커서로 변환
+     */
+    public static PortfolioCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new PortfolioCursor(
+                    PortfolioSort.valueOf(parts[0]),
+                    Sort.Direction.valueOf(parts[1]),
+                    parts[2],
+                    Long.valueOf(parts[3]),
+                    parts[4].isEmpty() ? null : Float.valueOf(parts[4])
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 정렬 컬럼 값을 시간으로 변환
+     */
+    public ZonedDateTime getSortValueAsDateTime() {
+        return Instant.parse(sortValue).atZone(ZoneOffset.UTC);
+    }
+
+    /**
+     * 정렬 컬럼 값을 숫자로 변환
+     */
+    public Integer getSortValueAsInteger() {
+        return Integer.valueOf(sortValue);
+    }
+
+    /**
+     * 현재 검색 요청과 같은 정렬 조건으로 만들어진 커서인지 확인
+     */
+    public boolean matches(PortfolioSort sort, Sort.Direction direction, boolean hasKeyword) {
+        return this.sort == sort
+                && this.direction == direction
+                && (this.rank != null) == hasKeyword;
+    }
+}
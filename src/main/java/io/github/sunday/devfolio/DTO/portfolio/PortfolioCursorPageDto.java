@@ -0,0 +1,32 @@
+package io.github.sunday.devfolio.dto.portfolio;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서 기반으로 조회한 포트폴리오 목록 응답 DTO
+ * 포트폴리오 목록, 다음 페이지 커서, 다음 페이지 존재 여부
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PortfolioCursorPageDto {
+
+    /**
+     * 포트폴리오 목록
+     */
+    private List<PortfolioListDto> content;
+
+    /**
+     * 다음 페이지 요청에 사용할 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+}
@@ -47,10 +47,15 @@ public class PortfolioListDto {
     private String updatedAt;
 
     /**
-     * 포트폴리오 썸네일 이미지
+     * 포트폴리오 썸네일 이미지 (목록 카드 크기에 맞는 크기별 이미지)
      */
     private String imageUrl;
 
+    /**
+     * 썸네일 로딩 중 표시할 미리보기 이미지 (data URI, 없으면 null)
+     */
+    private String placeholder;
+
     /**
      * 작성자 정보
      */
@@ -1,14 +1,20 @@
 package io.github.sunday.devfolio.dto.portfolio;
 
 import io.github.sunday.devfolio.annotation.portfolio.PortfolioCategoryValid;
+import io.github.sunday.devfolio.enums.portfolio.PortfolioCategoryMatch;
 import io.github.sunday.devfolio.enums.portfolio.PortfolioSort;
+import io.github.sunday.devfolio.utils.SearchKeywordUtils;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * 포트폴리오 검색 요청용 DTO
  * 페이지, 페이지 크기, 정렬 기준, 정렬 방향, 검색 키워드, 카테고리
@@ -46,6 +52,18 @@ public class PortfolioSearchRequestDto {
     @PortfolioCategoryValid
     private Long categoryIdx;
 
+    /**
+     * 여러 카테고리 필터
+     */
+    @PortfolioCategoryValid
+    @Size(max = 10, message = "카테고리는 최대 10개까지 선택할 수 있습니다.")
+    private List<Long> categoryIdxList;
+
+    /**
+     * 여러 카테고리 결합 방식 (기본값 : 하나라도 포함)
+     */
+    private PortfolioCategoryMatch categoryMatch = PortfolioCategoryMatch.ANY;
+
     /**
      * 정렬 기준
      */
@@ -56,9 +74,37 @@ public class PortfolioSearchRequestDto {
      */
     private Sort.Direction direction = Sort.Direction.DESC;
 
+    /**
+     * 커서 기반 페이지네이션용 커서
+     * 값이 있으면(빈 문자열 포함) page 대신 커서 기준으로 조회
+     */
+    @Pattern(regexp = "^[A-Za-z0-9_-]{0,200}$",
+            message = "유효하지 않은 커서입니다.")
+    private String cursor;
+
     @AssertTrue(message = "유효하지 않은 정렬 기준입니다.")
     public boolean isValidSort() {
         if (sort == null) return true;
         return PortfolioSort.fromName(sort.name()) != null;
     }
+
+    /**
+     * 검색 결과 캐시 키 생성
+     * 키워드는 정규화하고 여러 카테고리는 순서와 관계없이 같은 키가 되도록 정렬
+     */
+    public String toCacheKey() {
+        List<Long> sortedCategories = categoryIdxList == null ? List.of()
+                : categoryIdxList.stream().filter(Objects::nonNull).sorted().distinct().toList();
+        return String.join("|",
+                SearchKeywordUtils.normalize(keyword),
+                String.valueOf(categoryIdx),
+                sortedCategories.toString(),
+                String.valueOf(categoryMatch),
+                String.valueOf(sort),
+                String.valueOf(direction),
+                String.valueOf(page),
+                String.valueOf(size),
+                cursor != null ? cursor : ""
+        );
+    }
 }
@@ -0,0 +1,52 @@
+package io.github.sunday.devfolio.dto.portfolio;
+
+import lombok.*;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 포트폴리오 목록 조회용 프로젝션 DTO
+ * 목록 카드와 커서 생성에 필요한 컬럼만 조회하고 설명(TEXT)과 검색 벡터는 읽지 않음
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PortfolioSummaryDto {
+
+    /**
+     * 포트폴리오 IDX
+     */
+    private Long portfolioIdx;
+
+    /**
+     * 포트폴리오 제목
+     */
+    private String title;
+
+    /**
+     * 조회수
+     */
+    private Integer views;
+
+    /**
+     * 좋아요 수
+     */
+    private Integer likeCount;
+
+    /**
+     * 댓글 수
+     */
+    private Integer commentCount;
+
+    /**
+     * 수정일
+     */
+    private ZonedDateTime updatedAt;
+
+    /**
+     * 작성자 IDX
+     */
+    private Long userIdx;
+}
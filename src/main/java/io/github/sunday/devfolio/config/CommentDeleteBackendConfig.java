@@ -0,0 +1,41 @@
+package io.github.sunday.devfolio.config;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.github.sunday.devfolio.repository.comment.CommentDeleteBackend;
+import io.github.sunday.devfolio.repository.comment.JpaCommentDeleteBackend;
+import io.github.sunday.devfolio.repository.comment.PostgresCommentDeleteBackend;
+import io.github.sunday.devfolio.repository.community.CommunityCommentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+
+/**
+ * 댓글 서브트리 삭제 방식 선택 설정 클래스
+ * comment.delete-backend가 auto(기본값)이면 연결된 DB가 PostgreSQL일 때 재귀 CTE 네이티브 쿼리, 그 외(H2 등)에는 JPQL 구현을 사용
+ * postgres, jpa로 직접 지정 가능
+ */
+@Configuration
+public class CommentDeleteBackendConfig {
+
+    @Bean
+    public CommentDeleteBackend commentDeleteBackend(
+            DataSource dataSource,
+            JPAQueryFactory queryFactory,
+            CommunityCommentRepository communityCommentRepository,
+            @Value("${comment.delete-backend:auto}") String backend
+    ) {
+        boolean postgres = switch (backend.toLowerCase(Locale.ROOT)) {
+            case "postgres" -> true;
+            case "jpa" -> false;
+            default -> SearchBackendConfig.isPostgres(dataSource);
+        };
+
+        if (postgres) {
+            return new PostgresCommentDeleteBackend(communityCommentRepository);
+        }
+        return new JpaCommentDeleteBackend(queryFactory);
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.sunday.devfolio.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 업로드 이미지의 디코딩, 리사이징, 저장을 실행하는 스레드 풀
+ * 요청 스레드 대신 크기가 제한된 작업 스레드에서 처리해 업로드가 몰려도 요청 스레드를 모두 점유하지 않도록 함
+ */
+@Configuration
+public class ImageExecutorConfig {
+
+    /**
+     * 이미지 처리용 Executor 빈 등록
+     * 대기열이 가득 차면 거절되고, 거절된 업로드는 429 응답으로 처리
+     */
+    @Bean(name = "imageExecutor")
+    public ThreadPoolTaskExecutor imageExecutor(
+            @Value("${image.queue.pool-size:4}") int poolSize,
+            @Value("${image.queue.queue-capacity:32}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.sunday.devfolio.config;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.github.sunday.devfolio.repository.community.CommunityLikeRepository;
+import io.github.sunday.devfolio.repository.like.JpaLikeBackend;
+import io.github.sunday.devfolio.repository.like.LikeBackend;
+import io.github.sunday.devfolio.repository.like.PostgresLikeBackend;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioLikeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+
+/**
+ * 좋아요 추가/제거 방식 선택 설정 클래스
+ * like.backend가 auto(기본값)이면 연결된 DB가 PostgreSQL일 때 네이티브 쿼리, 그 외(H2 등)에는 JPQL 구현을 사용
+ * postgres, jpa로 직접 지정 가능
+ */
+@Configuration
+public class LikeBackendConfig {
+
+    @Bean
+    public LikeBackend likeBackend(
+            DataSource dataSource,
+            JPAQueryFactory queryFactory,
+            PortfolioLikeRepository portfolioLikeRepository,
+            CommunityLikeRepository communityLikeRepository,
+            @Value("${like.backend:auto}") String backend
+    ) {
+        boolean postgres = switch (backend.toLowerCase(Locale.ROOT)) {
+            case "postgres" -> true;
+            case "jpa" -> false;
+            default -> SearchBackendConfig.isPostgres(dataSource);
+        };
+
+        if (postgres) {
+            return new PostgresLikeBackend(portfolioLikeRepository, communityLikeRepository);
+        }
+        return new JpaLikeBackend(queryFactory, portfolioLikeRepository, communityLikeRepository);
+    }
+}
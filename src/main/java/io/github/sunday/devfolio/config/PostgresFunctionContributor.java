@@ -8,7 +8,7 @@ import org.hibernate.type.StandardBasicTypes;
 
 /**
  * PostgreSQL 고유 구문을 Hibernate 함수 패턴에 등록하는 클래스
- * PostgreSQL의 Full-Text Search에 사용되는 고유 구문을 등록
+ * PostgreSQL의 Full-Text Search와 pg_trgm 유사도 검색에 사용되는 고유 구문을 등록
  */
 public class PostgresFunctionContributor implements FunctionContributor {
 
@@ -41,5 +41,30 @@ public class PostgresFunctionContributor implements FunctionContributor {
                 floatBasicType
         );
 
+        // pg_trgm : 두 문자열 전체의 trigram 유사도
+        registry.registerPattern(
+                "trgm_similarity",
+                "similarity(?1, ?2)",
+                floatBasicType
+        );
+
+        registry.registerPattern(
+                "trgm_match",
+                "?1 % ?2",
+                booleanBasicType
+        );
+
+        // pg_trgm : 첫 번째 문자열과 두 번째 문자열 안의 가장 비슷한 부분의 유사도 (검색어 ↔ 제목)
+        registry.registerPattern(
+                "trgm_word_similarity",
+                "word_similarity(?1, ?2)",
+                floatBasicType
+        );
+
+        registry.registerPattern(
+                "trgm_word_match",
+                "?1 <% ?2",
+                booleanBasicType
+        );
     }
 }
@@ -0,0 +1,83 @@
+package io.github.sunday.devfolio.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+
+import java.time.Duration;
+
+/**
+ * AWS S3 클라이언트 설정
+ * 조회, 태그, 삭제는 동기 클라이언트로, 업로드는 비동기 클라이언트로 처리
+ * 비동기 클라이언트는 커넥션 수와 커넥션 대기 수를 제한하고, 큰 파일은 자동으로 멀티파트 업로드
+ * storage.backend가 s3(기본값)일 때만 등록
+ */
+@Configuration
+@ConditionalOnProperty(name = "storage.backend", havingValue = "s3", matchIfMissing = true)
+public class S3ClientConfig {
+
+    /**
+     * AWS 자격 증명
+     */
+    @Bean
+    public AwsCredentialsProvider awsCredentialsProvider(
+            @Value("${aws.access-key-id}") String accessKey,
+            @Value("${aws.secret-access-key}") String secretKey
+    ) {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+
+    /**
+     * 동기 S3 클라이언트 빈 등록
+     */
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client(
+            AwsCredentialsProvider awsCredentialsProvider,
+            @Value("${aws.region}") String region
+    ) {
+        return S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(awsCredentialsProvider)
+                .build();
+    }
+
+    /**
+     * 비동기 S3 클라이언트 빈 등록
+     * max-concurrency: 동시에 사용할 최대 커넥션 수
+     * max-pending-acquires: 커넥션을 기다릴 수 있는 최대 요청 수 (넘으면 즉시 실패)
+     * multipart.threshold-bytes 이상인 파일은 part-size-bytes 단위로 나눠 병렬 업로드
+     */
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(
+            AwsCredentialsProvider awsCredentialsProvider,
+            @Value("${aws.region}") String region,
+            @Value("${aws.s3.async.max-concurrency:64}") int maxConcurrency,
+            @Value("${aws.s3.async.max-pending-acquires:1000}") int maxPendingAcquires,
+            @Value("${aws.s3.async.acquire-timeout-ms:10000}") long acquireTimeoutMillis,
+            @Value("${aws.s3.async.multipart.threshold-bytes:16777216}") long multipartThresholdBytes,
+            @Value("${aws.s3.async.multipart.part-size-bytes:8388608}") long multipartPartSizeBytes
+    ) {
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(awsCredentialsProvider)
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency)
+                        .maxPendingConnectionAcquires(maxPendingAcquires)
+                        .connectionAcquisitionTimeout(Duration.ofMillis(acquireTimeoutMillis)))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThresholdBytes)
+                        .minimumPartSizeInBytes(multipartPartSizeBytes)
+                        .build())
+                .build();
+    }
+}
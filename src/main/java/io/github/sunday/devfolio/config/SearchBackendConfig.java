@@ -0,0 +1,63 @@
+package io.github.sunday.devfolio.config;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.github.sunday.devfolio.repository.community.CommunityPostRepository;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioRepository;
+import io.github.sunday.devfolio.repository.search.MemorySearchBackend;
+import io.github.sunday.devfolio.repository.search.PostgresSearchBackend;
+import io.github.sunday.devfolio.repository.search.SearchBackend;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Locale;
+
+/**
+ * 키워드 검색 방식 선택 설정 클래스
+ * search.backend가 auto(기본값)이면 연결된 DB가 PostgreSQL일 때 전문 검색, 그 외에는 메모리 역색인을 사용
+ * postgres, memory로 직접 지정 가능
+ */
+@Configuration
+public class SearchBackendConfig {
+
+    @Bean
+    public SearchBackend searchBackend(
+            DataSource dataSource,
+            JPAQueryFactory queryFactory,
+            PortfolioRepository portfolioRepository,
+            CommunityPostRepository communityPostRepository,
+            @Value("${search.backend:auto}") String backend,
+            @Value("${search.fuzzy.enabled:true}") boolean fuzzyEnabled,
+            @Value("${search.fuzzy.min-matches:3}") int fuzzyMinMatches,
+            @Value("${search.memory.max-hits:500}") int maxHits
+    ) {
+        boolean postgres = switch (backend.toLowerCase(Locale.ROOT)) {
+            case "postgres" -> true;
+            case "memory" -> false;
+            default -> isPostgres(dataSource);
+        };
+
+        if (postgres) {
+            return new PostgresSearchBackend(queryFactory, fuzzyEnabled, fuzzyMinMatches);
+        }
+        return new MemorySearchBackend(portfolioRepository, communityPostRepository, maxHits);
+    }
+
+    /**
+     * 연결된 DB 제품명으로 PostgreSQL 여부 확인
+     * 확인할 수 없으면 운영 DB인 PostgreSQL로 간주
+     */
+    static boolean isPostgres(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData()
+                    .getDatabaseProductName()
+                    .toLowerCase(Locale.ROOT)
+                    .contains("postgresql");
+        } catch (Exception e) {
+            e.printStackTrace();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.sunday.devfolio.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 통합 검색의 대상별 하위 검색을 동시에 실행하는 스레드 풀
+ * 풀과 대기열 크기를 제한해 검색 요청이 몰려도 DB 커넥션과 스레드를 모두 점유하지 않도록 함
+ */
+@Configuration
+public class SearchExecutorConfig {
+
+    /**
+     * 통합 검색용 Executor 빈 등록
+     * 대기열이 가득 차면 거절되고, 거절된 대상은 부분 결과로 처리
+     */
+    @Bean(name = "searchExecutor")
+    public ThreadPoolTaskExecutor searchExecutor(
+            @Value("${search.unified.pool-size:6}") int poolSize,
+            @Value("${search.unified.queue-capacity:60}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("search-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
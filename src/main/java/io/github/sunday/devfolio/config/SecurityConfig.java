@@ -2,6 +2,7 @@ package io.github.sunday.devfolio.config;
 
 import io.github.sunday.devfolio.service.auth.CustomOAuth2UserService;
 import io.github.sunday.devfolio.service.user.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -24,8 +25,17 @@ public class SecurityConfig {
         return new CustomOAuth2UserService(userService);
     }
 
+    /**
+     * 로컬 저장소 파일 제공 경로(storage.local.base-url)는 설정값으로 허용 경로를 만듦
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, CustomOAuth2UserService customOAuth2UserService) throws Exception {
+    public SecurityFilterChain filterChain(
+            HttpSecurity http,
+            CustomOAuth2UserService customOAuth2UserService,
+            @Value("${storage.local.base-url:/storage}") String storageBaseUrl
+    ) throws Exception {
+        String storagePattern = (storageBaseUrl.endsWith("/")
+                ? storageBaseUrl.substring(0, storageBaseUrl.length() - 1) : storageBaseUrl) + "/**";
         http
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/", "/main", "/signup", "/login", "/email/**", "/check/**", "/error").permitAll()
@@ -33,6 +43,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/portfolio**", "/portfolio/**").permitAll()
                         .requestMatchers("/api/portfolio/list**").permitAll()
                         .requestMatchers("/css/**", "/js/**", "/assets/**", "/ckeditor5/**", "/prompts/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, storagePattern, "/img/**").permitAll()
                         .requestMatchers("/api/**").permitAll()
                         .requestMatchers(
                                 "/community/new",
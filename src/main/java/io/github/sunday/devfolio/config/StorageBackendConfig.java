@@ -0,0 +1,66 @@
+package io.github.sunday.devfolio.config;
+
+import io.github.sunday.devfolio.service.storage.LocalStorageBackend;
+import io.github.sunday.devfolio.service.storage.S3StorageBackend;
+import io.github.sunday.devfolio.service.storage.StorageBackend;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * 파일 저장소 선택 설정 클래스
+ * storage.backend가 s3(기본값)이면 AWS S3, local이면 로컬 디스크(storage.local.root)를 사용
+ */
+@Configuration
+public class StorageBackendConfig {
+
+    @Bean
+    public StorageBackend storageBackend(
+            ObjectProvider<S3Client> s3Client,
+            ObjectProvider<S3AsyncClient> s3AsyncClient,
+            @Qualifier("storageExecutor") ThreadPoolTaskExecutor storageExecutor,
+            @Value("${storage.backend:s3}") String backend,
+            @Value("${storage.local.root:./storage}") String localRoot,
+            @Value("${storage.local.base-url:/storage}") String localBaseUrl,
+            @Value("${aws.s3.bucket-name:}") String bucketName,
+            @Value("${aws.s3.batch.tag-concurrency:16}") int tagConcurrency
+    ) {
+        if ("local".equals(backend.toLowerCase(Locale.ROOT))) {
+            return new LocalStorageBackend(Path.of(localRoot), localBaseUrl, storageExecutor);
+        }
+        return new S3StorageBackend(
+                s3Client.getObject(),
+                s3AsyncClient.getObject(),
+                storageExecutor.getThreadPoolExecutor(),
+                bucketName,
+                tagConcurrency
+        );
+    }
+
+    /**
+     * 저장소 입출력용 스레드 풀
+     * S3는 업로드할 스트림을 읽어 비동기 클라이언트에 넘기고, 로컬 디스크는 파일 쓰기를 실행
+     * 업로드 수는 이미지 처리 대기열에서 제한하므로 대기열 크기는 제한하지 않음
+     */
+    @Bean(name = "storageExecutor")
+    public ThreadPoolTaskExecutor storageExecutor(
+            @Value("${storage.io-pool-size:8}") int poolSize
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("storage-io-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,8 +1,12 @@
 package io.github.sunday.devfolio.controller.common;
 
 import io.github.sunday.devfolio.dto.common.ImageUploadResult;
+import io.github.sunday.devfolio.exception.common.ImageBusyException;
+import io.github.sunday.devfolio.exception.common.ImageUploadException;
 import io.github.sunday.devfolio.service.common.SecureImageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -34,6 +38,17 @@ public class EditorImageController {
             ImageUploadResult uploadResult = secureImageService.uploadTempImage(image, target, userIdx);
             responseData.put("uploaded", true);
             responseData.put("url", uploadResult.getImageUrl());
+            responseData.put("pending", uploadResult.isPending());
+        } catch (ImageUploadException e) {
+            // 이미지 처리 대기열이 가득 찬 경우
+            if (e.getCause() instanceof ImageBusyException) {
+                responseData.put("error", "image upload busy");
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(responseData);
+            }
+            responseData.put("error", "image upload failed");
+            return ResponseEntity.badRequest().body(responseData);
         } catch (Exception e) {
             responseData.put("error", "image upload failed");
             return ResponseEntity.badRequest().body(responseData);
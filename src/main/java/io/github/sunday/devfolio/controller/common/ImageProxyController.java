@@ -0,0 +1,140 @@
+package io.github.sunday.devfolio.controller.common;
+
+import io.github.sunday.devfolio.service.common.ImageObjectCache;
+import io.github.sunday.devfolio.service.common.S3Service;
+import io.github.sunday.devfolio.service.storage.StorageBackend;
+import io.github.sunday.devfolio.service.storage.StoredObject;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지 프록시 Controller
+ * 저장소(S3, 로컬 디스크)의 파일을 /img/{키} 경로로 제공해 캐시 헤더를 직접 정함
+ * 키의 내용은 바뀌지 않으므로 immutable로 오래 캐시하도록 하고, ETag 조건부 요청에는 304로 응답
+ * 작은 이미지는 ImageObjectCache에 보관해 자주 조회되는 썸네일은 저장소 요청 없이 응답
+ */
+@Controller
+public class ImageProxyController {
+
+    /**
+     * 내용 기반 키 (images/{SHA-256}.{확장자}, 크기별 이미지는 images/{SHA-256}_w{너비}.{확장자})
+     */
+    private static final Pattern CONTENT_ADDRESSED_KEY = Pattern.compile("images/([0-9a-f]{64}(?:_w\\d+)?)\\.[A-Za-z0-9]+");
+
+    private final StorageBackend storageBackend;
+    private final ImageObjectCache imageObjectCache;
+    private final String cacheControl;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public ImageProxyController(
+            StorageBackend storageBackend,
+            ImageObjectCache imageObjectCache,
+            @Value("${image.proxy.max-age-seconds:31536000}") long maxAgeSeconds
+    ) {
+        this.storageBackend = storageBackend;
+        this.imageObjectCache = imageObjectCache;
+        this.cacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS)
+                .cachePublic()
+                .immutable()
+                .getHeaderValue();
+    }
+
+    @GetMapping(S3Service.IMAGE_PROXY_PATH + "/**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = urlPathHelper.getPathWithinApplication(request).substring(S3Service.IMAGE_PROXY_PATH.length() + 1);
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+
+        // 내용 기반 키는 키에 해시가 있으므로 저장소, 캐시를 조회하지 않고 조건부 요청 처리
+        String keyETag = contentAddressedETag(key);
+        if (keyETag != null && webRequest.checkNotModified(keyETag)) {
+            return;
+        }
+
+        ImageObjectCache.Entry cached = imageObjectCache.get(key);
+        if (cached != null) {
+            if (webRequest.checkNotModified(cached.getETag(), cached.getLastModified())) {
+                return;
+            }
+            write(request, response, cached.getContentType(), cached.getBody());
+            return;
+        }
+
+        StoredObject object = findObject(key);
+        if (object == null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        try (object) {
+            String etag = keyETag != null ? keyETag : object.getETag();
+            if (webRequest.checkNotModified(etag, object.getLastModified())) {
+                return;
+            }
+            String contentType = object.getContentType() != null
+                    ? object.getContentType()
+                    : MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+
+            // 작은 이미지는 한 번에 읽어 캐시에 보관
+            if (imageObjectCache.isCacheable(object.getContentLength())) {
+                byte[] body = object.getBody().readNBytes((int) object.getContentLength());
+                if (body.length == object.getContentLength()) {
+                    imageObjectCache.put(key, new ImageObjectCache.Entry(body, contentType, etag, object.getLastModified()));
+                }
+                write(request, response, contentType, body);
+                return;
+            }
+
+            // 큰 이미지는 저장소에서 받으면서 그대로 전송
+            response.setContentType(contentType);
+            if (object.getContentLength() >= 0) {
+                response.setContentLengthLong(object.getContentLength());
+            }
+            if (!"HEAD".equals(request.getMethod())) {
+                object.getBody().transferTo(response.getOutputStream());
+            }
+        }
+    }
+
+    /**
+     * 저장소에서 파일 조회 (없거나 잘못된 키면 null)
+     */
+    private StoredObject findObject(String key) throws IOException {
+        try {
+            return storageBackend.get(key);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 내용 기반 키면 키의 해시로 만든 ETag (아니면 null)
+     */
+    private String contentAddressedETag(String key) {
+        Matcher matcher = CONTENT_ADDRESSED_KEY.matcher(key);
+        return matcher.matches() ? "\"" + matcher.group(1) + "\"" : null;
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, String contentType, byte[] body) throws IOException {
+        response.setContentType(contentType);
+        response.setContentLength(body.length);
+        if (!"HEAD".equals(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.sunday.devfolio.controller.common;
+
+import io.github.sunday.devfolio.service.storage.LocalStorageBackend;
+import io.github.sunday.devfolio.service.storage.StorageBackend;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 로컬 디스크 저장소 파일 제공 Controller
+ * storage.backend가 local일 때만 등록되며, ETag/Last-Modified 조건부 요청과 단일 Range 요청을 지원
+ * 본문은 Tomcat sendfile을 지원하면 sendfile로, 아니면 FileChannel.transferTo로 복사 없이 전송
+ */
+@Controller
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalStorageController {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalStorageBackend storageBackend;
+    private final String baseUrl;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public LocalStorageController(
+            StorageBackend storageBackend,
+            @Value("${storage.local.base-url:/storage}") String baseUrl
+    ) {
+        this.storageBackend = (LocalStorageBackend) storageBackend;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @GetMapping("${storage.local.base-url:/storage}/**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = urlPathHelper.getPathWithinApplication(request).substring(baseUrl.length() + 1);
+        Path file = storageBackend.findFile(key);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 파일은 이름을 바꿔 한 번에 교체되므로 크기와 수정 시각으로 내용을 구분
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 단일 Range만 부분 응답 (여러 구간 요청, 바뀐 파일에 대한 If-Range는 전체 응답)
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) {
+                HttpRange httpRange = ranges.get(0);
+                try {
+                    start = httpRange.getRangeStart(length);
+                    end = httpRange.getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    start = length;
+                }
+                if (start >= length || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 후 Tomcat이 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) break;
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.sunday.devfolio.controller.common;
+
+import io.github.sunday.devfolio.dto.common.UnifiedSearchResponseDto;
+import io.github.sunday.devfolio.service.common.UnifiedSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 포트폴리오, 커뮤니티 게시글, 사용자 통합 검색 RestController
+ */
+@RestController
+@RequiredArgsConstructor
+public class SearchRestController {
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_SIZE = 20;
+
+    private final UnifiedSearchService unifiedSearchService;
+
+    /**
+     * 통합 검색 API
+     * 대상별로 size개까지 검색해 점수순으로 병합
+     * 제한 시간 안에 응답하지 못한 대상은 degradedSources에 담고 나머지 결과만 반환
+     */
+    @GetMapping("/api/search")
+    public ResponseEntity<UnifiedSearchResponseDto> search(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "5") int size
+    ) {
+        String query = q.length() > MAX_QUERY_LENGTH ? q.substring(0, MAX_QUERY_LENGTH) : q;
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        return ResponseEntity.ok(unifiedSearchService.search(query, limit));
+    }
+}
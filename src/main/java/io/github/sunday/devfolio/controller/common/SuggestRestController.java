@@ -0,0 +1,39 @@
+package io.github.sunday.devfolio.controller.common;
+
+import io.github.sunday.devfolio.dto.common.SuggestionDto;
+import io.github.sunday.devfolio.enums.common.SuggestType;
+import io.github.sunday.devfolio.service.common.SuggestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 검색어 자동완성 RestController
+ */
+@RestController
+@RequiredArgsConstructor
+public class SuggestRestController {
+    private static final int MAX_QUERY_LENGTH = 50;
+    private static final int MAX_LIMIT = 20;
+
+    private final SuggestService suggestService;
+
+    /**
+     * 자동완성 후보 조회 API
+     * 대상을 지정하지 않으면 포트폴리오, 카테고리, 게시글, 닉네임 전체에서 대상별로 limit 개씩 조회
+     */
+    @GetMapping("/api/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) List<SuggestType> types,
+            @RequestParam(defaultValue = "5") int limit
+    ) {
+        String query = q.length() > MAX_QUERY_LENGTH ? q.substring(0, MAX_QUERY_LENGTH) : q;
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return ResponseEntity.ok(suggestService.suggest(query, types, size));
+    }
+}
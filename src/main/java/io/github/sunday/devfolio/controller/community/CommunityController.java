@@ -3,11 +3,12 @@ package io.github.sunday.devfolio.controller.community;
 import io.github.sunday.devfolio.config.CustomUserDetails;
 import io.github.sunday.devfolio.dto.community.*;
 import io.github.sunday.devfolio.entity.table.community.Category;
+import io.github.sunday.devfolio.enums.community.CommunityCountMode;
 import io.github.sunday.devfolio.enums.community.CommunitySort;
 import io.github.sunday.devfolio.service.community.CommunityService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -26,19 +27,48 @@ public class CommunityController {
 
     private final CommunityService communityService;
 
+    /** 게시글 목록(/community)의 전체 개수 계산 방식 */
+    @Value("${community.paging.list-count-mode:CACHED}")
+    private CommunityCountMode listCountMode;
+
+    /** 검색 결과(/community/search)의 전체 개수 계산 방식 */
+    @Value("${community.paging.search-count-mode:CAPPED}")
+    private CommunityCountMode searchCountMode;
+
     /**
-     * 커뮤니티 게시글 목록 및 검색 결과를 모두 처리하는 통합 메소드.
-     * @GetMapping에 여러 경로를 지정하여 /community 와 /community/search 요청을
-     * 이 메소드 하나가 모두 처리하도록 합니다.
-     * URL이 바뀌지 않고 로직만 통일됩니다.
+     * 커뮤니티 게시글 목록을 표시합니다.
      */
-    @GetMapping({"", "/search"})
+    @GetMapping("")
     public String showPosts(
             @Valid @ModelAttribute("requestDto") CommunitySearchRequestDto requestDto,
             BindingResult bindingResult,
             Model model
     ) {
-        // (내부 로직은 searchPosts와 동일)
+        return renderPosts(requestDto, bindingResult, model, listCountMode);
+    }
+
+    /**
+     * 커뮤니티 게시글 검색 결과를 표시합니다.
+     * 목록과 같은 화면을 사용하고 전체 개수 계산 방식만 다르게 적용합니다.
+     */
+    @GetMapping("/search")
+    public String searchPosts(
+            @Valid @ModelAttribute("requestDto") CommunitySearchRequestDto requestDto,
+            BindingResult bindingResult,
+            Model model
+    ) {
+        return renderPosts(requestDto, bindingResult, model, searchCountMode);
+    }
+
+    /**
+     * 커뮤니티 게시글 목록 및 검색 결과를 모두 처리하는 통합 메소드.
+     */
+    private String renderPosts(
+            CommunitySearchRequestDto requestDto,
+            BindingResult bindingResult,
+            Model model,
+            CommunityCountMode countMode
+    ) {
         List<String> errorMessages = new ArrayList<>();
         if (bindingResult.hasErrors()) {
             errorMessages = bindingResult.getAllErrors()
@@ -48,9 +78,10 @@ public class CommunityController {
         }
 
         // 서비스의 searchPosts 메소드를 호출합니다. (이 메소드는 검색 조건이 없으면 전체를 조회합니다)
-        Page<PostListResponseDto> postPage = communityService.searchPosts(requestDto);
+        PostPageResponseDto postPageResponse = communityService.searchPosts(requestDto, countMode);
 
-        model.addAttribute("postPage", postPage);
+        model.addAttribute("postPage", postPageResponse.getPage());
+        model.addAttribute("totalLabel", postPageResponse.getTotalLabel());
         model.addAttribute("requestDto", requestDto);
         model.addAttribute("categories", Category.values());
         model.addAttribute("sortOptions", CommunitySort.values());
@@ -1,6 +1,8 @@
 package io.github.sunday.devfolio.controller.community;
 
 import io.github.sunday.devfolio.config.CustomUserDetails;
+import io.github.sunday.devfolio.dto.common.LikeStatusDto;
+import io.github.sunday.devfolio.dto.community.CommentSliceResponseDto;
 import io.github.sunday.devfolio.dto.community.CommentUpdateRequestDto;
 import io.github.sunday.devfolio.service.community.CommunityService;
 import jakarta.validation.Valid;
@@ -10,12 +12,44 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/community") // [중요] 경로를 /api/community로 변경하여 일반 요청과 분리
 @RequiredArgsConstructor
 public class CommunityRestController {
     private final CommunityService communityService;
 
+    /**
+     * 게시글의 최상위 댓글 목록을 커서 기준으로 조회하는 API.
+     *
+     * @param postId 게시글 ID
+     * @param after  이전 페이지의 마지막 댓글 ID (첫 페이지면 생략)
+     * @param size   페이지 크기 (1~50)
+     * @return 댓글 목록과 다음 페이지 커서
+     */
+    @GetMapping("/posts/{postId}/comments")
+    public ResponseEntity<CommentSliceResponseDto> getComments(@PathVariable Long postId,
+                                                               @RequestParam(required = false) Long after,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(communityService.getComments(postId, after, clampSize(size)));
+    }
+
+    /**
+     * 댓글의 답글 목록을 커서 기준으로 조회하는 API.
+     *
+     * @param commentId 부모 댓글 ID
+     * @param after     이전 페이지의 마지막 댓글 ID (첫 페이지면 생략)
+     * @param size      페이지 크기 (1~50)
+     * @return 답글 목록과 다음 페이지 커서
+     */
+    @GetMapping("/comments/{commentId}/replies")
+    public ResponseEntity<CommentSliceResponseDto> getReplies(@PathVariable Long commentId,
+                                                              @RequestParam(required = false) Long after,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(communityService.getReplies(commentId, after, clampSize(size)));
+    }
+
     /**
      * 댓글 수정을 처리하는 API.
      *
@@ -42,19 +76,73 @@ public class CommunityRestController {
      *
      * @param commentId         삭제할 댓글의 ID
      * @param customUserDetails 현재 인증된 사용자 정보
-     * @return 성공 시 HTTP 200 OK, 실패 시 에러 응답
+     * @return 성공 시 삭제된 댓글 수(답글 포함), 실패 시 에러 응답
      */
     @DeleteMapping("/comments/{commentId}")
-    public ResponseEntity<String> deleteComment(@PathVariable Long commentId,
-                                                @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+    public ResponseEntity<?> deleteComment(@PathVariable Long commentId,
+                                           @AuthenticationPrincipal CustomUserDetails customUserDetails) {
         if (customUserDetails == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
         }
         try {
-            communityService.deleteComment(commentId, customUserDetails.getUser().getUserIdx());
-            return ResponseEntity.ok("댓글이 성공적으로 삭제되었습니다.");
+            long deletedCount = communityService.deleteComment(commentId, customUserDetails.getUser().getUserIdx());
+            return ResponseEntity.ok(Map.of(
+                    "message", "댓글이 성공적으로 삭제되었습니다.",
+                    "deletedCount", deletedCount
+            ));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
         }
     }
+
+    /**
+     * 게시글 좋아요 추가 API.
+     * 여러 번 요청해도 결과가 같습니다.
+     *
+     * @param postId            좋아요를 누를 게시글의 ID
+     * @param customUserDetails 현재 인증된 사용자 정보
+     * @return 성공 시 처리 후 좋아요 상태와 좋아요 수, 실패 시 에러 응답
+     */
+    @PutMapping("/posts/{postId}/like")
+    public ResponseEntity<?> likePost(@PathVariable Long postId,
+                                      @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        if (customUserDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            LikeStatusDto likeStatus = communityService.like(postId, customUserDetails.getUser().getUserIdx());
+            return ResponseEntity.ok(likeStatus);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 좋아요 취소 API.
+     * 여러 번 요청해도 결과가 같습니다.
+     *
+     * @param postId            좋아요를 취소할 게시글의 ID
+     * @param customUserDetails 현재 인증된 사용자 정보
+     * @return 성공 시 처리 후 좋아요 상태와 좋아요 수, 실패 시 에러 응답
+     */
+    @DeleteMapping("/posts/{postId}/like")
+    public ResponseEntity<?> unlikePost(@PathVariable Long postId,
+                                        @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        if (customUserDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            LikeStatusDto likeStatus = communityService.unlike(postId, customUserDetails.getUser().getUserIdx());
+            return ResponseEntity.ok(likeStatus);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 댓글 페이지 크기를 1~50 범위로 제한합니다.
+     */
+    private int clampSize(int size) {
+        return Math.max(1, Math.min(size, 50));
+    }
 }
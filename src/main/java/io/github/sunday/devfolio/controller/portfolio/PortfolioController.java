@@ -4,6 +4,7 @@ import io.github.sunday.devfolio.config.CustomUserDetails;
 import io.github.sunday.devfolio.dto.portfolio.*;
 import io.github.sunday.devfolio.enums.portfolio.PortfolioSort;
 import io.github.sunday.devfolio.service.portfolio.PortfolioCategoryService;
+import io.github.sunday.devfolio.service.portfolio.PortfolioLeaderboardService;
 import io.github.sunday.devfolio.service.portfolio.PortfolioLikeService;
 import io.github.sunday.devfolio.service.portfolio.PortfolioService;
 import jakarta.validation.Valid;
@@ -28,10 +29,13 @@ public class PortfolioController {
     private final PortfolioService portfolioService;
     private final PortfolioCategoryService portfolioCategoryService;
     private final PortfolioLikeService portfolioLikeService;
+    private final PortfolioLeaderboardService portfolioLeaderboardService;
 
     /**
      * 포트폴리오 메인 페이지 출력
      * 포트폴리오 검색, 핫한 포트폴리오 제공
+     * 첫 페이지는 커서 기반으로 조회해 무한 스크롤에 다음 커서를 전달하고,
+     * page 파라미터로 이후 페이지를 직접 요청하면 page 기반으로 조회
      */
     @GetMapping()
     public String list(
@@ -48,14 +52,20 @@ public class PortfolioController {
                     .toList();
         }
 
-        List<PortfolioListDto> list = portfolioService.search(requestDto);
-
-        boolean isHot = true;
-        List<PortfolioListDto> hotList = portfolioService.getHotPortfolios();
-        if (hotList.isEmpty()) {
-            hotList = portfolioService.getPopularPortfolios();
-            isHot = false;
+        List<PortfolioListDto> list;
+        if (requestDto.getPage() == 0 && !bindingResult.hasErrors()) {
+            requestDto.setCursor(null);
+            PortfolioCursorPageDto cursorPage = portfolioService.searchByCursor(requestDto);
+            list = cursorPage.getContent();
+            model.addAttribute("nextCursor", cursorPage.getNextCursor());
+        } else {
+            list = portfolioService.search(requestDto);
         }
+
+        // 미리 계산된 핫한(없으면 인기) 포트폴리오 목록
+        PortfolioLeaderboardService.Snapshot leaderboard = portfolioLeaderboardService.getSnapshot();
+        List<PortfolioListDto> hotList = leaderboard.getPortfolios();
+        boolean isHot = leaderboard.isHot();
         List<PortfolioCategoryDto> categoryList = portfolioCategoryService.getCachedCategories();
 
         model.addAttribute("hotPortfolios", hotList);
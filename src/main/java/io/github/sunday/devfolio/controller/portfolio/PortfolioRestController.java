@@ -1,6 +1,8 @@
 package io.github.sunday.devfolio.controller.portfolio;
 
 import io.github.sunday.devfolio.config.CustomUserDetails;
+import io.github.sunday.devfolio.dto.common.LikeStatusDto;
+import io.github.sunday.devfolio.dto.portfolio.PortfolioCursorPageDto;
 import io.github.sunday.devfolio.dto.portfolio.PortfolioListDto;
 import io.github.sunday.devfolio.dto.portfolio.PortfolioSearchRequestDto;
 import io.github.sunday.devfolio.service.portfolio.PortfolioLikeService;
@@ -31,6 +33,7 @@ public class PortfolioRestController {
     /**
      * 포트폴리오 목록 출력 API
      * 무한 스크롤에 적용되는 정보 요청 API
+     * cursor 파라미터가 있으면 커서 기반 응답, 없으면 page 기반 목록 응답
      */
     @GetMapping("/list")
     public ResponseEntity<?> list(
@@ -43,6 +46,15 @@ public class PortfolioRestController {
             return ResponseEntity.badRequest().body(fieldErrors);
         }
 
+        if (requestDto.getCursor() != null) {
+            try {
+                PortfolioCursorPageDto cursorPage = portfolioService.searchByCursor(requestDto);
+                return ResponseEntity.ok().body(cursorPage);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("cursor", e.getMessage()));
+            }
+        }
+
         List<PortfolioListDto> list = portfolioService.search(requestDto);
         return ResponseEntity.ok().body(list);
     }
@@ -75,9 +87,10 @@ public class PortfolioRestController {
 
     /**
      * 포트폴리오 좋아요 추가
+     * 여러 번 요청해도 결과가 같으며 처리 후 좋아요 상태와 좋아요 수 반환
      */
-    @PostMapping("/{id}/add-like")
-    public ResponseEntity<?> addLike(
+    @PutMapping("/{id}/like")
+    public ResponseEntity<?> like(
             @PathVariable Long id,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
@@ -89,10 +102,8 @@ public class PortfolioRestController {
             }
 
             Long userIdx = userDetails.getUser().getUserIdx();
-            portfolioLikeService.addLike(id, userIdx);
-
-            responseData.put("message", "성공적으로 추가했습니다");
-            return ResponseEntity.ok().body(responseData);
+            LikeStatusDto likeStatus = portfolioLikeService.like(id, userIdx);
+            return ResponseEntity.ok().body(likeStatus);
         } catch (Exception e) {
             responseData.put("message", "좋아요 등록에 실패했습니다.");
             e.printStackTrace();
@@ -102,23 +113,23 @@ public class PortfolioRestController {
 
     /**
      * 포트폴리오 좋아요 제거
+     * 여러 번 요청해도 결과가 같으며 처리 후 좋아요 상태와 좋아요 수 반환
      */
-    @PostMapping("/{id}/remove-like")
-    public ResponseEntity<?> removeLike(
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<?> unlike(
             @PathVariable Long id,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Map<String, Object> responseData = new HashMap<>();
         try {
+            // Todo : 로그인 필요 예외처리
             if (userDetails == null || userDetails.getUser() == null) {
                 throw new Exception("사용자가 없습니다");
             }
-            // Todo : 로그인 필요 예외처리
-            Long userIdx = userDetails.getUser().getUserIdx();
-            portfolioLikeService.removeLike(id, userIdx);
 
-            responseData.put("message", "성공적으로 제거했습니다");
-            return ResponseEntity.ok().body(responseData);
+            Long userIdx = userDetails.getUser().getUserIdx();
+            LikeStatusDto likeStatus = portfolioLikeService.unlike(id, userIdx);
+            return ResponseEntity.ok().body(likeStatus);
         } catch (Exception e) {
             responseData.put("message", "좋아요 제거에 실패했습니다.");
             e.printStackTrace();
@@ -13,7 +13,13 @@ import java.util.Objects;
  * <p>자기 자신을 부모로 지정해 다단계 답글 구조를 지원합니다.</p>
  */
 @Entity
-@Table(name = "community_comments")
+@Table(
+        name = "community_comments",
+        indexes = {
+                @Index(name = "idx_community_comments_post_parent", columnList = "post_idx, parent_idx, comment_idx"),
+                @Index(name = "idx_community_comments_parent", columnList = "parent_idx, comment_idx")
+        }
+)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class CommunityComment {
@@ -12,7 +12,10 @@ import java.util.Objects;
  * 사용자가 게시글에 '좋아요'를 남긴 기록을 나타내는 엔티티입니다.
  */
 @Entity
-@Table(name = "community_likes")
+@Table(
+        name = "community_likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_community_likes_user_post", columnNames = {"user_idx", "post_idx"})
+)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class CommunityLike {
@@ -1,6 +1,7 @@
 package io.github.sunday.devfolio.entity.table.community;
 
 import io.github.sunday.devfolio.entity.table.user.User;
+import io.github.sunday.devfolio.utils.HtmlTextUtils;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
@@ -41,23 +42,27 @@ public class CommunityPost {
     @Column(name = "content", columnDefinition = "TEXT", nullable = false)
     private String content;
 
+    /** 목록용 본문 요약 (태그를 제거한 일반 텍스트, 저장 시 생성) */
+    @Column(name = "excerpt", length = 200)
+    private String excerpt;
+
     /** 게시글 상태 (기본값: ACTIVE) */
     @Column(name = "status", length = 20, nullable = false)
     @ColumnDefault("'ACTIVE'")
     private String status;
 
-    /** 조회수 */
-    @Column(name = "views", nullable = false)
+    /** 조회수 (ViewCountService의 배치 UPDATE로만 증가하므로 엔티티 수정 시에는 반영하지 않음) */
+    @Column(name = "views", nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer views;
 
-    /** 좋아요 수 */
-    @Column(name = "like_count", nullable = false)
+    /** 좋아요 수 (좋아요 추가/제거 쿼리에서만 증감하므로 엔티티 수정 시에는 반영하지 않음) */
+    @Column(name = "like_count", nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer likeCount;
 
-    /** 댓글 수 */
-    @Column(name = "comment_count", nullable = false)
+    /** 댓글 수 (댓글 작성/삭제 쿼리에서만 증감하므로 엔티티 수정 시에는 반영하지 않음) */
+    @Column(name = "comment_count", nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer commentCount = 0;
 
@@ -88,11 +93,13 @@ public class CommunityPost {
     @PrePersist
     protected void onCreate() {
         this.createdAt = ZonedDateTime.now();
+        this.excerpt = HtmlTextUtils.toExcerpt(this.content);
     }
 
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = ZonedDateTime.now();
+        this.excerpt = HtmlTextUtils.toExcerpt(this.content);
     }
 
     /**
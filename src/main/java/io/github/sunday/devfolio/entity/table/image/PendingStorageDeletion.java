@@ -0,0 +1,79 @@
+package io.github.sunday.devfolio.entity.table.image;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+/**
+ * 저장소 삭제에 실패한 파일 엔티티 클래스입니다.
+ * <p>
+ * 이미지 행은 트랜잭션 안에서 삭제되고 저장소 파일은 커밋 후 삭제되므로,
+ * 삭제에 실패한 키를 기록해 두었다가 주기적으로 다시 삭제합니다.
+ * </p>
+ */
+@Entity
+@Table(
+        name = "pending_storage_deletions",
+        indexes = @Index(name = "idx_pending_storage_deletions_created_at", columnList = "created_at")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingStorageDeletion {
+
+    /**
+     * 저장소 키 (PK)
+     */
+    @Id
+    @Column(name = "s3_key", length = 512, nullable = false)
+    private String s3Key;
+
+    /**
+     * 삭제 시도 횟수
+     */
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * 처음 실패한 일시
+     */
+    @Column(name = "created_at")
+    private ZonedDateTime createdAt;
+
+    /**
+     * 엔티티가 저장되기 전 자동으로 생성일을 설정합니다.
+     */
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = ZonedDateTime.now();
+    }
+
+    /**
+     * 객체의 동등성 비교를 위한 equals 메서드
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PendingStorageDeletion pendingStorageDeletion = (PendingStorageDeletion) o;
+        return Objects.equals(s3Key, pendingStorageDeletion.s3Key);
+    }
+
+    /**
+     * 객체의 해시 코드를 반환하는 메서드
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(s3Key);
+    }
+}
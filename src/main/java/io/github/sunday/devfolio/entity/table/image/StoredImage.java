@@ -0,0 +1,123 @@
+package io.github.sunday.devfolio.entity.table.image;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+/**
+ * 내용 기반 키로 저장된 이미지 색인 엔티티 클래스입니다.
+ * <p>
+ * 저장된 이미지 바이트의 SHA-256 값을 키로 사용해 같은 이미지를 한 번만 저장하고,
+ * 이 이미지를 사용하는 곳의 수(참조 수)가 0이 될 때 저장소에서 삭제합니다.
+ * </p>
+ */
+@Entity
+@Table(
+        name = "stored_images",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stored_images_s3_key", columnNames = "s3_key"),
+        indexes = @Index(name = "idx_stored_images_source_hash", columnList = "source_hash")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredImage {
+
+    /**
+     * 저장된 이미지 바이트의 SHA-256 (PK)
+     */
+    @Id
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;
+
+    /**
+     * 업로드 원본 바이트와 처리 조건(크기별 이미지 너비)의 SHA-256
+     * 같은 원본이 다시 업로드되면 디코딩, 축소, 인코딩, 업로드를 모두 건너뜀
+     */
+    @Column(name = "source_hash", length = 64)
+    private String sourceHash;
+
+    /**
+     * 저장소 키
+     */
+    @Column(name = "s3_key", length = 512, nullable = false)
+    private String s3Key;
+
+    /**
+     * 저장 형식
+     */
+    @Column(name = "content_type", length = 50, nullable = false)
+    private String contentType;
+
+    /**
+     * 파일 크기
+     */
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    /**
+     * 이미지 너비
+     */
+    @Column(name = "width")
+    private Integer width;
+
+    /**
+     * 이미지 높이
+     */
+    @Column(name = "height")
+    private Integer height;
+
+    /**
+     * 크기별 이미지 너비 목록 (쉼표로 구분)
+     */
+    @Column(name = "variant_widths", length = 50)
+    private String variantWidths;
+
+    /**
+     * 로딩 중 표시할 미리보기 이미지 (data URI)
+     */
+    @Column(name = "placeholder", columnDefinition = "TEXT")
+    private String placeholder;
+
+    /**
+     * 참조 수
+     */
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    /**
+     * 생성일
+     */
+    @Column(name = "created_at")
+    private ZonedDateTime createdAt;
+
+    /**
+     * 엔티티가 저장되기 전 자동으로 생성일을 설정합니다.
+     */
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = ZonedDateTime.now();
+    }
+
+    /**
+     * 객체의 동등성 비교를 위한 equals 메서드
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StoredImage storedImage = (StoredImage) o;
+        return Objects.equals(contentHash, storedImage.contentHash);
+    }
+
+    /**
+     * 객체의 해시 코드를 반환하는 메서드
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(contentHash);
+    }
+}
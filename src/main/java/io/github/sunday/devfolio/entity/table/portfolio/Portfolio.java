@@ -72,15 +72,17 @@ public class Portfolio {
 
     /**
      * 포트폴리오 조회수
+     * ViewCountService의 배치 UPDATE로만 증가하므로 엔티티 수정 시에는 반영하지 않음
      */
-    @Column(name = "views", nullable = false)
+    @Column(name = "views", nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer views;
 
     /**
      * 포트폴리오 좋아요 수
+     * PortfolioLikeService의 좋아요 추가/제거 쿼리에서만 증감하므로 엔티티 수정 시에는 반영하지 않음
      */
-    @Column(name = "like_count", nullable = false)
+    @Column(name = "like_count", nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer likeCount;
 
@@ -114,7 +116,10 @@ public class Portfolio {
     )
     private String searchVector;
 
-    @ManyToOne
+    /**
+     * 포트폴리오 작성자
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_idx", nullable = false)
     private User user;
 
@@ -12,6 +12,7 @@ import java.util.Objects;
  * <ul>
  *     <li>포트폴리오와 카테고리 간의 매핑 관계 관리</li>
  *     <li>중복 매핑 방지를 위한 유니크 제약 조건</li>
+ *     <li>카테고리 필터링(EXISTS)을 위한 카테고리, 포트폴리오 복합 인덱스</li>
  *     <li>매핑 관계의 식별자 관리</li>
  * </ul>
  * </p>
@@ -27,7 +28,8 @@ import java.util.Objects;
 @Entity
 @Table(
     name = "portfolio_category_map",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"portfolio_idx", "category_idx"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"portfolio_idx", "category_idx"}),
+    indexes = @Index(name = "idx_portfolio_category_map_category_portfolio", columnList = "category_idx, portfolio_idx")
 )
 @Getter
 @Setter
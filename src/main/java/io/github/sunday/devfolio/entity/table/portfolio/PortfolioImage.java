@@ -70,6 +70,31 @@ public class PortfolioImage {
     @ColumnDefault("false")
     private Boolean isThumbnail;
 
+    /**
+     * 저장된 이미지 너비
+     */
+    @Column(name = "width")
+    private Integer width;
+
+    /**
+     * 저장된 이미지 높이
+     */
+    @Column(name = "height")
+    private Integer height;
+
+    /**
+     * 크기별 이미지 너비 목록 (쉼표로 구분, 예: "320,640,1280")
+     * 각 이미지는 ImageVariantUtils.variantKey로 만든 키에 저장
+     */
+    @Column(name = "variant_widths", length = 50)
+    private String variantWidths;
+
+    /**
+     * 로딩 중 표시할 미리보기 이미지 (data URI)
+     */
+    @Column(name = "placeholder", columnDefinition = "TEXT")
+    private String placeholder;
+
     /**
      * 생성일
      */
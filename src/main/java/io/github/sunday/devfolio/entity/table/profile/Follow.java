@@ -11,7 +11,11 @@ import java.util.Objects;
  * 사용자 간 팔로우(Follow) 관계를 나타내는 엔티티입니다.
  */
 @Entity
-@Table(name = "follows")
+@Table(
+        name = "follows",
+        uniqueConstraints = @UniqueConstraint(name = "uk_follows_follower_followed", columnNames = {"follower_idx", "followed_idx"}),
+        indexes = @Index(name = "idx_follows_followed", columnList = "followed_idx")
+)
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Follow {
     /** 팔로우 관계 고유 식별자 (PK) */
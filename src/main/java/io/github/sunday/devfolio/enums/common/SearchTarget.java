@@ -0,0 +1,16 @@
+package io.github.sunday.devfolio.enums.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 결과 캐시 대상 ENUM
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SearchTarget {
+    PORTFOLIO("portfolio"),
+    COMMUNITY("community");
+
+    private final String targetName;
+}
@@ -0,0 +1,18 @@
+package io.github.sunday.devfolio.enums.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자동완성 대상 ENUM
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SuggestType {
+    PORTFOLIO("portfolio"),
+    PORTFOLIO_CATEGORY("category"),
+    COMMUNITY("community"),
+    USER("user");
+
+    private final String typeName;
+}
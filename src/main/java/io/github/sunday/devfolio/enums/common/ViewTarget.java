@@ -0,0 +1,19 @@
+package io.github.sunday.devfolio.enums.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회수 집계 대상 ENUM
+ * 조회수를 반영할 테이블과 식별자 컬럼
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ViewTarget {
+    PORTFOLIO("portfolio", "portfolios", "portfolio_idx"),
+    COMMUNITY("community", "community_posts", "post_idx");
+
+    private final String targetName;
+    private final String tableName;
+    private final String idColumn;
+}
@@ -0,0 +1,24 @@
+package io.github.sunday.devfolio.enums.community;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커뮤니티 게시글 목록의 전체 개수 계산 방식을 설정한 ENUM
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CommunityCountMode {
+    /**
+     * 매 요청 정확한 개수 계산
+     * 첫 페이지에서만 정확한 개수를 계산하고 같은 검색 조건의 다음 페이지는 캐시 사용
+     * 개수 계산 없이 다음 페이지 존재 여부만 확인
+     * 최대 개수까지만 계산하고 초과하면 "최대 개수+"로 표시
+     */
+    EXACT("정확한 개수"),
+    CACHED("첫 페이지 개수 캐시"),
+    SLICE("다음 페이지 여부만 확인"),
+    CAPPED("최대 개수까지만 계산");
+
+    private final String nameKo;
+}
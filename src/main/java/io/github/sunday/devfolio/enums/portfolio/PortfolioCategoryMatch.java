@@ -0,0 +1,19 @@
+package io.github.sunday.devfolio.enums.portfolio;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 카테고리로 포트폴리오를 필터링할 때의 결합 방식을 설정한 ENUM
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PortfolioCategoryMatch {
+    /**
+     * 카테고리 중 하나라도 포함(OR), 카테고리를 모두 포함(AND)
+     */
+    ANY("하나라도 포함"),
+    ALL("모두 포함");
+
+    private final String nameKo;
+}
@@ -0,0 +1,12 @@
+package io.github.sunday.devfolio.exception.common;
+
+import java.io.IOException;
+
+/**
+ * 이미지 처리 자원이 부족해 요청을 처리할 수 없을 때 사용하는 예외
+ */
+public class ImageBusyException extends IOException {
+    public ImageBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.sunday.devfolio.exception.common;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여러 파일을 한 번에 처리(삭제, 태그 변경)할 때 일부 파일이 실패한 경우 사용하는 예외
+ */
+@Getter
+public class StorageBatchException extends RuntimeException {
+    /**
+     * 처리에 실패한 키
+     */
+    private final List<String> failedKeys;
+
+    public StorageBatchException(String message, List<String> failedKeys) {
+        super(message + ": " + String.join(", ", failedKeys));
+        this.failedKeys = failedKeys;
+    }
+}
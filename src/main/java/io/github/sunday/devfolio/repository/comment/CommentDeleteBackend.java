@@ -0,0 +1,19 @@
+package io.github.sunday.devfolio.repository.comment;
+
+/**
+ * 커뮤니티 댓글 서브트리 삭제 방식
+ * 댓글과 모든 자손 댓글을 삭제하고 게시글의 댓글 수를 삭제한 개수만큼 감소 (0 미만으로 내려가지 않음)
+ * PostgreSQL이면 재귀 CTE로 한 번의 왕복으로 처리하는 네이티브 쿼리, 그 외 DB면 JPQL 구현을 사용 (CommentDeleteBackendConfig)
+ * 호출하는 쪽의 트랜잭션 안에서 실행
+ */
+public interface CommentDeleteBackend {
+
+    /**
+     * 댓글 서브트리 삭제
+     *
+     * @param commentIdx 삭제할 댓글 IDX
+     * @param postIdx    댓글이 속한 게시글 IDX
+     * @return 삭제된 댓글 수 (본인 포함)
+     */
+    long deleteSubtree(Long commentIdx, Long postIdx);
+}
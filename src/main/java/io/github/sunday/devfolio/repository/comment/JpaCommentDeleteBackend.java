@@ -0,0 +1,63 @@
+package io.github.sunday.devfolio.repository.comment;
+
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.github.sunday.devfolio.entity.table.community.QCommunityComment;
+import io.github.sunday.devfolio.entity.table.community.QCommunityPost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPQL 댓글 서브트리 삭제 방식
+ * PostgreSQL 전용 쿼리를 사용할 수 없는 DB(H2 등)에서 사용
+ * 부모 IDX로 자식 댓글을 깊이별로 한 번씩 조회해 서브트리를 구하고,
+ * 외래 키(parent_idx)를 위반하지 않도록 가장 깊은 댓글부터 깊이별로 삭제한 뒤 댓글 수 감소
+ */
+public class JpaCommentDeleteBackend implements CommentDeleteBackend {
+    private final JPAQueryFactory queryFactory;
+
+    public JpaCommentDeleteBackend(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    @Override
+    public long deleteSubtree(Long commentIdx, Long postIdx) {
+        QCommunityComment comment = QCommunityComment.communityComment;
+
+        // 깊이별 댓글 IDX 목록
+        List<List<Long>> levels = new ArrayList<>();
+        List<Long> level = List.of(commentIdx);
+        while (!level.isEmpty()) {
+            levels.add(level);
+            level = queryFactory.select(comment.commentIdx)
+                    .from(comment)
+                    .where(comment.parent.commentIdx.in(level))
+                    .fetch();
+        }
+
+        long deleted = 0;
+        for (int i = levels.size() - 1; i >= 0; i--) {
+            deleted += queryFactory.delete(comment)
+                    .where(comment.commentIdx.in(levels.get(i)))
+                    .execute();
+        }
+        if (deleted > 0) {
+            decrementCommentCount(postIdx, (int) deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * 게시글 댓글 수 감소 (0 미만으로 내려가지 않음)
+     */
+    private void decrementCommentCount(Long postIdx, int count) {
+        QCommunityPost communityPost = QCommunityPost.communityPost;
+        queryFactory.update(communityPost)
+                .set(communityPost.commentCount, new CaseBuilder()
+                        .when(communityPost.commentCount.gt(count)).then(communityPost.commentCount.subtract(count))
+                        .otherwise(0))
+                .where(communityPost.postIdx.eq(postIdx))
+                .execute();
+    }
+}
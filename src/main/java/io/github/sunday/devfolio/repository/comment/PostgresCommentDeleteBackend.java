@@ -0,0 +1,20 @@
+package io.github.sunday.devfolio.repository.comment;
+
+import io.github.sunday.devfolio.repository.community.CommunityCommentRepository;
+
+/**
+ * PostgreSQL 댓글 서브트리 삭제 방식
+ * 재귀 CTE, DELETE ... RETURNING과 댓글 수 감소를 하나의 쿼리로 처리
+ */
+public class PostgresCommentDeleteBackend implements CommentDeleteBackend {
+    private final CommunityCommentRepository communityCommentRepository;
+
+    public PostgresCommentDeleteBackend(CommunityCommentRepository communityCommentRepository) {
+        this.communityCommentRepository = communityCommentRepository;
+    }
+
+    @Override
+    public long deleteSubtree(Long commentIdx, Long postIdx) {
+        return communityCommentRepository.deleteSubtreeAndDecrementCount(commentIdx, postIdx);
+    }
+}
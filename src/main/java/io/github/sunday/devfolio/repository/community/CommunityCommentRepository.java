@@ -1,8 +1,13 @@
 package io.github.sunday.devfolio.repository.community;
 
+import io.github.sunday.devfolio.dto.community.CommentResponseDto;
 import io.github.sunday.devfolio.entity.table.community.CommunityComment;
 import io.github.sunday.devfolio.entity.table.community.CommunityPost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,4 +17,73 @@ import java.util.List;
 public interface CommunityCommentRepository extends JpaRepository<CommunityComment, Long> {
     List<CommunityComment> findAllByPost(CommunityPost post);
     long countByPostPostIdx(Long postId);
-}
\ No newline at end of file
+
+    /**
+     * 게시글의 최상위 댓글을 커서(마지막 댓글 IDX) 이후부터 작성 순으로 조회합니다.
+     * 작성자는 조인해서 함께 조회하고, 답글은 개수만 조회합니다.
+     */
+    @Query("""
+            select new io.github.sunday.devfolio.dto.community.CommentResponseDto(
+                c.commentIdx, c.content, u.nickname, u.profileImg, c.createdAt, u.userIdx,
+                (select count(r) from CommunityComment r where r.parent = c)
+            )
+            from CommunityComment c
+            join c.user u
+            where c.post.postIdx = :postIdx
+              and c.parent is null
+              and c.commentIdx > :after
+            order by c.commentIdx asc
+            """)
+    List<CommentResponseDto> findTopLevelComments(
+            @Param("postIdx") Long postIdx,
+            @Param("after") Long after,
+            Pageable pageable
+    );
+
+    /**
+     * 부모 댓글의 답글을 커서(마지막 댓글 IDX) 이후부터 작성 순으로 조회합니다.
+     */
+    @Query("""
+            select new io.github.sunday.devfolio.dto.community.CommentResponseDto(
+                c.commentIdx, c.content, u.nickname, u.profileImg, c.createdAt, u.userIdx,
+                (select count(r) from CommunityComment r where r.parent = c)
+            )
+            from CommunityComment c
+            join c.user u
+            where c.parent.commentIdx = :parentIdx
+              and c.commentIdx > :after
+            order by c.commentIdx asc
+            """)
+    List<CommentResponseDto> findReplies(
+            @Param("parentIdx") Long parentIdx,
+            @Param("after") Long after,
+            Pageable pageable
+    );
+
+    /**
+     * 댓글과 모든 자손 댓글을 한 번에 삭제하고 게시글의 댓글 수를 삭제한 개수만큼 감소시킵니다.
+     * 재귀 CTE로 서브트리를 구한 뒤 하나의 DELETE로 삭제하므로 트리 깊이, 크기와 관계없이 한 번의 왕복으로 처리됩니다.
+     * PostgreSQL 전용입니다 (PostgresCommentDeleteBackend).
+     *
+     * @return 삭제된 댓글 수 (본인 포함)
+     */
+    @Query(value = """
+            WITH RECURSIVE subtree AS (
+                SELECT comment_idx FROM community_comments WHERE comment_idx = :commentIdx
+                UNION ALL
+                SELECT c.comment_idx FROM community_comments c
+                JOIN subtree s ON c.parent_idx = s.comment_idx
+            ), del AS (
+                DELETE FROM community_comments
+                WHERE comment_idx IN (SELECT comment_idx FROM subtree)
+                RETURNING comment_idx
+            ), upd AS (
+                UPDATE community_posts
+                SET comment_count = GREATEST(comment_count - (SELECT count(*) FROM del), 0)
+                WHERE post_idx = :postIdx
+                RETURNING comment_count
+            )
+            SELECT count(*) FROM del
+            """, nativeQuery = true)
+    long deleteSubtreeAndDecrementCount(@Param("commentIdx") Long commentIdx, @Param("postIdx") Long postIdx);
+}
@@ -4,7 +4,11 @@ import io.github.sunday.devfolio.entity.table.community.CommunityLike;
 import io.github.sunday.devfolio.entity.table.community.CommunityPost;
 import io.github.sunday.devfolio.entity.table.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +25,68 @@ public interface CommunityLikeRepository extends JpaRepository<CommunityLike, Lo
 
     // 특정 사용자가 특정 게시글 좋아요 삭제
     void deleteByUserAndPost(User user, CommunityPost post);
-}
\ No newline at end of file
+
+    // 사용자 IDX와 게시글 IDX로 좋아요 여부 확인
+    boolean existsByUser_UserIdxAndPost_PostIdx(Long userIdx, Long postIdx);
+
+    /**
+     * 좋아요 추가 후 좋아요 수 반환
+     * (user_idx, post_idx) 유니크 제약으로 중복 등록을 막고,
+     * 실제로 행이 추가된 경우에만 like_count를 증가
+     * PostgreSQL 전용 (PostgresLikeBackend)
+     */
+    @Query(value = """
+            WITH ins AS (
+                INSERT INTO community_likes (user_idx, post_idx, liked_at)
+                VALUES (:userIdx, :postIdx, now())
+                ON CONFLICT (user_idx, post_idx) DO NOTHING
+                RETURNING 1
+            ), upd AS (
+                UPDATE community_posts SET like_count = like_count + 1
+                WHERE post_idx = :postIdx AND EXISTS (SELECT 1 FROM ins)
+                RETURNING like_count
+            )
+            SELECT COALESCE(
+                (SELECT like_count FROM upd),
+                (SELECT like_count FROM community_posts WHERE post_idx = :postIdx)
+            )
+            """, nativeQuery = true)
+    Integer insertLikeAndCount(@Param("userIdx") Long userIdx, @Param("postIdx") Long postIdx);
+
+    /**
+     * 좋아요 제거 후 좋아요 수 반환
+     * 실제로 행이 삭제된 경우에만 like_count를 감소
+     * PostgreSQL 전용 (PostgresLikeBackend)
+     */
+    @Query(value = """
+            WITH del AS (
+                DELETE FROM community_likes
+                WHERE user_idx = :userIdx AND post_idx = :postIdx
+                RETURNING 1
+            ), upd AS (
+                UPDATE community_posts SET like_count = GREATEST(like_count - 1, 0)
+                WHERE post_idx = :postIdx AND EXISTS (SELECT 1 FROM del)
+                RETURNING like_count
+            )
+            SELECT COALESCE(
+                (SELECT like_count FROM upd),
+                (SELECT like_count FROM community_posts WHERE post_idx = :postIdx)
+            )
+            """, nativeQuery = true)
+    Integer deleteLikeAndCount(@Param("userIdx") Long userIdx, @Param("postIdx") Long postIdx);
+
+    /**
+     * 좋아요하지 않은 상태일 때만 좋아요 추가 (PostgreSQL 외 DB용, JpaLikeBackend)
+     *
+     * @return 추가된 행 수 (이미 좋아요한 상태거나 사용자, 게시글이 없으면 0)
+     */
+    @Modifying
+    @Query("""
+            insert into CommunityLike (user, post, likedAt)
+            select u, p, :likedAt from User u, CommunityPost p
+            where u.userIdx = :userIdx and p.postIdx = :postIdx
+              and not exists (select 1 from CommunityLike l where l.user = u and l.post = p)
+            """)
+    int insertLikeIfAbsent(@Param("userIdx") Long userIdx, @Param("postIdx") Long postIdx,
+                           @Param("likedAt") ZonedDateTime likedAt);
+}
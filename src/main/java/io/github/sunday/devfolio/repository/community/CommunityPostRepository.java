@@ -1,14 +1,16 @@
 package io.github.sunday.devfolio.repository.community;
 
-import io.github.sunday.devfolio.dto.community.PostListResponseDto;
+import io.github.sunday.devfolio.dto.common.SuggestionDto;
 import io.github.sunday.devfolio.entity.table.community.CommunityPost;
-import io.github.sunday.devfolio.entity.table.portfolio.Portfolio;
 import io.github.sunday.devfolio.entity.table.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -21,4 +23,31 @@ import java.util.List;
 public interface CommunityPostRepository extends JpaRepository<CommunityPost, Long>, JpaSpecificationExecutor<CommunityPost> {
 
     List<CommunityPost> findAllByUser(User target);
-}
\ No newline at end of file
+
+    /**
+     * 본문 요약이 아직 생성되지 않은 게시글 조회 (요약 컬럼 추가 이전에 작성된 게시글)
+     */
+    List<CommunityPost> findTop100ByExcerptIsNull();
+
+    /**
+     * 게시글 본문 요약만 변경
+     */
+    @Modifying
+    @Transactional
+    @Query("update CommunityPost p set p.excerpt = :excerpt where p.postIdx = :postIdx")
+    void updateExcerpt(@Param("postIdx") Long postIdx, @Param("excerpt") String excerpt);
+
+    /**
+     * 게시글 댓글 수 1 증가
+     */
+    @Modifying
+    @Query("update CommunityPost p set p.commentCount = p.commentCount + 1 where p.postIdx = :postIdx")
+    void incrementCommentCount(@Param("postIdx") Long postIdx);
+
+    /**
+     * 자동완성 색인용 게시글 IDX, 제목 조회
+     */
+    @Query("select new io.github.sunday.devfolio.dto.common.SuggestionDto('community', p.postIdx, p.title) " +
+            "from CommunityPost p")
+    List<SuggestionDto> findSuggestions();
+}
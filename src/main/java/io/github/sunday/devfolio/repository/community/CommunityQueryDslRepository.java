@@ -1,26 +1,33 @@
 package io.github.sunday.devfolio.repository.community;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.*;
-import com.querydsl.core.types.dsl.StringTemplate;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.github.sunday.devfolio.dto.common.UnifiedSearchItemDto;
 import io.github.sunday.devfolio.dto.community.CommunitySearchRequestDto;
+import io.github.sunday.devfolio.dto.community.PostListResponseDto;
 import io.github.sunday.devfolio.entity.table.community.Category;
 import io.github.sunday.devfolio.entity.table.community.CommunityPost;
 import io.github.sunday.devfolio.entity.table.community.QCommunityPost;
+import io.github.sunday.devfolio.entity.table.user.QUser;
+import io.github.sunday.devfolio.enums.common.SearchTarget;
+import io.github.sunday.devfolio.repository.search.KeywordMatch;
+import io.github.sunday.devfolio.repository.search.SearchBackend;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * 게시글 Entity를 대상으로 하는 QueryDSL 리포지토리
@@ -28,101 +35,195 @@ import java.util.Objects;
 @Repository
 @RequiredArgsConstructor
 public class CommunityQueryDslRepository {
-    private final JPAQueryFactory queryFactory;
+    private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
 
+    private final JPAQueryFactory queryFactory;
+    private final SearchBackend searchBackend;
 
     /**
-     * 키워드와 카테고리로 포트폴리오 조회
+     * 키워드와 카테고리로 게시글 조회
      * 정렬 기준과 방향 설정 가능
-     * 페이지네이션 적용
+     * 페이지네이션 적용, 전체 개수는 매번 정확하게 계산
+     * (첫 페이지 결과가 페이지 크기보다 적거나 마지막 페이지면 개수 쿼리 생략)
      */
-    public Page<CommunityPost> findAllByKeywordAndCategory(CommunitySearchRequestDto searchRequestDto, Pageable pageable) {
-        QCommunityPost communityPost = QCommunityPost.communityPost;
+    public Page<PostListResponseDto> findAllByKeywordAndCategory(CommunitySearchRequestDto searchRequestDto, Pageable pageable) {
+        CommunitySearchCondition condition = prepare(searchRequestDto);
+        List<PostListResponseDto> content = findContent(condition, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(condition));
+    }
 
-        // 조건 설정
+    /**
+     * 검색 요청의 카테고리, 키워드 조건 생성
+     * 같은 요청의 목록, 개수 조회에 같은 조건을 전달해 키워드 조건을 한 번만 만들도록 함
+     * 키워드 조건은 처음 사용할 때 카테고리 조건을 함께 적용해 생성
+     */
+    public CommunitySearchCondition prepare(CommunitySearchRequestDto searchRequestDto) {
+        QCommunityPost communityPost = QCommunityPost.communityPost;
         BooleanBuilder booleanBuilder = new BooleanBuilder();
-        String keyword = searchRequestDto.getKeyword();
+
         String categoryName = searchRequestDto.getCategoryName();
         if (categoryName != null) {
             Category category = Category.getCategory(categoryName);
             booleanBuilder.and(communityPost.category.eq(category));
         }
+        Predicate filter = booleanBuilder.getValue();
 
-        // 키워드 조건별 rank 생성 및 booleanBuilder 업데이트
-        NumberTemplate<Float> rank = buildTsQueryCondition(communityPost, booleanBuilder, keyword);
+        String keyword = searchRequestDto.getKeyword();
+        if (keyword == null || keyword.isEmpty()) {
+            return new CommunitySearchCondition(filter, null);
+        }
+        return new CommunitySearchCondition(filter, () -> matchKeyword(communityPost, keyword, filter, null));
+    }
+
+    /**
+     * 검색 조건에 해당하는 게시글 목록만 조회
+     * 다음 페이지 존재 여부 확인 시 limit에 페이지 크기보다 큰 값 전달
+     */
+    public List<PostListResponseDto> findContent(CommunitySearchCondition condition, Pageable pageable, int limit) {
+        QCommunityPost communityPost = QCommunityPost.communityPost;
 
         // 콘텐츠 조회 쿼리 실행
-        List<CommunityPost> content = executeContentQuery(communityPost, booleanBuilder, rank, pageable);
+        return executeContentQuery(communityPost, condition.getCondition(), condition.getRank(), pageable, limit);
+    }
+
+    /**
+     * 검색 조건에 해당하는 게시글 전체 개수 조회
+     */
+    public long count(CommunitySearchCondition condition) {
+        QCommunityPost communityPost = QCommunityPost.communityPost;
+
+        Long totalCount = executeCountQuery(communityPost, condition.getCondition());
+        return totalCount != null ? totalCount : 0L;
+    }
 
-        // 전체 개수 조회 쿼리 실행
-        Long totalCount = executeCountQuery(communityPost, booleanBuilder);
+    /**
+     * 검색 조건에 해당하는 게시글 개수를 최대 limit개까지만 조회
+     * limit번째 행 하나만 조회해 있으면 limit을 반환하고(조건에 맞는 행을 limit개 찾으면 더 탐색하지 않음),
+     * 없으면 limit개 미만이므로 개수 쿼리로 정확한 개수 조회 (어느 쿼리도 IDX 목록을 가져오지 않음)
+     * JPQL은 FROM 절 서브쿼리와 서브쿼리 LIMIT을 지원하지 않아 count(*) FROM (... LIMIT n) 대신 사용
+     */
+    public long countUpTo(CommunitySearchCondition condition, int limit) {
+        QCommunityPost communityPost = QCommunityPost.communityPost;
+        Predicate predicate = condition.getCondition();
+
+        Long limitRow = queryFactory
+                .select(communityPost.postIdx)
+                .from(communityPost)
+                .where(predicate)
+                .offset(limit - 1)
+                .fetchFirst();
+        if (limitRow != null) {
+            return limit;
+        }
 
-        // 쿼리문 실행
-        return new PageImpl<>(content, pageable, totalCount);
+        Long totalCount = executeCountQuery(communityPost, predicate);
+        return totalCount != null ? totalCount : 0L;
     }
 
     /**
      * 공통 쿼리 요청 로직
+     * 목록에 필요한 컬럼만 조회하고 rank는 정렬에만 사용
      */
-    private List<CommunityPost> executeContentQuery(
+    private List<PostListResponseDto> executeContentQuery(
             QCommunityPost communityPost,
-            BooleanBuilder booleanBuilder,
-            NumberTemplate<Float> rank,
-            Pageable pageable
+            Predicate condition,
+            NumberExpression<Float> rank,
+            Pageable pageable,
+            int limit
     ) {
         OrderSpecifier<?>[] orderSpecifiers = buildOrderSpecifier(pageable, rank, communityPost);
+        QUser user = new QUser("writer");
 
-        JPAQuery<?> query = (rank != null) ?
-                queryFactory.select(communityPost, rank).from(communityPost)
-                : queryFactory.select(communityPost).from(communityPost);
-
-        query.where(booleanBuilder)
+        return queryFactory
+                .select(listProjection(communityPost, user))
+                .from(communityPost)
+                .join(communityPost.user, user)
+                .where(condition)
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(orderSpecifiers);
+                .limit(limit)
+                .orderBy(orderSpecifiers)
+                .fetch();
+    }
 
-        if (rank != null) {
-            List<Tuple> results = (List<Tuple>) query.fetch();
-            return results.stream()
-                    .map(tuple -> tuple.get(0, CommunityPost.class))
-                    .filter(Objects::nonNull)
-                    .toList();
-        }
-        return (List<CommunityPost>) query.fetch();
+    /**
+     * 통합 검색용 키워드 검색
+     * IDX, 제목, rank만 rank 내림차순으로 조회하고, 제한 시간을 넘기면 DB에서도 쿼리를 중단
+     */
+    public List<UnifiedSearchItemDto> findRankedByKeyword(String keyword, int limit, int timeoutMillis) {
+        if (keyword == null || keyword.isEmpty()) return new ArrayList<>();
+        QCommunityPost communityPost = QCommunityPost.communityPost;
+        KeywordMatch keywordMatch = matchKeyword(communityPost, keyword, null, timeoutMillis);
+        NumberExpression<Float> rank = keywordMatch.getRank();
+
+        return queryFactory.select(Projections.fields(UnifiedSearchItemDto.class,
+                        communityPost.postIdx.as("idx"),
+                        communityPost.title,
+                        rank.as("rank")
+                ))
+                .from(communityPost)
+                .where(keywordMatch.getCondition())
+                .orderBy(rank.desc(), communityPost.postIdx.desc())
+                .limit(limit)
+                .setHint(QUERY_TIMEOUT_HINT, timeoutMillis)
+                .fetch();
+    }
+
+    /**
+     * 게시글 IDX 목록으로 목록용 DTO 조회
+     * 캐시된 검색 결과의 최신 조회수, 좋아요 수를 채우는 데 사용 (순서는 보장하지 않음)
+     */
+    public List<PostListResponseDto> findListByPostIdxIn(Collection<Long> postIdxList) {
+        QCommunityPost communityPost = QCommunityPost.communityPost;
+        QUser user = new QUser("writer");
+
+        return queryFactory
+                .select(listProjection(communityPost, user))
+                .from(communityPost)
+                .join(communityPost.user, user)
+                .where(communityPost.postIdx.in(postIdxList))
+                .fetch();
+    }
+
+    /**
+     * 목록에 필요한 컬럼만 조회하는 프로젝션
+     * 본문(TEXT)과 검색 벡터는 조회하지 않음
+     */
+    private ConstructorExpression<PostListResponseDto> listProjection(QCommunityPost communityPost, QUser user) {
+        return Projections.constructor(PostListResponseDto.class,
+                communityPost.postIdx,
+                communityPost.title,
+                user.nickname,
+                communityPost.category,
+                communityPost.createdAt,
+                communityPost.views,
+                communityPost.likeCount,
+                communityPost.status,
+                communityPost.excerpt,
+                user.profileImg,
+                communityPost.commentCount
+        );
     }
 
     /**
      *  전체 개수 조회 로직
      */
-    private Long executeCountQuery(QCommunityPost communityPost, BooleanBuilder booleanBuilder) {
+    private Long executeCountQuery(QCommunityPost communityPost, Predicate condition) {
         return queryFactory
                 .select(communityPost.count())
                 .from(communityPost)
-                .where(booleanBuilder)
+                .where(condition)
                 .fetchOne();
     }
 
     /**
-     * 키워드 필터링 옵션을 추가
+     * 검색 방식(SearchBackend)으로 키워드 조건과 정렬에 사용할 rank 생성
+     * 키워드 외 조건(카테고리)과 제한 시간은 검색 방식이 키워드 조건을 정할 때 함께 적용
      */
-    private NumberTemplate<Float> buildTsQueryCondition(QCommunityPost communityPost, BooleanBuilder booleanBuilder, String keyword) {
-        if (keyword == null || keyword.isEmpty()) return null;
-
-        StringTemplate tsQuery = Expressions.stringTemplate(
-                "websearch_to_tsquery('simple', {0})", keyword
+    private KeywordMatch matchKeyword(QCommunityPost communityPost, String keyword, Predicate filter, Integer timeoutMillis) {
+        return searchBackend.match(
+                SearchTarget.COMMUNITY, communityPost, communityPost.postIdx, communityPost.title, communityPost.searchVector, keyword,
+                filter, timeoutMillis
         );
-        BooleanExpression keywordCondition = Expressions.booleanTemplate(
-                "pgfts({0}, {1})",
-                communityPost.searchVector, tsQuery
-        );
-        NumberTemplate<Float> rank = Expressions.numberTemplate(
-                Float.class,
-                "tsrank({0}, {1})",
-                communityPost.searchVector, tsQuery
-        );
-
-        booleanBuilder.and(keywordCondition);
-        return rank;
     }
 
     /**
@@ -152,7 +253,7 @@ public class CommunityQueryDslRepository {
      */
     private OrderSpecifier<?>[] buildOrderSpecifier(
             Pageable pageable,
-            NumberTemplate<Float> rank,
+            NumberExpression<Float> rank,
             QCommunityPost communityPost
     ) {
         OrderSpecifier<?> sortedColumn = getSortedColumn(pageable);
@@ -0,0 +1,49 @@
+package io.github.sunday.devfolio.repository.community;
+
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
+import io.github.sunday.devfolio.repository.search.KeywordMatch;
+
+import java.util.function.Supplier;
+
+/**
+ * 한 검색 요청의 게시글 목록, 개수 쿼리가 함께 사용하는 검색 조건
+ * CommunityQueryDslRepository.prepare로 요청마다 한 번 만들어 목록, 개수 조회에 전달
+ * 키워드 조건(KeywordMatch)은 처음 사용할 때 한 번만 만들고 재사용하므로,
+ * 결과가 모두 캐시에 있으면 검색 방식(SearchBackend)을 호출하지 않음
+ * 한 요청 안에서만 사용 (스레드 간 공유하지 않음)
+ */
+public class CommunitySearchCondition {
+    private final Predicate filter;
+    private final Supplier<KeywordMatch> keywordMatcher;
+    private KeywordMatch keywordMatch;
+
+    CommunitySearchCondition(Predicate filter, Supplier<KeywordMatch> keywordMatcher) {
+        this.filter = filter;
+        this.keywordMatcher = keywordMatcher;
+    }
+
+    /**
+     * 카테고리와 키워드 조건
+     */
+    Predicate getCondition() {
+        KeywordMatch match = getKeywordMatch();
+        return match != null ? ExpressionUtils.and(filter, match.getCondition()) : filter;
+    }
+
+    /**
+     * 정렬에 사용할 rank (키워드가 없으면 null)
+     */
+    NumberExpression<Float> getRank() {
+        KeywordMatch match = getKeywordMatch();
+        return match != null ? match.getRank() : null;
+    }
+
+    private KeywordMatch getKeywordMatch() {
+        if (keywordMatch == null && keywordMatcher != null) {
+            keywordMatch = keywordMatcher.get();
+        }
+        return keywordMatch;
+    }
+}
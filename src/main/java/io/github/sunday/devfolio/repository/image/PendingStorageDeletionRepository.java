@@ -0,0 +1,17 @@
+package io.github.sunday.devfolio.repository.image;
+
+import io.github.sunday.devfolio.entity.table.image.PendingStorageDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 저장소 삭제에 실패한 파일 리포지토리
+ */
+public interface PendingStorageDeletionRepository extends JpaRepository<PendingStorageDeletion, String> {
+
+    /**
+     * 오래된 순으로 100개 조회
+     */
+    List<PendingStorageDeletion> findTop100ByOrderByCreatedAtAsc();
+}
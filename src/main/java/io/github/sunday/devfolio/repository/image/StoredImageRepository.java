@@ -0,0 +1,70 @@
+package io.github.sunday.devfolio.repository.image;
+
+import io.github.sunday.devfolio.entity.table.image.StoredImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 내용 기반 이미지 색인 리포지토리
+ * 참조 수는 동시에 바뀔 수 있으므로 읽고 쓰지 않고 UPDATE 한 번으로 증감
+ */
+public interface StoredImageRepository extends JpaRepository<StoredImage, String> {
+
+    /**
+     * 원본 해시로 저장된 이미지 찾기
+     */
+    Optional<StoredImage> findFirstBySourceHash(String sourceHash);
+
+    /**
+     * 저장소 키로 저장된 이미지 찾기
+     */
+    Optional<StoredImage> findByS3Key(String s3Key);
+
+    /**
+     * 새 색인 추가
+     * save는 ID가 있는 엔티티를 병합(merge)해 동시에 등록된 같은 이미지를 덮어쓸 수 있으므로 INSERT로 추가하고,
+     * 이미 있으면 DataIntegrityViolationException
+     */
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = "insert into stored_images "
+            + "(content_hash, source_hash, s3_key, content_type, file_size, width, height, variant_widths, placeholder, ref_count, created_at) "
+            + "values (:#{#image.contentHash}, :#{#image.sourceHash}, :#{#image.s3Key}, :#{#image.contentType}, :#{#image.fileSize}, "
+            + ":#{#image.width}, :#{#image.height}, :#{#image.variantWidths}, :#{#image.placeholder}, :#{#image.refCount}, :#{#image.createdAt})")
+    void insert(@Param("image") StoredImage image);
+
+    /**
+     * 참조 수 1 증가
+     *
+     * @return 변경된 행 수 (색인이 없으면 0)
+     */
+    @Modifying
+    @Transactional
+    @Query("update StoredImage s set s.refCount = s.refCount + 1 where s.contentHash = :contentHash")
+    int incrementRefCount(@Param("contentHash") String contentHash);
+
+    /**
+     * 참조 수 1 감소
+     *
+     * @return 변경된 행 수 (색인이 없으면 0)
+     */
+    @Modifying
+    @Transactional
+    @Query("update StoredImage s set s.refCount = s.refCount - 1 where s.s3Key = :s3Key and s.refCount > 0")
+    int decrementRefCount(@Param("s3Key") String s3Key);
+
+    /**
+     * 참조가 없는 색인 삭제
+     *
+     * @return 삭제된 행 수 (그 사이 다시 참조되었으면 0)
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from StoredImage s where s.s3Key = :s3Key and s.refCount <= 0")
+    int deleteIfUnreferenced(@Param("s3Key") String s3Key);
+}
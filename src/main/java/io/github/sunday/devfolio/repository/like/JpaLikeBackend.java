@@ -0,0 +1,111 @@
+package io.github.sunday.devfolio.repository.like;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.github.sunday.devfolio.entity.table.community.QCommunityLike;
+import io.github.sunday.devfolio.entity.table.community.QCommunityPost;
+import io.github.sunday.devfolio.entity.table.portfolio.QPortfolio;
+import io.github.sunday.devfolio.entity.table.portfolio.QPortfolioLike;
+import io.github.sunday.devfolio.repository.community.CommunityLikeRepository;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioLikeRepository;
+
+import java.time.ZonedDateTime;
+
+/**
+ * JPQL 좋아요 추가/제거 방식
+ * PostgreSQL 전용 쿼리를 사용할 수 없는 DB(H2 등)에서 사용
+ * 좋아요가 없을 때만 추가하는 INSERT ... SELECT, 삭제, like_count 증감, 좋아요 수 조회를 각각 실행
+ * 같은 좋아요가 동시에 추가되면 유니크 제약으로 한쪽 요청이 실패하므로 좋아요 수가 중복 증가하지 않음
+ */
+public class JpaLikeBackend implements LikeBackend {
+    private final JPAQueryFactory queryFactory;
+    private final PortfolioLikeRepository portfolioLikeRepository;
+    private final CommunityLikeRepository communityLikeRepository;
+
+    public JpaLikeBackend(
+            JPAQueryFactory queryFactory,
+            PortfolioLikeRepository portfolioLikeRepository,
+            CommunityLikeRepository communityLikeRepository
+    ) {
+        this.queryFactory = queryFactory;
+        this.portfolioLikeRepository = portfolioLikeRepository;
+        this.communityLikeRepository = communityLikeRepository;
+    }
+
+    @Override
+    public Integer likePortfolio(Long userIdx, Long portfolioIdx) {
+        if (portfolioLikeRepository.insertLikeIfAbsent(userIdx, portfolioIdx, ZonedDateTime.now()) > 0) {
+            addPortfolioLikeCount(portfolioIdx, 1);
+        }
+        return findPortfolioLikeCount(portfolioIdx);
+    }
+
+    @Override
+    public Integer unlikePortfolio(Long userIdx, Long portfolioIdx) {
+        QPortfolioLike portfolioLike = QPortfolioLike.portfolioLike;
+        long deleted = queryFactory.delete(portfolioLike)
+                .where(portfolioLike.user.userIdx.eq(userIdx), portfolioLike.portfolio.portfolioIdx.eq(portfolioIdx))
+                .execute();
+        if (deleted > 0) {
+            addPortfolioLikeCount(portfolioIdx, -1);
+        }
+        return findPortfolioLikeCount(portfolioIdx);
+    }
+
+    @Override
+    public Integer likePost(Long userIdx, Long postIdx) {
+        if (communityLikeRepository.insertLikeIfAbsent(userIdx, postIdx, ZonedDateTime.now()) > 0) {
+            addPostLikeCount(postIdx, 1);
+        }
+        return findPostLikeCount(postIdx);
+    }
+
+    @Override
+    public Integer unlikePost(Long userIdx, Long postIdx) {
+        QCommunityLike communityLike = QCommunityLike.communityLike;
+        long deleted = queryFactory.delete(communityLike)
+                .where(communityLike.user.userIdx.eq(userIdx), communityLike.post.postIdx.eq(postIdx))
+                .execute();
+        if (deleted > 0) {
+            addPostLikeCount(postIdx, -1);
+        }
+        return findPostLikeCount(postIdx);
+    }
+
+    /**
+     * 포트폴리오 좋아요 수 증감 (0 미만으로 내려가지 않음)
+     */
+    private void addPortfolioLikeCount(Long portfolioIdx, int delta) {
+        QPortfolio portfolio = QPortfolio.portfolio;
+        queryFactory.update(portfolio)
+                .set(portfolio.likeCount, portfolio.likeCount.add(delta))
+                .where(portfolio.portfolioIdx.eq(portfolioIdx), portfolio.likeCount.add(delta).goe(0))
+                .execute();
+    }
+
+    private Integer findPortfolioLikeCount(Long portfolioIdx) {
+        QPortfolio portfolio = QPortfolio.portfolio;
+        return queryFactory.select(portfolio.likeCount)
+                .from(portfolio)
+                .where(portfolio.portfolioIdx.eq(portfolioIdx))
+                .fetchOne();
+    }
+
+    /**
+     * 게시글 좋아요 수 증감 (0 미만으로 내려가지 않음)
+     */
+    private void addPostLikeCount(Long postIdx, int delta) {
+        QCommunityPost communityPost = QCommunityPost.communityPost;
+        queryFactory.update(communityPost)
+                .set(communityPost.likeCount, communityPost.likeCount.add(delta))
+                .where(communityPost.postIdx.eq(postIdx), communityPost.likeCount.add(delta).goe(0))
+                .execute();
+    }
+
+    private Integer findPostLikeCount(Long postIdx) {
+        QCommunityPost communityPost = QCommunityPost.communityPost;
+        return queryFactory.select(communityPost.likeCount)
+                .from(communityPost)
+                .where(communityPost.postIdx.eq(postIdx))
+                .fetchOne();
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.sunday.devfolio.repository.like;
+
+/**
+ * 포트폴리오, 커뮤니티 게시글 좋아요 추가/제거 방식
+ * 좋아요 행 추가/삭제와 대상의 like_count 증감을 함께 처리하고 처리 후 좋아요 수 반환
+ * 이미 좋아요한 상태에서 추가하거나, 좋아요하지 않은 상태에서 제거하면 아무것도 바꾸지 않음
+ * PostgreSQL이면 한 번의 왕복으로 처리하는 네이티브 쿼리, 그 외 DB면 JPQL 구현을 사용 (LikeBackendConfig)
+ * 호출하는 쪽의 트랜잭션 안에서 실행
+ */
+public interface LikeBackend {
+
+    /**
+     * 포트폴리오 좋아요 추가
+     *
+     * @return 처리 후 좋아요 수 (포트폴리오가 없으면 null)
+     */
+    Integer likePortfolio(Long userIdx, Long portfolioIdx);
+
+    /**
+     * 포트폴리오 좋아요 제거
+     *
+     * @return 처리 후 좋아요 수 (포트폴리오가 없으면 null)
+     */
+    Integer unlikePortfolio(Long userIdx, Long portfolioIdx);
+
+    /**
+     * 게시글 좋아요 추가
+     *
+     * @return 처리 후 좋아요 수 (게시글이 없으면 null)
+     */
+    Integer likePost(Long userIdx, Long postIdx);
+
+    /**
+     * 게시글 좋아요 제거
+     *
+     * @return 처리 후 좋아요 수 (게시글이 없으면 null)
+     */
+    Integer unlikePost(Long userIdx, Long postIdx);
+}
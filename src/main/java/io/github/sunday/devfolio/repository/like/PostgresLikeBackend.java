@@ -0,0 +1,38 @@
+package io.github.sunday.devfolio.repository.like;
+
+import io.github.sunday.devfolio.repository.community.CommunityLikeRepository;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioLikeRepository;
+
+/**
+ * PostgreSQL 좋아요 추가/제거 방식
+ * INSERT ... ON CONFLICT DO NOTHING, DELETE ... RETURNING과 like_count 증감을 하나의 쿼리(CTE)로 처리
+ */
+public class PostgresLikeBackend implements LikeBackend {
+    private final PortfolioLikeRepository portfolioLikeRepository;
+    private final CommunityLikeRepository communityLikeRepository;
+
+    public PostgresLikeBackend(PortfolioLikeRepository portfolioLikeRepository, CommunityLikeRepository communityLikeRepository) {
+        this.portfolioLikeRepository = portfolioLikeRepository;
+        this.communityLikeRepository = communityLikeRepository;
+    }
+
+    @Override
+    public Integer likePortfolio(Long userIdx, Long portfolioIdx) {
+        return portfolioLikeRepository.insertLikeAndCount(userIdx, portfolioIdx);
+    }
+
+    @Override
+    public Integer unlikePortfolio(Long userIdx, Long portfolioIdx) {
+        return portfolioLikeRepository.deleteLikeAndCount(userIdx, portfolioIdx);
+    }
+
+    @Override
+    public Integer likePost(Long userIdx, Long postIdx) {
+        return communityLikeRepository.insertLikeAndCount(userIdx, postIdx);
+    }
+
+    @Override
+    public Integer unlikePost(Long userIdx, Long postIdx) {
+        return communityLikeRepository.deleteLikeAndCount(userIdx, postIdx);
+    }
+}
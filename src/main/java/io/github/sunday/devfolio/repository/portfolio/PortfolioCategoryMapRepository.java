@@ -3,7 +3,10 @@ package io.github.sunday.devfolio.repository.portfolio;
 import io.github.sunday.devfolio.entity.table.portfolio.Portfolio;
 import io.github.sunday.devfolio.entity.table.portfolio.PortfolioCategoryMap;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,6 +19,13 @@ public interface PortfolioCategoryMapRepository extends JpaRepository<PortfolioC
      */
     List<PortfolioCategoryMap> findAllByPortfolio(Portfolio portfolio);
 
+    /**
+     * 여러 포트폴리오의 매핑 관계를 카테고리와 함께 한 번에 조회
+     */
+    @Query("select m from PortfolioCategoryMap m join fetch m.category " +
+            "where m.portfolio.portfolioIdx in :portfolioIdxList")
+    List<PortfolioCategoryMap> findAllWithCategoryByPortfolioIdxIn(@Param("portfolioIdxList") Collection<Long> portfolioIdxList);
+
     /**
      * 포트폴리오 매핑 관계 제거
      */
@@ -1,8 +1,11 @@
 package io.github.sunday.devfolio.repository.portfolio;
 
+import io.github.sunday.devfolio.dto.common.SuggestionDto;
 import io.github.sunday.devfolio.entity.table.portfolio.PortfolioCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,4 +17,11 @@ public interface PortfolioCategoryRepository extends JpaRepository<PortfolioCate
      * 포트폴리오 카테고리 이름으로 조회
      */
     Optional<PortfolioCategory> findByName(String name);
+
+    /**
+     * 자동완성 색인용 카테고리 IDX, 한글 이름 조회
+     */
+    @Query("select new io.github.sunday.devfolio.dto.common.SuggestionDto('category', c.categoryIdx, c.nameKo) " +
+            "from PortfolioCategory c")
+    List<SuggestionDto> findSuggestions();
 }
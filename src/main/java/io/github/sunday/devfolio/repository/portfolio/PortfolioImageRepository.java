@@ -4,6 +4,7 @@ import io.github.sunday.devfolio.entity.table.portfolio.Portfolio;
 import io.github.sunday.devfolio.entity.table.portfolio.PortfolioImage;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +23,10 @@ public interface PortfolioImageRepository extends JpaRepository<PortfolioImage,
      * 포트폴리오의 모든 이미지 찾기
      */
     List<PortfolioImage> findAllByPortfolio_PortfolioIdx(Long portfolioIdx);
+
+    /**
+     * 여러 포트폴리오의 썸네일용 이미지를 한 번에 찾기
+     * 목록 페이지 조립 시 포트폴리오마다 조회하지 않도록 IN 조건으로 조회
+     */
+    List<PortfolioImage> findAllByPortfolio_PortfolioIdxInAndIsThumbnailTrue(Collection<Long> portfolioIdxList);
 }
@@ -4,8 +4,13 @@ import io.github.sunday.devfolio.entity.table.portfolio.Portfolio;
 import io.github.sunday.devfolio.entity.table.portfolio.PortfolioLike;
 import io.github.sunday.devfolio.entity.table.user.User;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +18,9 @@ public interface PortfolioLikeRepository extends JpaRepository<PortfolioLike, Lo
 
     /**
      * 사용자가 좋아요 표시한 포트폴리오 조회
+     * 목록 조립 시 포트폴리오를 하나씩 초기화하지 않도록 함께 조회
      */
+    @EntityGraph(attributePaths = "portfolio")
     List<PortfolioLike> findAllByUser_UserIdx(Long userIdx, Pageable pageable);
 
     List<PortfolioLike> findAllByUser(User user);
@@ -28,4 +35,67 @@ public interface PortfolioLikeRepository extends JpaRepository<PortfolioLike, Lo
      * 사용자와 포트폴리오로 좋아요 표시 조회
      */
     Optional<PortfolioLike> findByUserAndPortfolio(User user, Portfolio portfolio);
+
+    /**
+     * 좋아요 추가 후 좋아요 수 반환
+     * (user_idx, portfolio_idx) 유니크 제약으로 중복 등록을 막고,
+     * 실제로 행이 추가된 경우에만 like_count를 증가시켜 한 번의 왕복으로 처리
+     * 이미 좋아요한 상태면 아무것도 바꾸지 않고 현재 좋아요 수 반환
+     * PostgreSQL 전용 (PostgresLikeBackend)
+     */
+    @Query(value = """
+            WITH ins AS (
+                INSERT INTO portfolio_likes (user_idx, portfolio_idx, liked_at)
+                VALUES (:userIdx, :portfolioIdx, now())
+                ON CONFLICT (user_idx, portfolio_idx) DO NOTHING
+                RETURNING 1
+            ), upd AS (
+                UPDATE portfolios SET like_count = like_count + 1
+                WHERE portfolio_idx = :portfolioIdx AND EXISTS (SELECT 1 FROM ins)
+                RETURNING like_count
+            )
+            SELECT COALESCE(
+                (SELECT like_count FROM upd),
+                (SELECT like_count FROM portfolios WHERE portfolio_idx = :portfolioIdx)
+            )
+            """, nativeQuery = true)
+    Integer insertLikeAndCount(@Param("userIdx") Long userIdx, @Param("portfolioIdx") Long portfolioIdx);
+
+    /**
+     * 좋아요 제거 후 좋아요 수 반환
+     * 실제로 행이 삭제된 경우에만 like_count를 감소시켜 한 번의 왕복으로 처리
+     * 좋아요하지 않은 상태면 아무것도 바꾸지 않고 현재 좋아요 수 반환
+     * PostgreSQL 전용 (PostgresLikeBackend)
+     */
+    @Query(value = """
+            WITH del AS (
+                DELETE FROM portfolio_likes
+                WHERE user_idx = :userIdx AND portfolio_idx = :portfolioIdx
+                RETURNING 1
+            ), upd AS (
+                UPDATE portfolios SET like_count = GREATEST(like_count - 1, 0)
+                WHERE portfolio_idx = :portfolioIdx AND EXISTS (SELECT 1 FROM del)
+                RETURNING like_count
+            )
+            SELECT COALESCE(
+                (SELECT like_count FROM upd),
+                (SELECT like_count FROM portfolios WHERE portfolio_idx = :portfolioIdx)
+            )
+            """, nativeQuery = true)
+    Integer deleteLikeAndCount(@Param("userIdx") Long userIdx, @Param("portfolioIdx") Long portfolioIdx);
+
+    /**
+     * 좋아요하지 않은 상태일 때만 좋아요 추가 (PostgreSQL 외 DB용, JpaLikeBackend)
+     *
+     * @return 추가된 행 수 (이미 좋아요한 상태거나 사용자, 포트폴리오가 없으면 0)
+     */
+    @Modifying
+    @Query("""
+            insert into PortfolioLike (user, portfolio, likedAt)
+            select u, p, :likedAt from User u, Portfolio p
+            where u.userIdx = :userIdx and p.portfolioIdx = :portfolioIdx
+              and not exists (select 1 from PortfolioLike l where l.user = u and l.portfolio = p)
+            """)
+    int insertLikeIfAbsent(@Param("userIdx") Long userIdx, @Param("portfolioIdx") Long portfolioIdx,
+                           @Param("likedAt") ZonedDateTime likedAt);
 }
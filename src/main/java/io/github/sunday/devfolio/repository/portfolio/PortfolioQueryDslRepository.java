@@ -3,22 +3,36 @@ package io.github.sunday.devfolio.repository.portfolio;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
 import com.querydsl.core.types.dsl.*;
-import com.querydsl.core.types.dsl.StringTemplate;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.github.sunday.devfolio.dto.common.UnifiedSearchItemDto;
+import io.github.sunday.devfolio.dto.portfolio.PortfolioCursor;
 import io.github.sunday.devfolio.dto.portfolio.PortfolioSearchRequestDto;
+import io.github.sunday.devfolio.dto.portfolio.PortfolioSummaryDto;
+import io.github.sunday.devfolio.enums.portfolio.PortfolioCategoryMatch;
 import io.github.sunday.devfolio.enums.portfolio.PortfolioSort;
 import io.github.sunday.devfolio.entity.table.portfolio.Portfolio;
 import io.github.sunday.devfolio.entity.table.portfolio.QPortfolio;
 import io.github.sunday.devfolio.entity.table.portfolio.QPortfolioCategoryMap;
+import io.github.sunday.devfolio.enums.common.SearchTarget;
+import io.github.sunday.devfolio.repository.search.KeywordMatch;
+import io.github.sunday.devfolio.repository.search.SearchBackend;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * 포트폴리오 Entity를 대상으로 하는 QueryDSL 리포지토리
@@ -26,105 +40,269 @@ import java.util.List;
 @Repository
 @RequiredArgsConstructor
 public class PortfolioQueryDslRepository {
+    private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
     private final JPAQueryFactory queryFactory;
+    private final SearchBackend searchBackend;
 
     /**
      * 키워드와 카테고리로 포트폴리오 조회
      * 정렬 기준과 방향 설정 가능
      * 페이지네이션 적용
      */
-    public List<Portfolio> findAllByKeywordAndCategory(PortfolioSearchRequestDto searchRequestDto, Pageable pageable) {
+    public List<PortfolioSummaryDto> findAllByKeywordAndCategory(PortfolioSearchRequestDto searchRequestDto, Pageable pageable) {
         QPortfolio portfolio = QPortfolio.portfolio;
         QPortfolioCategoryMap portfolioCategoryMap = QPortfolioCategoryMap.portfolioCategoryMap;
 
         // 조건 설정
         BooleanBuilder booleanBuilder = new BooleanBuilder();
         String keyword = searchRequestDto.getKeyword();
-        Long filterCategoryIdx = searchRequestDto.getCategoryIdx();
+
+        // 필터링 조건 업데이트 (키워드 검색 방식이 카테고리 조건을 함께 적용하도록 먼저 설정)
+        buildCategoryCondition(portfolio, portfolioCategoryMap, booleanBuilder, searchRequestDto);
 
         // 키워드 조건별 rank 생성 및 booleanBuilder 업데이트
-        NumberTemplate<Float> rank = buildTsQueryCondition(portfolio, booleanBuilder, keyword);
+        NumberExpression<Float> rank = buildKeywordCondition(portfolio, booleanBuilder, keyword, null);
         // 정렬 순서 설정
         OrderSpecifier<?>[] orderSpecifiers = buildOrderSpecifier(searchRequestDto, rank, QPortfolio.portfolio);
 
-        // 필터링 조건 업데이트
-        buildCategoryCondition(portfolio, portfolioCategoryMap, booleanBuilder, filterCategoryIdx);
+        // 쿼리문 실행
+        return executePortfolioQuery(portfolio, booleanBuilder, orderSpecifiers, pageable);
+    }
+
+    /**
+     * 키워드와 카테고리로 포트폴리오를 커서 기준으로 조회
+     * offset 없이 정렬 컬럼과 포트폴리오 IDX로 이전 페이지의 마지막 행 이후를 탐색
+     * 다음 페이지 존재 여부 확인을 위해 페이지 크기보다 하나 더 조회
+     */
+    public CursorSlice findSliceByKeywordAndCategory(PortfolioSearchRequestDto searchRequestDto, PortfolioCursor cursor) {
+        QPortfolio portfolio = QPortfolio.portfolio;
+        QPortfolioCategoryMap portfolioCategoryMap = QPortfolioCategoryMap.portfolioCategoryMap;
+        PortfolioSort portfolioSort = resolveSort(searchRequestDto);
+        Sort.Direction direction = resolveDirection(searchRequestDto);
+        int size = searchRequestDto.getSize();
+
+        // 조건 설정
+        BooleanBuilder booleanBuilder = new BooleanBuilder();
+        buildCategoryCondition(portfolio, portfolioCategoryMap, booleanBuilder, searchRequestDto);
+        NumberExpression<Float> rank = buildKeywordCondition(portfolio, booleanBuilder, searchRequestDto.getKeyword(), null);
+        OrderSpecifier<?>[] orderSpecifiers = buildOrderSpecifier(searchRequestDto, rank, portfolio);
+
+        // 커서 이후 조건 설정
+        if (cursor != null) {
+            booleanBuilder.and(buildCursorCondition(portfolio, rank, portfolioSort, direction, cursor));
+        }
 
         // 쿼리문 실행
-        return executePortfolioQuery(portfolio, booleanBuilder, rank, orderSpecifiers, pageable);
+        List<PortfolioSummaryDto> content;
+        List<Float> ranks = null;
+        if (rank != null) {
+            List<Tuple> results = queryFactory.select(summaryProjection(portfolio), rank)
+                    .from(portfolio)
+                    .where(booleanBuilder)
+                    .orderBy(orderSpecifiers)
+                    .limit(size + 1)
+                    .fetch();
+            content = results.stream().map(tuple -> tuple.get(0, PortfolioSummaryDto.class)).toList();
+            ranks = results.stream().map(tuple -> tuple.get(rank)).toList();
+        } else {
+            content = queryFactory.select(summaryProjection(portfolio))
+                    .from(portfolio)
+                    .where(booleanBuilder)
+                    .orderBy(orderSpecifiers)
+                    .limit(size + 1)
+                    .fetch();
+        }
+
+        // 다음 페이지 커서 생성
+        if (content.size() <= size) {
+            return new CursorSlice(content, null);
+        }
+        PortfolioSummaryDto last = content.get(size - 1);
+        Float lastRank = ranks != null ? ranks.get(size - 1) : null;
+        return new CursorSlice(
+                content.subList(0, size),
+                PortfolioCursor.of(last, portfolioSort, direction, lastRank)
+        );
+    }
+
+    /**
+     * 통합 검색용 키워드 검색
+     * IDX, 제목, rank만 rank 내림차순으로 조회하고, 제한 시간을 넘기면 DB에서도 쿼리를 중단
+     */
+    public List<UnifiedSearchItemDto> findRankedByKeyword(String keyword, int limit, int timeoutMillis) {
+        QPortfolio portfolio = QPortfolio.portfolio;
+        BooleanBuilder booleanBuilder = new BooleanBuilder();
+        NumberExpression<Float> rank = buildKeywordCondition(portfolio, booleanBuilder, keyword, timeoutMillis);
+        if (rank == null) return new ArrayList<>();
+
+        return queryFactory.select(Projections.fields(UnifiedSearchItemDto.class,
+                        portfolio.portfolioIdx.as("idx"),
+                        portfolio.title,
+                        rank.as("rank")
+                ))
+                .from(portfolio)
+                .where(booleanBuilder)
+                .orderBy(rank.desc(), portfolio.portfolioIdx.desc())
+                .limit(limit)
+                .setHint(QUERY_TIMEOUT_HINT, timeoutMillis)
+                .fetch();
     }
 
     /**
      * 공통 쿼리 요청 로직
+     * rank는 정렬에만 사용하므로 조회 컬럼에 포함하지 않음
      */
-    private List<Portfolio> executePortfolioQuery(
+    private List<PortfolioSummaryDto> executePortfolioQuery(
             QPortfolio portfolio,
             BooleanBuilder booleanBuilder,
-            NumberTemplate<Float> rank,
             OrderSpecifier<?>[] orderSpecifiers,
             Pageable pageable
     ) {
-        JPAQuery<?> query = (rank != null) ?
-                queryFactory.select(portfolio, rank).from(portfolio)
-                : queryFactory.select(portfolio).from(portfolio);
-
-        query.where(booleanBuilder)
+        return queryFactory.select(summaryProjection(portfolio))
+                .from(portfolio)
+                .where(booleanBuilder)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .orderBy(orderSpecifiers);
+                .orderBy(orderSpecifiers)
+                .fetch();
+    }
 
-        if (rank != null) {
-            return ((JPAQuery<Tuple>) query).fetch()
-                    .stream()
-                    .map(tuple -> tuple.get(portfolio))
-                    .toList();
-        }
-        return ((JPAQuery<Portfolio>) query).fetch();
+    /**
+     * 목록에 필요한 컬럼만 조회하는 프로젝션
+     * 설명(TEXT)과 검색 벡터는 조회하지 않음
+     */
+    private QBean<PortfolioSummaryDto> summaryProjection(QPortfolio portfolio) {
+        return Projections.fields(PortfolioSummaryDto.class,
+                portfolio.portfolioIdx,
+                portfolio.title,
+                portfolio.views,
+                portfolio.likeCount,
+                portfolio.commentCount,
+                portfolio.updatedAt,
+                portfolio.user.userIdx.as("userIdx")
+        );
     }
 
     /**
      * 카테고리 필터링 옵션을 추가
+     * 포트폴리오 IDX 목록을 미리 조회하지 않고 매핑 테이블에 대한 EXISTS 조건으로 필터링
+     * 단일 카테고리와 여러 카테고리(ANY : OR, ALL : AND)를 함께 지원
      */
     private void buildCategoryCondition(
             QPortfolio portfolio,
             QPortfolioCategoryMap portfolioCategoryMap,
             BooleanBuilder booleanBuilder,
-            Long filterCategoryIdx
+            PortfolioSearchRequestDto searchRequestDto
     ) {
-        if (filterCategoryIdx == null) return;
+        // 단일 카테고리와 여러 카테고리 필터를 합쳐서 처리
+        Set<Long> categoryIdxSet = new LinkedHashSet<>();
+        if (searchRequestDto.getCategoryIdx() != null) {
+            categoryIdxSet.add(searchRequestDto.getCategoryIdx());
+        }
+        if (searchRequestDto.getCategoryIdxList() != null) {
+            searchRequestDto.getCategoryIdxList().stream()
+                    .filter(Objects::nonNull)
+                    .forEach(categoryIdxSet::add);
+        }
+        if (categoryIdxSet.isEmpty()) return;
 
-        // 카테고리로 필터링한 포트폴리오 IDX 목록
-        List<Long> filterdPortfolioIdx = queryFactory
-                .select(portfolioCategoryMap.portfolio.portfolioIdx)
+        // 하나라도 포함 : 카테고리 IN 조건을 가진 하나의 EXISTS
+        if (categoryIdxSet.size() == 1 || searchRequestDto.getCategoryMatch() != PortfolioCategoryMatch.ALL) {
+            booleanBuilder.and(categoryExists(portfolio, portfolioCategoryMap,
+                    portfolioCategoryMap.category.categoryIdx.in(categoryIdxSet)));
+            return;
+        }
+
+        // 모두 포함 : 카테고리마다 EXISTS
+        categoryIdxSet.forEach(categoryIdx ->
+                booleanBuilder.and(categoryExists(portfolio, portfolioCategoryMap,
+                        portfolioCategoryMap.category.categoryIdx.eq(categoryIdx)))
+        );
+    }
+
+    /**
+     * 포트폴리오에 조건을 만족하는 카테고리 매핑이 존재하는지 확인하는 상관 서브쿼리
+     */
+    private BooleanExpression categoryExists(
+            QPortfolio portfolio,
+            QPortfolioCategoryMap portfolioCategoryMap,
+            BooleanExpression categoryCondition
+    ) {
+        return JPAExpressions.selectOne()
                 .from(portfolioCategoryMap)
-                .where(portfolioCategoryMap.category.categoryIdx.eq(filterCategoryIdx))
-                .orderBy(portfolioCategoryMap.portfolio.portfolioIdx.desc())
-                .fetch();
+                .where(
+                        portfolioCategoryMap.portfolio.portfolioIdx.eq(portfolio.portfolioIdx),
+                        categoryCondition
+                )
+                .exists();
+    }
+
+    /**
+     * 커서 이후의 행만 선택하는 조건 생성
+     * 정렬 순서(rank, 정렬 컬럼, 포트폴리오 IDX 내림차순)와 같은 순서로 비교
+     */
+    private BooleanExpression buildCursorCondition(
+            QPortfolio portfolio,
+            NumberExpression<Float> rank,
+            PortfolioSort portfolioSort,
+            Sort.Direction direction,
+            PortfolioCursor cursor
+    ) {
+        boolean ascending = direction.isAscending();
+        BooleanExpression columnAfter;
+        BooleanExpression columnEqual;
+
+        if (portfolioSort == PortfolioSort.UPDATED_AT) {
+            ZonedDateTime value = cursor.getSortValueAsDateTime();
+            columnAfter = ascending ? portfolio.updatedAt.gt(value) : portfolio.updatedAt.lt(value);
+            columnEqual = portfolio.updatedAt.eq(value);
+        } else {
+            NumberPath<Integer> column = getCountColumn(portfolio, portfolioSort);
+            Integer value = cursor.getSortValueAsInteger();
+            columnAfter = ascending ? column.gt(value) : column.lt(value);
+            columnEqual = column.eq(value);
+        }
+
+        // 정렬 컬럼 값이 같으면 포트폴리오 IDX 내림차순으로 비교
+        BooleanExpression after = columnAfter
+                .or(columnEqual.and(portfolio.portfolioIdx.lt(cursor.getPortfolioIdx())));
 
-        booleanBuilder.and(portfolio.portfolioIdx.in(filterdPortfolioIdx));
+        // 키워드 검색이면 rank 내림차순을 가장 먼저 비교
+        if (rank != null) {
+            after = rank.lt(cursor.getRank())
+                    .or(rank.eq(cursor.getRank()).and(after));
+        }
+        return after;
+    }
+
+    /**
+     * 숫자형 정렬 기준에 해당하는 컬럼 반환
+     */
+    private NumberPath<Integer> getCountColumn(QPortfolio portfolio, PortfolioSort portfolioSort) {
+        return switch (portfolioSort) {
+            case COMMENT_COUNT -> portfolio.commentCount;
+            case VIEWS -> portfolio.views;
+            case LIKE_COUNT -> portfolio.likeCount;
+            default -> throw new IllegalArgumentException("숫자형 정렬 기준이 아닙니다.");
+        };
     }
 
     /**
      * 키워드 필터링 옵션을 추가
+     * 검색 방식(SearchBackend)이 만든 키워드 조건을 추가하고 정렬에 사용할 rank 반환
+     * booleanBuilder에 이미 추가된 조건(카테고리)은 검색 방식이 키워드 조건을 정할 때 함께 적용
      */
-    private NumberTemplate<Float> buildTsQueryCondition(QPortfolio portfolio, BooleanBuilder booleanBuilder, String keyword) {
+    private NumberExpression<Float> buildKeywordCondition(QPortfolio portfolio, BooleanBuilder booleanBuilder,
+                                                          String keyword, Integer timeoutMillis) {
         if (keyword == null || keyword.isEmpty()) return null;
 
-        StringTemplate tsQuery = Expressions.stringTemplate(
-                "websearch_to_tsquery('simple', {0})", keyword
-        );
-        BooleanExpression keywordCondition = Expressions.booleanTemplate(
-                "pgfts({0}, {1})",
-                portfolio.searchVector, tsQuery
-        );
-        NumberTemplate<Float> rank = Expressions.numberTemplate(
-                Float.class,
-                "tsrank({0}, {1})",
-                portfolio.searchVector, tsQuery
+        KeywordMatch keywordMatch = searchBackend.match(
+                SearchTarget.PORTFOLIO, portfolio, portfolio.portfolioIdx, portfolio.title, portfolio.searchVector, keyword,
+                booleanBuilder.getValue(), timeoutMillis
         );
-
-        booleanBuilder.and(keywordCondition);
-        return rank;
+        booleanBuilder.and(keywordMatch.getCondition());
+        return keywordMatch.getRank();
     }
 
     /**
@@ -133,16 +311,11 @@ public class PortfolioQueryDslRepository {
      */
     private OrderSpecifier<?> getSortedColumn(PortfolioSearchRequestDto searchRequestDto) {
         // 정렬 기준 설정
-        PortfolioSort portfolioSort = searchRequestDto.getSort();
-        if (portfolioSort == null) {
-            portfolioSort = PortfolioSort.UPDATED_AT;
-        }
+        PortfolioSort portfolioSort = resolveSort(searchRequestDto);
         String fieldName = portfolioSort.getFieldName();
 
         // 정렬 방향 설정
-        Sort.Direction direction = searchRequestDto.getDirection() != null ?
-                searchRequestDto.getDirection()
-                : Sort.Direction.DESC;
+        Sort.Direction direction = resolveDirection(searchRequestDto);
         com.querydsl.core.types.Order order = com.querydsl.core.types.Order.valueOf(direction.name());
 
         // 정렬 기준이 Entity의 필드와 일치하는지 확인
@@ -157,7 +330,7 @@ public class PortfolioQueryDslRepository {
      */
     private OrderSpecifier<?>[] buildOrderSpecifier(
             PortfolioSearchRequestDto searchRequestDto,
-            NumberTemplate<Float> rank,
+            NumberExpression<Float> rank,
             QPortfolio portfolio
     ) {
         OrderSpecifier<?> sortedColumn = getSortedColumn(searchRequestDto);
@@ -170,4 +343,29 @@ public class PortfolioQueryDslRepository {
         }
         return new OrderSpecifier[]{sortedColumn, portfolio.portfolioIdx.desc()};
     }
+
+    /**
+     * 요청의 정렬 기준 반환 (기본값 : 수정일)
+     */
+    private PortfolioSort resolveSort(PortfolioSearchRequestDto searchRequestDto) {
+        return searchRequestDto.getSort() != null ? searchRequestDto.getSort() : PortfolioSort.UPDATED_AT;
+    }
+
+    /**
+     * 요청의 정렬 방향 반환 (기본값 : 내림차순)
+     */
+    private Sort.Direction resolveDirection(PortfolioSearchRequestDto searchRequestDto) {
+        return searchRequestDto.getDirection() != null ? searchRequestDto.getDirection() : Sort.Direction.DESC;
+    }
+
+    /**
+     * 커서 기준 조회 결과
+     * 현재 페이지의 포트폴리오 목록과 다음 페이지 커서(마지막 페이지면 null)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class CursorSlice {
+        private final List<PortfolioSummaryDto> content;
+        private final PortfolioCursor nextCursor;
+    }
 }
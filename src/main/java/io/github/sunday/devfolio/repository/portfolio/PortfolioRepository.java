@@ -1,12 +1,17 @@
 package io.github.sunday.devfolio.repository.portfolio;
 
+import io.github.sunday.devfolio.dto.common.SuggestionDto;
+import io.github.sunday.devfolio.dto.portfolio.PortfolioSummaryDto;
 import io.github.sunday.devfolio.entity.table.portfolio.Portfolio;
 import io.github.sunday.devfolio.entity.table.profile.Resume;
 import io.github.sunday.devfolio.entity.table.user.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,21 +20,71 @@ import java.util.List;
 public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
     /**
      * 핫한 포트폴리오 조회
-     * 현재 날짜 기준으로 일주일 간 업로드된 포트폴리오 중 좋아요, 조회수 내림차순으로 상위 5개 선정
+     * 기간 내 업로드된 포트폴리오 중 좋아요, 조회수 내림차순으로 조회
+     * 목록에 필요한 컬럼만 조회
      */
-    List<Portfolio> findTop5ByCreatedAtBetweenOrderByLikeCountDescViewsDesc(ZonedDateTime startDate, ZonedDateTime endDate);
+    @Query("""
+            select new io.github.sunday.devfolio.dto.portfolio.PortfolioSummaryDto(
+                p.portfolioIdx, p.title, p.views, p.likeCount, p.commentCount, p.updatedAt, p.user.userIdx
+            )
+            from Portfolio p
+            where p.createdAt between :startDate and :endDate
+            order by p.likeCount desc, p.views desc
+            """)
+    List<PortfolioSummaryDto> findHotSummaries(
+            @Param("startDate") ZonedDateTime startDate,
+            @Param("endDate") ZonedDateTime endDate,
+            Pageable pageable
+    );
 
     /**
      * 인기 포트폴리오 조회
-     * 업로드된 포트폴리오 중 좋아요, 조회수 내림차순으로 상위 5개 선정
+     * 업로드된 포트폴리오 중 좋아요, 조회수 내림차순으로 조회
+     * 목록에 필요한 컬럼만 조회
      */
-    List<Portfolio> findTop5ByOrderByLikeCountDescViewsDescCreatedAtDesc();
+    @Query("""
+            select new io.github.sunday.devfolio.dto.portfolio.PortfolioSummaryDto(
+                p.portfolioIdx, p.title, p.views, p.likeCount, p.commentCount, p.updatedAt, p.user.userIdx
+            )
+            from Portfolio p
+            order by p.likeCount desc, p.views desc, p.createdAt desc
+            """)
+    List<PortfolioSummaryDto> findPopularSummaries(Pageable pageable);
 
     /**
      * 사용자 포트폴리오 조회
-     * 사용자의 user_idx 값으로 포트폴리오 조회
+     * 사용자의 user_idx 값으로 목록에 필요한 컬럼만 조회
      */
-    List<Portfolio> findAllByUser_UserIdx(Long userIdx, Pageable pageable);
+    @Query("""
+            select new io.github.sunday.devfolio.dto.portfolio.PortfolioSummaryDto(
+                p.portfolioIdx, p.title, p.views, p.likeCount, p.commentCount, p.updatedAt, p.user.userIdx
+            )
+            from Portfolio p
+            where p.user.userIdx = :userIdx
+            """)
+    List<PortfolioSummaryDto> findSummariesByUserIdx(@Param("userIdx") Long userIdx, Pageable pageable);
+
+    /**
+     * 포트폴리오 IDX 목록으로 목록에 필요한 컬럼만 조회
+     * 캐시된 검색 결과의 최신 조회수, 좋아요 수를 채우는 데 사용 (순서는 보장하지 않음)
+     */
+    @Query("""
+            select new io.github.sunday.devfolio.dto.portfolio.PortfolioSummaryDto(
+                p.portfolioIdx, p.title, p.views, p.likeCount, p.commentCount, p.updatedAt, p.user.userIdx
+            )
+            from Portfolio p
+            where p.portfolioIdx in :portfolioIdxList
+            """)
+    List<PortfolioSummaryDto> findSummariesByPortfolioIdxIn(@Param("portfolioIdxList") Collection<Long> portfolioIdxList);
 
     List<Portfolio> findAllByUser(User user);
+
+    /**
+     * 자동완성 색인용 포트폴리오 IDX, 제목 조회
+     */
+    @Query("""
+            select new io.github.sunday.devfolio.dto.common.SuggestionDto('portfolio', p.portfolioIdx, p.title)
+            from Portfolio p
+            """)
+    List<SuggestionDto> findSuggestions();
 }
@@ -0,0 +1,205 @@
+package io.github.sunday.devfolio.repository.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색 대상 하나의 메모리 역색인
+ * 대상 IDX를 내부 문서 번호(int)로 바꾸고, 토큰마다 문서 번호와 출현 횟수를 int 배열로 보관
+ * 변경, 삭제된 문서는 삭제 표시만 하고 삭제 표시가 살아 있는 문서보다 많아지면 한 번에 정리
+ * 검색 점수는 BM25
+ */
+class InvertedIndex {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_COMPACT_DELETED = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Long, Integer> docIdByIdx = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] idxByDocId = new long[INITIAL_CAPACITY];
+    private int[] lengthByDocId = new int[INITIAL_CAPACITY];
+    private int nextDocId;
+    private int liveDocs;
+    private int deletedDocs;
+    private long totalLength;
+
+    /**
+     * 문서 추가 또는 변경 (이전 문서는 삭제 표시)
+     */
+    void put(Long idx, List<String> tokens) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            markDeleted(idx);
+
+            int docId = nextDocId++;
+            ensureCapacity(docId + 1);
+            idxByDocId[docId] = idx;
+            lengthByDocId[docId] = tokens.size();
+            docIdByIdx.put(idx, docId);
+            liveDocs++;
+            totalLength += tokens.size();
+
+            frequencies.forEach((term, frequency) ->
+                    postingsByTerm.computeIfAbsent(term, key -> new Postings()).add(docId, frequency));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    void remove(Long idx) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(idx);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어 토큰으로 BM25 점수 상위 maxHits개 조회
+     *
+     * @return 점수 내림차순으로 정렬된 대상 IDX별 점수
+     */
+    LinkedHashMap<Long, Float> search(List<String> queryTokens, int maxHits) {
+        LinkedHashMap<Long, Float> hits = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0 || queryTokens.isEmpty()) {
+                return hits;
+            }
+
+            float averageLength = (float) totalLength / liveDocs;
+            float[] scores = new float[nextDocId];
+            for (String term : new LinkedHashSet<>(queryTokens)) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) continue;
+
+                // 정리 전까지 삭제된 문서도 문서 빈도에 포함되므로 근사값
+                int documentFrequency = Math.min(postings.size, liveDocs);
+                float idf = (float) Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                for (int i = 0; i < postings.size; i++) {
+                    int docId = postings.docIds[i];
+                    if (deleted.get(docId)) continue;
+                    int frequency = postings.frequencies[i];
+                    float norm = K1 * (1 - B + B * lengthByDocId[docId] / averageLength);
+                    scores[docId] += idf * frequency * (K1 + 1) / (frequency + norm);
+                }
+            }
+
+            // 점수 상위 maxHits개만 최소 힙으로 선별
+            PriorityQueue<Integer> top = new PriorityQueue<>(
+                    Comparator.<Integer>comparingDouble(docId -> scores[docId]).thenComparingInt(docId -> docId));
+            for (int docId = 0; docId < scores.length; docId++) {
+                if (scores[docId] <= 0f) continue;
+                top.offer(docId);
+                if (top.size() > maxHits) {
+                    top.poll();
+                }
+            }
+
+            List<Integer> ordered = new ArrayList<>(top);
+            ordered.sort(Comparator.<Integer>comparingDouble(docId -> scores[docId]).reversed()
+                    .thenComparing(Comparator.<Integer>comparingLong(docId -> idxByDocId[docId]).reversed()));
+            for (int docId : ordered) {
+                hits.put(idxByDocId[docId], scores[docId]);
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void markDeleted(Long idx) {
+        Integer docId = docIdByIdx.remove(idx);
+        if (docId == null) return;
+        deleted.set(docId);
+        liveDocs--;
+        deletedDocs++;
+        totalLength -= lengthByDocId[docId];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= idxByDocId.length) return;
+        int newCapacity = Math.max(capacity, idxByDocId.length * 2);
+        idxByDocId = Arrays.copyOf(idxByDocId, newCapacity);
+        lengthByDocId = Arrays.copyOf(lengthByDocId, newCapacity);
+    }
+
+    /**
+     * 삭제 표시된 문서가 충분히 많으면 문서 번호를 다시 매기고 토큰별 목록에서 제거
+     */
+    private void compactIfNeeded() {
+        if (deletedDocs < MIN_COMPACT_DELETED || deletedDocs < liveDocs) return;
+
+        int[] remap = new int[nextDocId];
+        int next = 0;
+        for (int docId = 0; docId < nextDocId; docId++) {
+            if (deleted.get(docId)) {
+                remap[docId] = -1;
+                continue;
+            }
+            remap[docId] = next;
+            idxByDocId[next] = idxByDocId[docId];
+            lengthByDocId[next] = lengthByDocId[docId];
+            docIdByIdx.put(idxByDocId[next], next);
+            next++;
+        }
+
+        Iterator<Postings> iterator = postingsByTerm.values().iterator();
+        while (iterator.hasNext()) {
+            Postings postings = iterator.next();
+            postings.remap(remap);
+            if (postings.size == 0) {
+                iterator.remove();
+            }
+        }
+
+        nextDocId = next;
+        deletedDocs = 0;
+        deleted.clear();
+    }
+
+    /**
+     * 토큰 하나의 문서 번호, 출현 횟수 목록 (문서 번호 오름차순)
+     */
+    private static class Postings {
+        private int[] docIds = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int docId, int frequency) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docIds[size] = docId;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        void remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int docId = remap[docIds[i]];
+                if (docId < 0) continue;
+                docIds[next] = docId;
+                frequencies[next] = frequencies[i];
+                next++;
+            }
+            size = next;
+        }
+    }
+}
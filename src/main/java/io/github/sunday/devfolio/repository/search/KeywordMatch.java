@@ -0,0 +1,17 @@
+package io.github.sunday.devfolio.repository.search;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 키워드 검색 조건과 정렬에 사용할 rank
+ * rank가 클수록 검색어와 관련도가 높음
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeywordMatch {
+    private final BooleanExpression condition;
+    private final NumberExpression<Float> rank;
+}
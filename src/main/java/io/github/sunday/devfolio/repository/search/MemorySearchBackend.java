@@ -0,0 +1,126 @@
+package io.github.sunday.devfolio.repository.search;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.*;
+import io.github.sunday.devfolio.entity.table.community.CommunityPost;
+import io.github.sunday.devfolio.entity.table.portfolio.Portfolio;
+import io.github.sunday.devfolio.enums.common.SearchTarget;
+import io.github.sunday.devfolio.repository.community.CommunityPostRepository;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioRepository;
+import io.github.sunday.devfolio.utils.HtmlTextUtils;
+import io.github.sunday.devfolio.utils.SearchTokenizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.*;
+
+/**
+ * 메모리 역색인 기반 검색 방식
+ * PostgreSQL 전문 검색을 사용할 수 없는 DB(H2 등)에서 사용
+ * 애플리케이션 시작 시 포트폴리오, 게시글 전체를 색인하고 작성/수정/삭제 시 해당 항목만 갱신
+ * 검색 결과 IDX와 BM25 점수를 IN 조건과 CASE 식으로 넘겨 나머지 조건, 정렬, 페이지네이션은 DB에서 처리
+ */
+public class MemorySearchBackend implements SearchBackend {
+    private static final int LOAD_PAGE_SIZE = 200;
+
+    /**
+     * 제목 토큰 반복 횟수 (제목 일치에 본문보다 높은 가중치)
+     */
+    private static final int TITLE_BOOST = 2;
+
+    /**
+     * BM25 점수 기준값 (흔하지 않은 검색어 하나가 일치한 문서의 점수 정도)
+     */
+    private static final float RANK_SCALE = 5f;
+
+    private final PortfolioRepository portfolioRepository;
+    private final CommunityPostRepository communityPostRepository;
+    private final int maxHits;
+    private final Map<SearchTarget, InvertedIndex> indexes = new EnumMap<>(SearchTarget.class);
+
+    public MemorySearchBackend(PortfolioRepository portfolioRepository, CommunityPostRepository communityPostRepository, int maxHits) {
+        this.portfolioRepository = portfolioRepository;
+        this.communityPostRepository = communityPostRepository;
+        this.maxHits = maxHits;
+        for (SearchTarget target : SearchTarget.values()) {
+            indexes.put(target, new InvertedIndex());
+        }
+    }
+
+    @Override
+    public KeywordMatch match(SearchTarget target, EntityPath<?> entity, NumberPath<Long> idPath,
+                              StringPath titlePath, StringPath searchVector, String keyword,
+                              Predicate filter, Integer timeoutMillis) {
+        // 메모리 색인만 조회하므로 키워드 외 조건과 제한 시간은 조건을 결합한 쿼리에서 DB가 처리
+        LinkedHashMap<Long, Float> hits = indexes.get(target).search(SearchTokenizer.tokenize(keyword), maxHits);
+        if (hits.isEmpty()) {
+            // 일치하는 문서가 없으면 항상 거짓인 조건 (IDX는 null이 아님)
+            return new KeywordMatch(idPath.isNull(), Expressions.asNumber(0f));
+        }
+
+        CaseBuilder.Cases<Float, NumberExpression<Float>> cases = null;
+        for (Map.Entry<Long, Float> hit : hits.entrySet()) {
+            cases = cases == null
+                    ? new CaseBuilder().when(idPath.eq(hit.getKey())).then(hit.getValue())
+                    : cases.when(idPath.eq(hit.getKey())).then(hit.getValue());
+        }
+        return new KeywordMatch(idPath.in(hits.keySet()), cases.otherwise(0f));
+    }
+
+    @Override
+    public float rankScale() {
+        return RANK_SCALE;
+    }
+
+    @Override
+    public void index(SearchTarget target, Long idx, String title, String body) {
+        if (idx == null) return;
+        indexes.get(target).put(idx, toTokens(title, body));
+    }
+
+    @Override
+    public void remove(SearchTarget target, Long idx) {
+        if (idx == null) return;
+        indexes.get(target).remove(idx);
+    }
+
+    /**
+     * 애플리케이션 시작 시 포트폴리오, 게시글 전체 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            Page<Portfolio> portfolios;
+            int page = 0;
+            do {
+                portfolios = portfolioRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("portfolioIdx")));
+                portfolios.forEach(portfolio -> index(SearchTarget.PORTFOLIO,
+                        portfolio.getPortfolioIdx(), portfolio.getTitle(), portfolio.getDescription()));
+            } while (portfolios.hasNext());
+
+            Page<CommunityPost> posts;
+            page = 0;
+            do {
+                posts = communityPostRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("postIdx")));
+                posts.forEach(post -> index(SearchTarget.COMMUNITY,
+                        post.getPostIdx(), post.getTitle(), post.getContent()));
+            } while (posts.hasNext());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private List<String> toTokens(String title, String body) {
+        List<String> titleTokens = SearchTokenizer.tokenize(title);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < TITLE_BOOST; i++) {
+            tokens.addAll(titleTokens);
+        }
+        tokens.addAll(SearchTokenizer.tokenize(HtmlTextUtils.toText(body)));
+        return tokens;
+    }
+}
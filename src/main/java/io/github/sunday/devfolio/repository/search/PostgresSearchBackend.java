@@ -0,0 +1,93 @@
+package io.github.sunday.devfolio.repository.search;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.*;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.github.sunday.devfolio.enums.common.SearchTarget;
+
+/**
+ * PostgreSQL 전문 검색 기반 검색 방식
+ * websearch_to_tsquery로 tsvector 컬럼을 검색하고 ts_rank로 정렬
+ * 전문 검색 결과가 기준보다 적으면 pg_trgm 제목 유사도 검색으로 보완
+ * 색인(tsvector 트리거, GIN 인덱스, pg_trgm 인덱스)은 DB 마이그레이션(db/migration)이 만들고 DB가 관리하므로
+ * 작성/수정/삭제 시 할 일이 없음
+ */
+public class PostgresSearchBackend implements SearchBackend {
+    private static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+    /**
+     * ts_rank(정규화 옵션 없음) rank 기준값 (검색어가 한두 번 나오는 문서의 rank 정도)
+     * 제목 유사도(0~1)도 이 값을 곱해 같은 척도로 맞춤
+     */
+    private static final float RANK_SCALE = 0.1f;
+
+    private final JPAQueryFactory queryFactory;
+    private final boolean fuzzyEnabled;
+    private final int fuzzyMinMatches;
+
+    public PostgresSearchBackend(JPAQueryFactory queryFactory, boolean fuzzyEnabled, int fuzzyMinMatches) {
+        this.queryFactory = queryFactory;
+        this.fuzzyEnabled = fuzzyEnabled;
+        this.fuzzyMinMatches = fuzzyMinMatches;
+    }
+
+    @Override
+    public KeywordMatch match(SearchTarget target, EntityPath<?> entity, NumberPath<Long> idPath,
+                              StringPath titlePath, StringPath searchVector, String keyword,
+                              Predicate filter, Integer timeoutMillis) {
+        StringTemplate tsQuery = Expressions.stringTemplate(
+                "websearch_to_tsquery('simple', {0})", keyword
+        );
+        BooleanExpression keywordCondition = Expressions.booleanTemplate(
+                "pgfts({0}, {1})",
+                searchVector, tsQuery
+        );
+        NumberTemplate<Float> rank = Expressions.numberTemplate(
+                Float.class,
+                "tsrank({0}, {1})",
+                searchVector, tsQuery
+        );
+
+        // 전문 검색 결과가 기준보다 적으면 제목 trigram 유사도 검색으로 보완하고 유사도 순으로 정렬
+        // (제목이 검색어와 같으면 rank 기준값이 되도록 유사도에 기준값을 곱함)
+        if (needsFuzzyFallback(entity, idPath, keywordCondition, filter, timeoutMillis)) {
+            BooleanExpression similarCondition = Expressions.booleanTemplate(
+                    "trgm_word_match({0}, {1})",
+                    keyword, titlePath
+            );
+            NumberExpression<Float> similarity = Expressions.numberTemplate(
+                    Float.class,
+                    "trgm_word_similarity({0}, {1})",
+                    keyword, titlePath
+            ).multiply(RANK_SCALE);
+            return new KeywordMatch(keywordCondition.or(similarCondition), similarity);
+        }
+        return new KeywordMatch(keywordCondition, rank);
+    }
+
+    @Override
+    public float rankScale() {
+        return RANK_SCALE;
+    }
+
+    /**
+     * 키워드 외 조건(카테고리 등)을 함께 적용한 전문 검색 결과가 search.fuzzy.min-matches개보다 적은지 확인
+     * 기준 개수만큼만 조회하므로 결과가 많은 검색어는 바로 멈춤
+     */
+    private boolean needsFuzzyFallback(EntityPath<?> entity, NumberPath<Long> idPath, BooleanExpression keywordCondition,
+                                       Predicate filter, Integer timeoutMillis) {
+        if (!fuzzyEnabled || fuzzyMinMatches <= 0) return false;
+
+        JPAQuery<Long> query = queryFactory
+                .select(idPath)
+                .from(entity)
+                .where(keywordCondition, filter)
+                .limit(fuzzyMinMatches);
+        if (timeoutMillis != null) {
+            query.setHint(QUERY_TIMEOUT_HINT, timeoutMillis);
+        }
+        return query.fetch().size() < fuzzyMinMatches;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.sunday.devfolio.repository.search;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import io.github.sunday.devfolio.enums.common.SearchTarget;
+
+/**
+ * 포트폴리오, 커뮤니티 게시글 키워드 검색 방식
+ * QueryDSL 리포지토리는 이 인터페이스로 키워드 조건과 rank를 만들어 나머지 조건, 정렬, 페이지네이션과 결합
+ * PostgreSQL이면 전문 검색(tsvector), 그 외 DB면 메모리 역색인 구현을 사용 (SearchBackendConfig)
+ */
+public interface SearchBackend {
+
+    /**
+     * 키워드 검색 조건과 rank 생성
+     * 검색 방식에 따라 조건을 정하기 위해 DB를 조회할 수 있으므로 한 요청에서 한 번만 호출하고
+     * 같은 요청의 목록, 개수 쿼리는 반환된 KeywordMatch를 함께 사용
+     *
+     * @param target        검색 대상
+     * @param entity        검색 대상 엔티티 경로
+     * @param idPath        대상 IDX 경로
+     * @param titlePath     제목 경로
+     * @param searchVector  tsvector 컬럼 경로
+     * @param keyword       검색어 (비어 있지 않음)
+     * @param filter        함께 적용할 키워드 외 조건 (카테고리 등, 없으면 null)
+     * @param timeoutMillis DB 조회 제한 시간 (없으면 null)
+     */
+    KeywordMatch match(SearchTarget target, EntityPath<?> entity, NumberPath<Long> idPath,
+                       StringPath titlePath, StringPath searchVector, String keyword,
+                       Predicate filter, Integer timeoutMillis);
+
+    /**
+     * rank 기준값 (통합 검색에서 대상 간 점수를 맞추는 데 사용)
+     * 이 검색 방식으로 찾은 문서의 rank가 보통 어느 정도인지를 나타내며, rank가 이 값이면 통합 검색 점수 0.5
+     */
+    float rankScale();
+
+    /**
+     * 대상 추가 또는 변경 반영 (DB가 색인을 관리하면 아무것도 하지 않음)
+     */
+    default void index(SearchTarget target, Long idx, String title, String body) {
+    }
+
+    /**
+     * 대상 삭제 반영 (DB가 색인을 관리하면 아무것도 하지 않음)
+     */
+    default void remove(SearchTarget target, Long idx) {
+    }
+}
@@ -1,7 +1,14 @@
 package io.github.sunday.devfolio.repository.user;
 
+import io.github.sunday.devfolio.dto.common.SuggestionDto;
+import io.github.sunday.devfolio.dto.user.WriterDto;
 import io.github.sunday.devfolio.entity.table.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -48,4 +55,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserIdx(Long userIdx);
 
     boolean existsByNicknameAndUserIdxNot(String nickname, Long userIdx);
+
+    /**
+     * 여러 사용자의 작성자 요약 정보(식별자, 닉네임, 프로필 이미지)만 조회합니다.
+     *
+     * @param userIdxList 조회할 사용자 식별자 목록
+     * @return 작성자 요약 정보 목록
+     */
+    @Query("select new io.github.sunday.devfolio.dto.user.WriterDto(u.userIdx, u.nickname, u.profileImg) " +
+            "from User u where u.userIdx in :userIdxList")
+    List<WriterDto> findWritersByUserIdxIn(@Param("userIdxList") Collection<Long> userIdxList);
+
+    /**
+     * 자동완성 색인용 사용자 식별자, 닉네임을 조회합니다.
+     *
+     * @return 사용자 자동완성 항목 목록
+     */
+    @Query("select new io.github.sunday.devfolio.dto.common.SuggestionDto('user', u.userIdx, u.nickname) " +
+            "from User u")
+    List<SuggestionDto> findSuggestions();
 }
\ No newline at end of file
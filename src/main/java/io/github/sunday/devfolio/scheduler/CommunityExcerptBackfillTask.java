@@ -0,0 +1,37 @@
+package io.github.sunday.devfolio.scheduler;
+
+import io.github.sunday.devfolio.entity.table.community.CommunityPost;
+import io.github.sunday.devfolio.repository.community.CommunityPostRepository;
+import io.github.sunday.devfolio.utils.HtmlTextUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 본문 요약 컬럼 추가 이전에 작성된 게시글의 요약을 생성하는 작업
+ * 애플리케이션 시작 시 요약이 없는 게시글을 100개씩 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class CommunityExcerptBackfillTask {
+
+    private final CommunityPostRepository communityPostRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            List<CommunityPost> posts = communityPostRepository.findTop100ByExcerptIsNull();
+            while (!posts.isEmpty()) {
+                for (CommunityPost post : posts) {
+                    communityPostRepository.updateExcerpt(post.getPostIdx(), HtmlTextUtils.toExcerpt(post.getContent()));
+                }
+                posts = communityPostRepository.findTop100ByExcerptIsNull();
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
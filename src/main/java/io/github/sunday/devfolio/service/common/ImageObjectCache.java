@@ -0,0 +1,136 @@
+package io.github.sunday.devfolio.service.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 자주 조회되는 작은 이미지를 메모리에 캐시하는 서비스
+ * 이미지 프록시(/img)에서 인기 썸네일을 저장소 요청 없이 응답하기 위해 사용
+ * 캐시 전체 크기(max-bytes)를 넘으면 가장 오래 사용하지 않은 이미지부터 제거하고,
+ * 큰 이미지(max-object-bytes 초과)는 캐시하지 않음
+ * 키의 내용은 바뀌지 않으므로(내용 기반 키, 임의 이름) 유효 시간 없이 보관
+ */
+@Service
+public class ImageObjectCache {
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxBytes;
+    private final int maxObjectBytes;
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public ImageObjectCache(
+            MeterRegistry meterRegistry,
+            @Value("${image-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${image-cache.max-object-bytes:262144}") int maxObjectBytes
+    ) {
+        this.maxBytes = maxBytes;
+        this.maxObjectBytes = (int) Math.min(maxObjectBytes, maxBytes);
+        Gauge.builder("devfolio.image.cache.bytes", this, ImageObjectCache::bytes)
+                .description("캐시된 이미지 크기 합")
+                .register(meterRegistry);
+        Gauge.builder("devfolio.image.cache.size", this, ImageObjectCache::size)
+                .description("캐시된 이미지 수")
+                .register(meterRegistry);
+        this.hits = Counter.builder("devfolio.image.cache.requests")
+                .description("이미지 캐시 요청 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("devfolio.image.cache.requests")
+                .description("이미지 캐시 요청 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("devfolio.image.cache.evictions")
+                .description("캐시 크기 제한으로 제거된 이미지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 이미지 조회
+     *
+     * @return 캐시된 이미지 (없으면 null)
+     */
+    public Entry get(String key) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        (entry != null ? hits : misses).increment();
+        return entry;
+    }
+
+    /**
+     * 캐시할 수 있는 크기인지 확인 (저장소에서 읽기 전에 크기로 판단)
+     */
+    public boolean isCacheable(long contentLength) {
+        return contentLength >= 0 && contentLength <= maxObjectBytes;
+    }
+
+    /**
+     * 이미지 저장
+     * 전체 크기를 넘으면 가장 오래 사용하지 않은 이미지부터 제거
+     */
+    public void put(String key, Entry entry) {
+        if (!isCacheable(entry.getBody().length)) return;
+
+        int evicted = 0;
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                totalBytes -= previous.getBody().length;
+            }
+            totalBytes += entry.getBody().length;
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                totalBytes -= eldest.next().getBody().length;
+                eldest.remove();
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            evictions.increment(evicted);
+        }
+    }
+
+    /**
+     * 삭제된 이미지를 캐시에서 제거
+     */
+    public synchronized void evict(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.getBody().length;
+        }
+    }
+
+    private synchronized double bytes() {
+        return totalBytes;
+    }
+
+    private synchronized double size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시된 이미지 본문과 응답 헤더 값
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final byte[] body;
+        private final String contentType;
+        private final String eTag;
+        private final long lastModified;
+    }
+}
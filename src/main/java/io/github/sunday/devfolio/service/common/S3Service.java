@@ -1,125 +1,149 @@
 package io.github.sunday.devfolio.service.common;
 
-import org.apache.commons.io.FilenameUtils;
+import io.github.sunday.devfolio.dto.common.StorageBatchResult;
+import io.github.sunday.devfolio.service.storage.StorageBackend;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.S3Utilities;
-import software.amazon.awssdk.services.s3.model.*;
-
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import org.springframework.web.util.UriUtils;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Amazon AWS S3 파일 관리를 위한 서비스
+ * 파일 관리를 위한 서비스
+ * 실제 저장은 StorageBackend(AWS S3 또는 로컬 디스크)에 위임하고, 저장소와 관계없이 같은 메트릭을 기록
+ * 업로드는 CompletableFuture로 결과를 반환해 여러 업로드를 동시에 진행할 수 있음
+ * 이미지 프록시(image.proxy.enabled)를 사용하면 파일 URL은 저장소 주소 대신 /img 경로로 생성
  */
 @Service
 public class S3Service {
 
-    private final S3Client s3Client;
-    private final String bucketName;
-
     /**
-     * AWS S3 버킷 연결
+     * 이미지 프록시 경로 (ImageProxyController)
      */
-    public S3Service(
-            @Value("${aws.access-key-id}") String accessKey,
-            @Value("${aws.secret-access-key}") String secretKey,
-            @Value("${aws.region}") String region,
-            @Value("${aws.s3.bucket-name}") String bucketName) {
-
-        this.bucketName = bucketName;
+    public static final String IMAGE_PROXY_PATH = "/img";
 
-        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+    private final StorageBackend storageBackend;
+    private final ImageObjectCache imageObjectCache;
+    private final boolean proxyEnabled;
+    private final AtomicInteger inFlightUploads = new AtomicInteger();
+    private final Timer uploadTimer;
 
-        this.s3Client = S3Client.builder()
-                .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                .build();
+    public S3Service(
+            StorageBackend storageBackend,
+            ImageObjectCache imageObjectCache,
+            MeterRegistry meterRegistry,
+            @Value("${image.proxy.enabled:true}") boolean proxyEnabled
+    ) {
+        this.storageBackend = storageBackend;
+        this.imageObjectCache = imageObjectCache;
+        this.proxyEnabled = proxyEnabled;
+        Gauge.builder("devfolio.storage.upload.in-flight", inFlightUploads, AtomicInteger::get)
+                .description("진행 중인 업로드 수")
+                .tag("backend", storageBackend.name())
+                .register(meterRegistry);
+        this.uploadTimer = Timer.builder("devfolio.storage.upload")
+                .description("업로드 소요 시간")
+                .tag("backend", storageBackend.name())
+                .register(meterRegistry);
     }
 
     /**
-     * 파일 업로드
+     * 파일 업로드 (완료될 때까지 대기)
      */
-    public String uploadFile(MultipartFile file, String fileFullPath, boolean isTemp) throws IOException {
-        String contentType = "image/" + FilenameUtils.getExtension(fileFullPath);
-        PutObjectRequest request = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(fileFullPath)
-                .contentType(contentType)
-                .tagging(isTemp ? "lifecycle=TEMP" : null)
-                .build();
+    public String uploadFile(InputStream inputStream, long contentLength, String fileFullPath, String contentType, boolean isTemp) {
+        try {
+            return uploadFileAsync(inputStream, contentLength, fileFullPath, contentType, isTemp).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
-        s3Client.putObject(request, RequestBody.fromBytes(file.getBytes()));
-        return getFileUrl(fileFullPath);
+    /**
+     * 파일 비동기 업로드
+     * 스트림은 반환된 작업이 끝날 때까지 닫거나 재사용하면 안 됨
+     *
+     * @return 업로드한 파일 URL
+     */
+    public CompletableFuture<String> uploadFileAsync(InputStream inputStream, long contentLength, String fileFullPath, String contentType, boolean isTemp) {
+        long start = System.nanoTime();
+        inFlightUploads.incrementAndGet();
+        CompletableFuture<Void> upload;
+        try {
+            upload = storageBackend.put(fileFullPath, inputStream, contentLength, contentType, isTemp);
+        } catch (RuntimeException e) {
+            upload = CompletableFuture.failedFuture(e);
+        }
+        return upload
+                .whenComplete((done, error) -> {
+                    inFlightUploads.decrementAndGet();
+                    uploadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                })
+                .thenApply(done -> getFileUrl(fileFullPath));
     }
 
     /**
      * 파일 URL 생성하기
      */
     public String getFileUrl(String fileName) {
-        S3Utilities s3Utilities = s3Client.utilities();
-        GetUrlRequest request = GetUrlRequest.builder()
-                .bucket(bucketName)
-                .key(fileName)
-                .build();
+        if (!proxyEnabled) {
+            return storageBackend.getUrl(fileName);
+        }
+        StringBuilder url = new StringBuilder(IMAGE_PROXY_PATH);
+        for (String segment : fileName.split("/")) {
+            url.append('/').append(UriUtils.encodePathSegment(segment, StandardCharsets.UTF_8));
+        }
+        return url.toString();
+    }
 
-        return s3Utilities.getUrl(request).toString();
+    /**
+     * 파일 URL에서 키 추출하기
+     * 프록시 URL과 저장소 URL(프록시 사용 전에 저장된 URL) 모두 처리
+     */
+    public String getFileKey(String url) {
+        String path = URI.create(url).getPath();
+        if (path != null && path.startsWith(IMAGE_PROXY_PATH + "/")) {
+            return path.substring(IMAGE_PROXY_PATH.length() + 1);
+        }
+        return storageBackend.getKey(url);
     }
 
     /**
-     * 파일 제거하기
+     * 여러 파일 한 번에 제거하기
+     * 키별 실패는 결과에 담아 반환 (예외를 던지지 않음)
      */
-    public void deleteFile(String fileName) {
-        DeleteObjectRequest request = DeleteObjectRequest.builder()
-                .bucket(bucketName)
-                .key(fileName)
-                .build();
+    public StorageBatchResult deleteFiles(Collection<String> fileNames) {
+        StorageBatchResult result = storageBackend.delete(fileNames);
+        result.getSucceeded().forEach(imageObjectCache::evict);
+        return result;
+    }
 
-        s3Client.deleteObject(request);
+    /**
+     * 여러 파일의 태그를 주어진 태그 세트로 교체하기
+     * 원하는 태그 세트를 알고 있을 때 사용하며, 키별 실패는 결과에 담아 반환 (예외를 던지지 않음)
+     */
+    public StorageBatchResult replaceObjectTags(Collection<String> fileNames, Map<String, String> tags) {
+        return storageBackend.replaceTags(fileNames, tags);
     }
 
+    /**
+     * 파일 태그 하나를 추가하거나 변경하기
+     * 다른 태그를 유지해야 하므로 기존 태그를 조회한 뒤 교체 (태그 세트를 알고 있으면 replaceObjectTags 사용)
+     */
     public void updateObjectTags(String fileName, String newTagKey, String newTagValue) {
-        // 객체의 현재 태그 가져오기
-        GetObjectTaggingRequest getTaggingRequest = GetObjectTaggingRequest.builder()
-                .bucket(bucketName)
-                .key(fileName)
-                .build();
-
-        GetObjectTaggingResponse getTaggingResponse = s3Client.getObjectTagging(getTaggingRequest);
-
-        // 기존 태그 목록 가져오기
-        List<Tag> tags = new ArrayList<>(getTaggingResponse.tagSet());
-
-        // 새로운 태그 추가 또는 기존 태그 업데이트
-        boolean tagUpdated = false;
-        for (Tag tag : tags) {
-            if (tag.key().equals(newTagKey)) {
-                tags.remove(tag);
-                tags.add(Tag.builder().key(newTagKey).value(newTagValue).build());
-                tagUpdated = true;
-                break;
-            }
-        }
-        if (!tagUpdated) {
-            tags.add(Tag.builder().key(newTagKey).value(newTagValue).build());
-        }
-
-        // 새로운 태그 세트로 객체 태그 업데이트
-        PutObjectTaggingRequest putTaggingRequest = PutObjectTaggingRequest.builder()
-                .bucket(bucketName)
-                .key(fileName)
-                .tagging(Tagging.builder().tagSet(tags).build())
-                .build();
-
-        // 응답 로그 출력
-        PutObjectTaggingResponse response = s3Client.putObjectTagging(putTaggingRequest);
+        storageBackend.updateTag(fileName, newTagKey, newTagValue);
     }
-
 }
@@ -0,0 +1,159 @@
+package io.github.sunday.devfolio.service.common;
+
+import io.github.sunday.devfolio.dto.common.SearchIdPage;
+import io.github.sunday.devfolio.enums.common.SearchTarget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 포트폴리오, 커뮤니티 검색 결과 페이지를 메모리에 캐시하는 서비스
+ * 정규화한 검색 조건을 키로 결과 IDX 목록만 저장하고, 짧은 유효 시간과 최대 개수(LRU)로 크기를 제한
+ * 작성/수정/삭제 시 트랜잭션이 커밋된 뒤 대상별로 캐시를 비움
+ */
+@Service
+public class SearchResultCache {
+    private final Map<SearchTarget, Region> regions = new EnumMap<>(SearchTarget.class);
+    private final long ttlMillis;
+
+    public SearchResultCache(
+            MeterRegistry meterRegistry,
+            @Value("${search-cache.max-entries:500}") int maxEntries,
+            @Value("${search-cache.ttl-ms:30000}") long ttlMillis
+    ) {
+        this.ttlMillis = ttlMillis;
+        for (SearchTarget target : SearchTarget.values()) {
+            Region region = new Region(maxEntries, meterRegistry, target);
+            regions.put(target, region);
+            Gauge.builder("devfolio.search.cache.size", region, Region::size)
+                    .description("캐시된 검색 결과 페이지 수")
+                    .tag("target", target.getTargetName())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 캐시된 검색 결과 조회
+     * 없거나 만료되었으면 loader로 조회해서 저장
+     */
+    public SearchIdPage get(SearchTarget target, String key, Supplier<SearchIdPage> loader) {
+        Region region = regions.get(target);
+        long now = System.currentTimeMillis();
+
+        Entry cached = region.get(key);
+        if (cached != null && now - cached.getCachedAt() < ttlMillis) {
+            region.hits.increment();
+            return cached.getPage();
+        }
+        region.misses.increment();
+
+        // 조회 중에 캐시가 비워졌으면 이전 결과일 수 있으므로 저장하지 않음
+        long generation = region.generation();
+        SearchIdPage page = loader.get();
+        region.putIfGeneration(key, new Entry(page, now), generation);
+        return page;
+    }
+
+    /**
+     * 작성/수정/삭제로 검색 결과가 바뀌었을 때 대상의 캐시 비우기
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 비움 (커밋 전에 비우면 그 사이의 검색이 이전 결과를 다시 캐시)
+     */
+    public void invalidate(SearchTarget target) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateNow(target);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateNow(target);
+            }
+        });
+    }
+
+    private void invalidateNow(SearchTarget target) {
+        Region region = regions.get(target);
+        region.clear();
+        region.invalidations.increment();
+    }
+
+    /**
+     * 대상별 캐시 영역
+     * 접근 순서 LinkedHashMap으로 최대 개수를 넘으면 가장 오래 사용하지 않은 항목 제거
+     */
+    private static class Region {
+        private final Map<String, Entry> entries;
+        private long generation;
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter invalidations;
+
+        Region(int maxEntries, MeterRegistry meterRegistry, SearchTarget target) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+            this.hits = Counter.builder("devfolio.search.cache.requests")
+                    .description("검색 결과 캐시 요청 수")
+                    .tag("target", target.getTargetName())
+                    .tag("result", "hit")
+                    .register(meterRegistry);
+            this.misses = Counter.builder("devfolio.search.cache.requests")
+                    .description("검색 결과 캐시 요청 수")
+                    .tag("target", target.getTargetName())
+                    .tag("result", "miss")
+                    .register(meterRegistry);
+            this.invalidations = Counter.builder("devfolio.search.cache.invalidations")
+                    .description("검색 결과 캐시 초기화 수")
+                    .tag("target", target.getTargetName())
+                    .register(meterRegistry);
+        }
+
+        synchronized Entry get(String key) {
+            return entries.get(key);
+        }
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        /**
+         * 조회를 시작한 뒤 캐시가 비워지지 않았을 때만 저장 (비우기와 같은 잠금 안에서 비교)
+         */
+        synchronized void putIfGeneration(String key, Entry entry, long expectedGeneration) {
+            if (generation == expectedGeneration) {
+                entries.put(key, entry);
+            }
+        }
+
+        synchronized void clear() {
+            generation++;
+            entries.clear();
+        }
+
+        synchronized double size() {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 캐시된 결과 페이지와 저장 시점
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final SearchIdPage page;
+        private final long cachedAt;
+    }
+}
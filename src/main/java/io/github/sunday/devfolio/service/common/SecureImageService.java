@@ -1,92 +1,334 @@
 package io.github.sunday.devfolio.service.common;
 
 import io.github.sunday.devfolio.dto.common.ImageUploadResult;
-import io.github.sunday.devfolio.dto.common.MultipartImage;
+import io.github.sunday.devfolio.entity.table.image.StoredImage;
 import io.github.sunday.devfolio.enums.common.ImageTarget;
 import io.github.sunday.devfolio.exception.common.ImageUploadException;
 import io.github.sunday.devfolio.exception.common.ImageValidationException;
 import io.github.sunday.devfolio.exception.common.IncorrectImageTargetException;
-import lombok.RequiredArgsConstructor;
-import marvin.image.MarvinImage;
+import io.github.sunday.devfolio.service.image.ImagePipeline;
+import io.github.sunday.devfolio.service.image.ImageProcessingQueue;
+import io.github.sunday.devfolio.service.image.PreparedImage;
+import io.github.sunday.devfolio.service.image.ProcessedImage;
+import io.github.sunday.devfolio.utils.ImageVariantUtils;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.tika.Tika;
-import org.marvinproject.image.transform.scale.Scale;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 이미지 파일을 검증하는 공통 서비스
  */
 @Service
-@RequiredArgsConstructor
 public class SecureImageService {
 
-    private static final long MAX_FILE_SIZE = 1000 * 1024 * 1024; // 100MB
-    private static final Set<String> ALLOWED_MIME_TYPES = Set.of(
-            "image/jpeg",
-            "image/jpg",
-            "image/png",
-            "image/gif",
-            "image/webp"
-    );
+    private static final long MAX_FILE_SIZE = 100 * 1024 * 1024; // 100MB
     private static final Set<String> ALLOWED_EXTENSIONS = Set.of(
             "jpg", "jpeg", "png", "gif", "webp"
     );
 
-    private final Tika tika = new Tika();
+    /**
+     * 내용 기반 키 경로 (images/{SHA-256}.{확장자})
+     */
+    private static final String CONTENT_KEY_PREFIX = "images/";
+
     private final S3Service s3Service;
+    private final StoredImageService storedImageService;
+    private final StorageDeletionService storageDeletionService;
+    private final ImagePipeline imagePipeline;
+    private final ImageProcessingQueue imageProcessingQueue;
+    private final long editorWaitMillis;
 
+    /**
+     * 썸네일 업로드 시 함께 만들 크기별 이미지 너비
+     */
+    private final List<Integer> variantWidths;
+
+    public SecureImageService(
+            S3Service s3Service,
+            StoredImageService storedImageService,
+            StorageDeletionService storageDeletionService,
+            ImagePipeline imagePipeline,
+            ImageProcessingQueue imageProcessingQueue,
+            @Value("${image.queue.editor-wait-ms:3000}") long editorWaitMillis,
+            @Value("${image.variant.widths:320,640,1280}") String variantWidths
+    ) {
+        this.s3Service = s3Service;
+        this.storedImageService = storedImageService;
+        this.storageDeletionService = storageDeletionService;
+        this.imagePipeline = imagePipeline;
+        this.imageProcessingQueue = imageProcessingQueue;
+        this.editorWaitMillis = editorWaitMillis;
+        this.variantWidths = ImageVariantUtils.parseWidths(variantWidths);
+    }
+
+    /**
+     * 에디터 이미지 임시 업로드
+     * 처리가 image.queue.editor-wait-ms 안에 끝나지 않으면 기다리지 않고 처리 중(pending) 결과 반환
+     */
     public ImageUploadResult uploadTempImage(MultipartFile file, String target, Long userIdx) throws Exception {
         String targetPath = ImageTarget.fromFieldName(target).getTargetName();
         if (targetPath == null) throw new IncorrectImageTargetException("incorrect image target path name");
         String filePath = userIdx + "/" + targetPath;
 
-        return uploadImage(file, filePath, true);
+        return uploadImage(file, filePath, true, List.of(), editorWaitMillis);
     }
 
     /**
      * AWS S3에 파일 검증 후 이미지 파일 업로드
+     * 업로드가 끝날 때까지 대기
      */
     public ImageUploadResult uploadImage(MultipartFile file, String filePath, boolean isTemp) throws ImageUploadException {
+        return uploadImage(file, filePath, isTemp, List.of(), -1);
+    }
+
+    /**
+     * 업로드를 시작하고 완료를 기다리지 않고 반환
+     * 검증, 원본 읽기는 요청 스레드에서 끝내므로 여러 업로드를 동시에 진행할 수 있음
+     *
+     * @param withVariants 크기별 이미지(image.variant.widths)와 미리보기를 함께 만들지 여부
+     *                     (크기별 이미지는 ImageVariantUtils.variantKey로 만든 키에 저장)
+     * @return 업로드 결과 (처리 또는 업로드에 실패하면 해당 예외로 완료)
+     * @throws ImageUploadException 검증에 실패했거나 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<ImageUploadResult> uploadImageAsync(MultipartFile file, String filePath, boolean isTemp,
+                                                                 boolean withVariants) throws ImageUploadException {
+        try {
+            return submitUpload(file, filePath, isTemp, withVariants ? variantWidths : List.of(), new ImageUploadResult());
+        } catch (Exception e) {
+            throw new ImageUploadException("이미지 업로드 실패", e);
+        }
+    }
+
+    /**
+     * 업로드를 시작하고 완료를 기다림
+     *
+     * @param variantWidths 함께 만들 크기별 이미지 너비
+     * @param waitMillis 처리 완료를 기다릴 최대 시간 (음수면 끝날 때까지 대기)
+     */
+    private ImageUploadResult uploadImage(MultipartFile file, String filePath, boolean isTemp,
+                                          List<Integer> variantWidths, long waitMillis) throws ImageUploadException {
+        try {
+            ImageUploadResult submitted = new ImageUploadResult();
+            CompletableFuture<ImageUploadResult> upload = submitUpload(file, filePath, isTemp, variantWidths, submitted);
+
+            if (waitMillis < 0) {
+                return upload.get();
+            }
+            try {
+                return upload.get(waitMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 처리 중이면 키, URL만 채운 결과 반환
+                upload.exceptionally(error -> {
+                    error.printStackTrace();
+                    return null;
+                });
+                submitted.setPending(true);
+                return submitted;
+            }
+        } catch (ExecutionException e) {
+            throw new ImageUploadException("이미지 업로드 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageUploadException("이미지 업로드 실패", e);
+        } catch (Exception e) {
+            throw new ImageUploadException("이미지 업로드 실패", e);
+        }
+    }
+
+    /**
+     * 원본 읽기, 형식/크기 확인은 요청 스레드에서 처리하고
+     * 디코딩, 리사이징은 이미지 처리 대기열에서, S3 업로드는 비동기 클라이언트에서 처리
+     * 임시 파일이 아니면 내용 기반 키로 저장하고, 같은 원본이 이미 저장되어 있으면 처리와 업로드를 건너뜀
+     *
+     * @param submitted 키, URL 등 제출 시점에 정해지는 값을 채울 결과
+     * @return 처리 결과(크기, 크기별 이미지, 미리보기)까지 채운 결과
+     */
+    private CompletableFuture<ImageUploadResult> submitUpload(MultipartFile file, String filePath, boolean isTemp,
+                                                              List<Integer> variantWidths, ImageUploadResult submitted) throws IOException {
+        PreparedImage prepared = null;
         try {
             // 파일 검증
             validateFile(file);
 
-            // 안전한 파일명 생성
-            String safeFileName = generateSafeFileName(file.getOriginalFilename());
-            String fileFormatName = file.getContentType().substring(file.getContentType().lastIndexOf("/") + 1);
-
-            // 이미지 리사이징
-            MultipartFile resizedImage = resizeImage(file, fileFormatName);
+            // 원본 읽기, 형식 확인, 헤더 확인 (디코딩 전)
+            prepared = imagePipeline.prepare(file, MAX_FILE_SIZE);
+
+            submitted.setOriginalFileName(file.getOriginalFilename());
+            submitted.setFileSize(file.getSize());
+            submitted.setUploadedAt(ZonedDateTime.now());
+
+            if (!isTemp) {
+                // 같은 원본, 같은 처리 조건으로 저장된 이미지가 있으면 그대로 사용
+                String sourceHash = prepared.sourceSha256(Objects.toString(ImageVariantUtils.joinWidths(variantWidths), "") + ":");
+                StoredImage stored = storedImageService.acquireBySource(sourceHash);
+                if (stored != null) {
+                    return CompletableFuture.completedFuture(toResult(stored, submitted));
+                }
+
+                PreparedImage job = prepared;
+                CompletableFuture<CompletableFuture<StoredImage>> processing = imageProcessingQueue.submit(
+                        () -> processAndStore(job, sourceHash, variantWidths)
+                );
+                prepared = null;
+
+                return processing
+                        .thenCompose(store -> store)
+                        .thenApply(storedImage -> toResult(storedImage, submitted));
+            }
 
-            // S3 업로드
+            // 임시 파일은 수명 주기 태그로 관리되므로 사용자 경로에 임의 이름으로 저장
+            String safeFileName = generateSafeFileName(file.getOriginalFilename(), prepared.getExtension());
             String fileFullPath = String.format("%s/%s", filePath, safeFileName);
+            submitted.setS3Key(fileFullPath);
+            submitted.setImageUrl(s3Service.getFileUrl(fileFullPath));
+
+            // 대기열에 제출 (원본 버퍼는 작업에서 반납)
+            PreparedImage job = prepared;
+            CompletableFuture<CompletableFuture<ImageUploadResult>> processing = imageProcessingQueue.submit(
+                    () -> processAndUpload(job, fileFullPath, isTemp, variantWidths)
+            );
+            prepared = null;
+
+            return processing
+                    .thenCompose(upload -> upload)
+                    .thenApply(result -> {
+                        result.setOriginalFileName(submitted.getOriginalFileName());
+                        result.setS3Key(submitted.getS3Key());
+                        result.setImageUrl(submitted.getImageUrl());
+                        result.setFileSize(submitted.getFileSize());
+                        result.setUploadedAt(submitted.getUploadedAt());
+                        return result;
+                    });
+        } finally {
+            if (prepared != null) {
+                prepared.close();
+            }
+        }
+    }
+
+    /**
+     * 디코딩, 리사이징, 인코딩 후 버퍼에서 바로 S3 업로드 시작 (이미지 처리 스레드에서 실행)
+     */
+    private CompletableFuture<ImageUploadResult> processAndUpload(PreparedImage prepared, String fileFullPath, boolean isTemp,
+                                                                  List<Integer> variantWidths) throws IOException {
+        ProcessedImage image;
+        try (prepared) {
+            image = imagePipeline.process(prepared, variantWidths);
+        }
+
+        return uploadAll(image, fileFullPath, isTemp)
+                .thenApply(done -> ImageUploadResult.builder()
+                        .width(image.getWidth())
+                        .height(image.getHeight())
+                        .variantWidths(image.getVariants().stream().map(ProcessedImage.Variant::getWidth).toList())
+                        .placeholder(image.getPlaceholder())
+                        .build());
+    }
 
-            String imageUrl = s3Service.uploadFile(resizedImage, fileFullPath, isTemp);
+    /**
+     * 처리 후 결과 바이트의 SHA-256으로 만든 키에 저장 (이미지 처리 스레드에서 실행)
+     * 다른 원본에서 같은 결과가 나와 이미 저장되어 있으면 업로드하지 않고 참조 수만 증가
+     */
+    private CompletableFuture<StoredImage> processAndStore(PreparedImage prepared, String sourceHash,
+                                                           List<Integer> variantWidths) throws IOException {
+        ProcessedImage image;
+        try (prepared) {
+            image = imagePipeline.process(prepared, variantWidths);
+        }
 
-            return ImageUploadResult.builder()
-                    .originalFileName(file.getOriginalFilename())
-                    .s3Key(fileFullPath)
-                    .imageUrl(imageUrl)
-                    .fileSize(file.getSize())
-                    .uploadedAt(ZonedDateTime.now())
+        try {
+            String contentHash = image.sha256();
+            StoredImage existing = storedImageService.acquire(contentHash);
+            if (existing != null) {
+                image.close();
+                return CompletableFuture.completedFuture(existing);
+            }
+
+            StoredImage stored = StoredImage.builder()
+                    .contentHash(contentHash)
+                    .sourceHash(sourceHash)
+                    .s3Key(CONTENT_KEY_PREFIX + contentHash + "." + image.getExtension())
+                    .contentType(image.getContentType())
+                    .fileSize(image.getLength())
+                    .width(image.getWidth())
+                    .height(image.getHeight())
+                    .variantWidths(ImageVariantUtils.joinWidths(
+                            image.getVariants().stream().map(ProcessedImage.Variant::getWidth).toList()))
+                    .placeholder(image.getPlaceholder())
                     .build();
+            // 같은 키의 이전 파일이 삭제 재시도 대상이면 새로 올린 파일이 삭제되지 않도록 기록 제거
+            List<String> keys = new ArrayList<>();
+            keys.add(stored.getS3Key());
+            image.getVariants().forEach(variant -> keys.add(ImageVariantUtils.variantKey(stored.getS3Key(), variant.getWidth())));
+            storageDeletionService.cancel(keys);
+
+            return uploadAll(image, stored.getS3Key(), false)
+                    .thenApply(done -> storedImageService.register(stored));
+        } catch (RuntimeException e) {
+            image.close();
+            throw e;
+        }
+    }
 
-        } catch (Exception e) {
-            throw new ImageUploadException("이미지 업로드 실패", e);
+    /**
+     * 처리 결과와 크기별 이미지를 동시에 업로드
+     * 이미지 처리 스레드는 전송을 기다리지 않고, 버퍼는 업로드가 모두 끝나면 반납
+     */
+    private CompletableFuture<Void> uploadAll(ProcessedImage image, String fileFullPath, boolean isTemp) {
+        List<CompletableFuture<String>> uploads = new ArrayList<>();
+        try {
+            uploads.add(s3Service.uploadFileAsync(
+                    image.openStream(), image.getLength(), fileFullPath, image.getContentType(), isTemp
+            ));
+            for (ProcessedImage.Variant variant : image.getVariants()) {
+                uploads.add(s3Service.uploadFileAsync(
+                        variant.openStream(), variant.getLength(),
+                        ImageVariantUtils.variantKey(fileFullPath, variant.getWidth()), image.getContentType(), isTemp
+                ));
+            }
+        } catch (RuntimeException e) {
+            // 시작한 업로드가 끝난 뒤 버퍼 반납
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).whenComplete((done, error) -> image.close());
+            throw e;
         }
+
+        return CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+                .whenComplete((done, error) -> image.close());
+    }
+
+    /**
+     * 저장된 이미지 색인으로 업로드 결과 생성
+     */
+    private ImageUploadResult toResult(StoredImage stored, ImageUploadResult submitted) {
+        return ImageUploadResult.builder()
+                .originalFileName(submitted.getOriginalFileName())
+                .s3Key(stored.getS3Key())
+                .imageUrl(s3Service.getFileUrl(stored.getS3Key()))
+                .fileSize(submitted.getFileSize())
+                .uploadedAt(submitted.getUploadedAt())
+                .width(stored.getWidth())
+                .height(stored.getHeight())
+                .variantWidths(ImageVariantUtils.parseWidths(stored.getVariantWidths()))
+                .placeholder(stored.getPlaceholder())
+                .build();
     }
 
     /**
      * 파일 유효성 검사
+     * 내용을 읽지 않고 확인할 수 있는 항목만 검사 (형식, 이미지 크기는 ImagePipeline에서 검사)
      */
     private void validateFile(MultipartFile file) throws IOException {
         // 파일 존재 여부
@@ -104,35 +346,13 @@ public class SecureImageService {
         if (!ALLOWED_EXTENSIONS.contains(extension.toLowerCase())) {
             throw new ImageValidationException("허용되지 않은 파일 형식입니다.");
         }
-
-        // MIME 타입 검증 (Magic Number 기반)
-        String detectedMimeType = tika.detect(file.getInputStream());
-        if (!ALLOWED_MIME_TYPES.contains(detectedMimeType)) {
-            throw new ImageValidationException("허용되지 않은 파일 형식입니다.");
-        }
-
-        // 실제 이미지 파일인지 검증
-        try {
-            BufferedImage image = ImageIO.read(file.getInputStream());
-            if (image == null) {
-                throw new ImageValidationException("유효한 이미지 파일이 아닙니다.");
-            }
-
-            // 이미지 크기 제한
-            if (image.getWidth() > 5000 || image.getHeight() > 5000) {
-                throw new ImageValidationException("이미지 크기는 5000x5000 픽셀 이하여야 합니다.");
-            }
-        } catch (IOException e) {
-            throw new ImageValidationException("이미지 파일을 읽을 수 없습니다.");
-        }
     }
 
     /**
      * 파일 이름 생성하기
      */
-    private String generateSafeFileName(String originalFileName) {
+    private String generateSafeFileName(String originalFileName, String extension) {
         String baseName = FilenameUtils.getBaseName(originalFileName);
-        String extension = FilenameUtils.getExtension(originalFileName);
 
         // 특수문자 제거
         baseName = baseName.replaceAll("[^a-zA-Z0-9가-힣._-]", "");
@@ -141,47 +361,6 @@ public class SecureImageService {
         return String.format("%s_%s.%s",
                 baseName,
                 UUID.randomUUID().toString().substring(0, 8),
-                extension.toLowerCase());
-    }
-
-    /**
-     * 이미지 크기 조정
-     */
-    private MultipartFile resizeImage(MultipartFile file, String extensionName) throws IOException {
-        BufferedImage originalImage = ImageIO.read(file.getInputStream());
-
-        // 최대 너비/높이 설정
-        int maxDimension = 1920;
-
-        if (originalImage.getWidth() <= maxDimension &&
-                originalImage.getHeight() <= maxDimension) {
-            return file;
-        }
-
-        // 비율 유지하며 리사이징
-        double scale = Math.min(
-                (double) maxDimension / originalImage.getWidth(),
-                (double) maxDimension / originalImage.getHeight()
-        );
-
-        int newWidth = (int) (originalImage.getWidth() * scale);
-        int newHeight = (int) (originalImage.getHeight() * scale);
-
-        MarvinImage marvinImage = new MarvinImage(originalImage);
-
-        Scale imageScale = new Scale();
-        imageScale.load();
-        imageScale.setAttribute("newWidth", newWidth);
-        imageScale.setAttribute("newHeight", newHeight);
-        imageScale.process(marvinImage.clone(), marvinImage, null, null, false);
-
-        BufferedImage resizedImage = marvinImage.getBufferedImageNoAlpha();
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ImageIO.write(resizedImage, extensionName, baos);
-        baos.flush();
-
-        return MultipartImage.builder()
-                .bytes(baos.toByteArray())
-                .build();
+                extension);
     }
 }
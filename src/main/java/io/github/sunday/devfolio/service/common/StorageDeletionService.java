@@ -0,0 +1,109 @@
+package io.github.sunday.devfolio.service.common;
+
+import io.github.sunday.devfolio.dto.common.StorageBatchResult;
+import io.github.sunday.devfolio.entity.table.image.PendingStorageDeletion;
+import io.github.sunday.devfolio.repository.image.PendingStorageDeletionRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 저장소 파일 삭제 Service
+ * 저장소 삭제는 되돌릴 수 없으므로 DB 트랜잭션이 커밋된 뒤에 삭제하고,
+ * 삭제에 실패한 키는 pending_storage_deletions에 기록했다가 주기적으로 다시 삭제
+ */
+@Service
+public class StorageDeletionService {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final S3Service s3Service;
+    private final PendingStorageDeletionRepository pendingStorageDeletionRepository;
+    private final TransactionTemplate newTransaction;
+
+    public StorageDeletionService(
+            S3Service s3Service,
+            PendingStorageDeletionRepository pendingStorageDeletionRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.s3Service = s3Service;
+        this.pendingStorageDeletionRepository = pendingStorageDeletionRepository;
+        // 커밋 후 콜백에서는 기존 트랜잭션에 참여하면 반영되지 않으므로 항상 새 트랜잭션으로 기록
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 저장소에서 삭제 (롤백되면 삭제하지 않음)
+     * 트랜잭션 밖에서 호출하면 바로 삭제
+     */
+    public void deleteAfterCommit(List<String> keys) {
+        if (keys.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    delete(keys);
+                } catch (RuntimeException e) {
+                    // 이미 커밋된 요청을 실패로 돌려보내지 않음
+                    e.printStackTrace();
+                }
+            }
+        });
+    }
+
+    /**
+     * 저장소에서 바로 삭제하고 실패한 키는 다시 삭제하도록 기록
+     */
+    public void delete(List<String> keys) {
+        if (keys.isEmpty()) return;
+        StorageBatchResult result = s3Service.deleteFiles(keys);
+        if (result.isAllSucceeded()) return;
+        newTransaction.executeWithoutResult(status -> result.getFailed().forEach(this::recordFailure));
+    }
+
+    /**
+     * 같은 키로 다시 저장할 파일의 삭제 예정 기록 제거
+     * (내용 기반 키는 삭제된 이미지가 다시 업로드되면 같은 키를 사용)
+     */
+    public void cancel(Collection<String> keys) {
+        pendingStorageDeletionRepository.deleteAllByIdInBatch(keys);
+    }
+
+    /**
+     * 삭제에 실패했던 파일 다시 삭제 (오래된 순으로 100개씩)
+     */
+    @Scheduled(fixedDelayString = "${storage.deletion.retry-ms:600000}")
+    public void retryPending() {
+        try {
+            List<PendingStorageDeletion> pending = pendingStorageDeletionRepository.findTop100ByOrderByCreatedAtAsc();
+            if (pending.isEmpty()) return;
+
+            StorageBatchResult result = s3Service.deleteFiles(pending.stream().map(PendingStorageDeletion::getS3Key).toList());
+            newTransaction.executeWithoutResult(status -> {
+                pendingStorageDeletionRepository.deleteAllByIdInBatch(result.getSucceeded());
+                result.getFailed().forEach(this::recordFailure);
+            });
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void recordFailure(String key, String reason) {
+        PendingStorageDeletion pending = pendingStorageDeletionRepository.findById(key)
+                .orElseGet(() -> PendingStorageDeletion.builder().s3Key(key).attempts(0).build());
+        pending.setAttempts(pending.getAttempts() + 1);
+        pending.setLastError(reason != null && reason.length() > MAX_ERROR_LENGTH ? reason.substring(0, MAX_ERROR_LENGTH) : reason);
+        pendingStorageDeletionRepository.save(pending);
+    }
+}
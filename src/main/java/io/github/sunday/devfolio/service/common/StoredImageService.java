@@ -0,0 +1,96 @@
+package io.github.sunday.devfolio.service.common;
+
+import io.github.sunday.devfolio.entity.table.image.StoredImage;
+import io.github.sunday.devfolio.repository.image.StoredImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 내용 기반 이미지 색인 관리 Service
+ * 같은 이미지는 한 번만 저장하고 참조 수로 사용처를 세어, 마지막 참조가 사라질 때만 저장소에서 삭제
+ * 업로드에서 늘린 참조는 바로 커밋하고, 이미지 행이 커밋되지 않으면 사용하는 쪽에서 releaseAcquired로 반납
+ */
+@Service
+@RequiredArgsConstructor
+public class StoredImageService {
+    private final StoredImageRepository storedImageRepository;
+
+    /**
+     * 원본 해시로 저장된 이미지를 찾아 참조 수 증가
+     *
+     * 요청 트랜잭션 안에서 호출되어도 롤백과 관계없이 반영 (반납은 releaseAcquired)
+     *
+     * @return 저장된 이미지 (없으면 null)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public StoredImage acquireBySource(String sourceHash) {
+        StoredImage image = storedImageRepository.findFirstBySourceHash(sourceHash).orElse(null);
+        if (image == null) return null;
+        // 조회 후 삭제되었으면 없는 것으로 처리
+        return storedImageRepository.incrementRefCount(image.getContentHash()) > 0 ? image : null;
+    }
+
+    /**
+     * 내용 해시로 저장된 이미지를 찾아 참조 수 증가
+     *
+     * @return 저장된 이미지 (없으면 null)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public StoredImage acquire(String contentHash) {
+        StoredImage image = storedImageRepository.findById(contentHash).orElse(null);
+        if (image == null) return null;
+        return storedImageRepository.incrementRefCount(contentHash) > 0 ? image : null;
+    }
+
+    /**
+     * 새로 저장한 이미지 등록 (참조 수 1)
+     * 같은 이미지가 동시에 등록되었으면 참조 수만 증가
+     * INSERT 실패 후 같은 트랜잭션에서 증가할 수 없으므로 트랜잭션 밖(이미지 처리 스레드)에서 호출
+     *
+     * @return 등록된 이미지
+     */
+    public StoredImage register(StoredImage image) {
+        image.setRefCount(1);
+        image.setCreatedAt(ZonedDateTime.now());
+        try {
+            storedImageRepository.insert(image);
+            return image;
+        } catch (DataIntegrityViolationException e) {
+            StoredImage existing = acquire(image.getContentHash());
+            if (existing == null) throw e;
+            return existing;
+        }
+    }
+
+    /**
+     * 업로드에서 늘렸지만 사용되지 않은 참조 반납 (이미지 행이 커밋되지 않았을 때)
+     * 호출한 트랜잭션이 이미 끝났을 수 있으므로 새 트랜잭션에서 실행
+     *
+     * @return 마지막 참조여서 색인을 삭제했으면 true (저장소에서 삭제해야 함)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean releaseAcquired(String s3Key) {
+        storedImageRepository.decrementRefCount(s3Key);
+        return storedImageRepository.deleteIfUnreferenced(s3Key) > 0;
+    }
+
+    /**
+     * 참조 수 감소
+     * 호출한 트랜잭션에 참여하므로 롤백되면 참조 수도 되돌아감
+     * 색인이 없는 키(내용 기반 저장 이전 파일, 임시 업로드 파일)는 참조가 하나뿐이므로 바로 삭제 대상
+     *
+     * @return 저장소에서 삭제해야 하면 true
+     */
+    public boolean release(String s3Key) {
+        if (storedImageRepository.findByS3Key(s3Key).isEmpty()) {
+            return true;
+        }
+        storedImageRepository.decrementRefCount(s3Key);
+        return storedImageRepository.deleteIfUnreferenced(s3Key) > 0;
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.sunday.devfolio.service.common;
+
+import io.github.sunday.devfolio.dto.common.SuggestionDto;
+import io.github.sunday.devfolio.enums.common.SuggestType;
+import io.github.sunday.devfolio.repository.community.CommunityPostRepository;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioCategoryRepository;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioRepository;
+import io.github.sunday.devfolio.repository.user.UserRepository;
+import io.github.sunday.devfolio.utils.HangulUtils;
+import io.github.sunday.devfolio.utils.SearchKeywordUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 포트폴리오 제목, 포트폴리오 카테고리, 커뮤니티 게시글 제목, 닉네임 자동완성 서비스
+ * 대상별로 자모 분해한 문자열을 정렬된 맵에 보관하고 접두사 범위 조회로 후보를 찾으므로
+ * 입력할 때마다 DB를 조회하지 않음
+ * 애플리케이션 시작 시 전체를 적재하고, 작성/수정/삭제 시 해당 항목만 갱신
+ */
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+    /**
+     * 색인 키 최대 길이 (자모 기준)
+     */
+    private static final int MAX_KEY_LENGTH = 60;
+
+    /**
+     * 한 항목에서 색인할 최대 단어 수 (단어 시작 위치마다 색인)
+     */
+    private static final int MAX_WORDS = 8;
+
+    /**
+     * 색인 키와 대상 IDX 구분자
+     */
+    private static final char SEPARATOR = '\u0000';
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioCategoryRepository portfolioCategoryRepository;
+    private final CommunityPostRepository communityPostRepository;
+    private final UserRepository userRepository;
+
+    private final Map<SuggestType, SuggestIndex> indexes = createIndexes();
+
+    /**
+     * 애플리케이션 시작 시 전체 색인 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            load(SuggestType.PORTFOLIO, portfolioRepository.findSuggestions());
+            load(SuggestType.PORTFOLIO_CATEGORY, portfolioCategoryRepository.findSuggestions());
+            load(SuggestType.COMMUNITY, communityPostRepository.findSuggestions());
+            load(SuggestType.USER, userRepository.findSuggestions());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 자동완성 후보 조회
+     * 자음만 입력하면 초성으로, 그 외에는 자모 분해한 접두사로 비교
+     *
+     * @param query 입력 중인 검색어
+     * @param types 조회할 대상 (비어 있으면 전체)
+     * @param limit 대상별 최대 개수
+     */
+    public List<SuggestionDto> suggest(String query, Collection<SuggestType> types, int limit) {
+        if (query == null || query.isBlank()) {
+            return new ArrayList<>();
+        }
+
+        boolean choseong = HangulUtils.isChoseongOnly(query);
+        String prefix = truncate(choseong
+                ? HangulUtils.toChoseong(query).replace(" ", "")
+                : HangulUtils.toJamo(query));
+
+        Collection<SuggestType> targets = types == null || types.isEmpty()
+                ? EnumSet.allOf(SuggestType.class)
+                : EnumSet.copyOf(types);
+
+        List<SuggestionDto> results = new ArrayList<>();
+        for (SuggestType type : targets) {
+            results.addAll(indexes.get(type).find(prefix, choseong, limit));
+        }
+        return results;
+    }
+
+    /**
+     * 항목 추가 또는 변경
+     */
+    public void put(SuggestType type, Long idx, String text) {
+        if (idx == null || text == null || text.isBlank()) {
+            remove(type, idx);
+            return;
+        }
+        SuggestionDto suggestion = new SuggestionDto(type.getTypeName(), idx, text.trim());
+        indexes.get(type).put(suggestion);
+    }
+
+    /**
+     * 항목 제거
+     */
+    public void remove(SuggestType type, Long idx) {
+        if (idx == null) return;
+        indexes.get(type).remove(idx);
+    }
+
+    private void load(SuggestType type, List<SuggestionDto> suggestions) {
+        for (SuggestionDto suggestion : suggestions) {
+            put(type, suggestion.getIdx(), suggestion.getText());
+        }
+    }
+
+    private static Map<SuggestType, SuggestIndex> createIndexes() {
+        Map<SuggestType, SuggestIndex> indexes = new EnumMap<>(SuggestType.class);
+        for (SuggestType type : SuggestType.values()) {
+            indexes.put(type, new SuggestIndex());
+        }
+        return indexes;
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    /**
+     * 대상 하나의 자동완성 색인
+     * 자모 키, 초성 키를 정렬된 맵에 보관하고 항목별로 등록한 키를 기억해 갱신 시 제거
+     */
+    private static class SuggestIndex {
+        private final ConcurrentSkipListMap<String, SuggestionDto> jamoKeys = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, SuggestionDto> choseongKeys = new ConcurrentSkipListMap<>();
+        private final ConcurrentHashMap<Long, IndexedKeys> keysByIdx = new ConcurrentHashMap<>();
+
+        void put(SuggestionDto suggestion) {
+            keysByIdx.compute(suggestion.getIdx(), (idx, previous) -> {
+                if (previous != null) {
+                    previous.removeFrom(jamoKeys, choseongKeys);
+                }
+                IndexedKeys keys = IndexedKeys.of(suggestion);
+                keys.jamo.forEach(key -> jamoKeys.put(key, suggestion));
+                keys.choseong.forEach(key -> choseongKeys.put(key, suggestion));
+                return keys;
+            });
+        }
+
+        void remove(Long idx) {
+            keysByIdx.computeIfPresent(idx, (key, previous) -> {
+                previous.removeFrom(jamoKeys, choseongKeys);
+                return null;
+            });
+        }
+
+        /**
+         * 접두사로 시작하는 키 범위를 순서대로 읽으며 같은 항목은 한 번만 포함
+         */
+        List<SuggestionDto> find(String prefix, boolean choseong, int limit) {
+            ConcurrentSkipListMap<String, SuggestionDto> keys = choseong ? choseongKeys : jamoKeys;
+            Map<Long, SuggestionDto> found = new LinkedHashMap<>();
+            for (SuggestionDto suggestion : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                found.putIfAbsent(suggestion.getIdx(), suggestion);
+                if (found.size() >= limit) break;
+            }
+            return new ArrayList<>(found.values());
+        }
+    }
+
+    /**
+     * 항목 하나가 등록한 색인 키 목록
+     * 단어 시작 위치마다 그 위치부터의 문자열을 키로 사용해 중간 단어로도 찾을 수 있게 함
+     */
+    private static class IndexedKeys {
+        private final List<String> jamo = new ArrayList<>();
+        private final List<String> choseong = new ArrayList<>();
+
+        static IndexedKeys of(SuggestionDto suggestion) {
+            IndexedKeys keys = new IndexedKeys();
+            String[] words = SearchKeywordUtils.normalize(suggestion.getText()).split(" ");
+            String suffix = SEPARATOR + String.valueOf(suggestion.getIdx());
+            for (int i = 0; i < Math.min(words.length, MAX_WORDS); i++) {
+                String text = String.join(" ", Arrays.copyOfRange(words, i, words.length));
+                keys.jamo.add(truncate(HangulUtils.toJamo(text)) + suffix);
+                keys.choseong.add(truncate(HangulUtils.toChoseong(text).replace(" ", "")) + suffix);
+            }
+            return keys;
+        }
+
+        void removeFrom(Map<String, SuggestionDto> jamoKeys, Map<String, SuggestionDto> choseongKeys) {
+            jamo.forEach(jamoKeys::remove);
+            choseong.forEach(choseongKeys::remove);
+        }
+    }
+}
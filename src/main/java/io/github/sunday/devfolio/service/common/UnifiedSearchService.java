@@ -0,0 +1,165 @@
+package io.github.sunday.devfolio.service.common;
+
+import io.github.sunday.devfolio.dto.common.SuggestionDto;
+import io.github.sunday.devfolio.dto.common.UnifiedSearchItemDto;
+import io.github.sunday.devfolio.dto.common.UnifiedSearchResponseDto;
+import io.github.sunday.devfolio.enums.common.SuggestType;
+import io.github.sunday.devfolio.repository.community.CommunityQueryDslRepository;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioQueryDslRepository;
+import io.github.sunday.devfolio.repository.search.SearchBackend;
+import io.github.sunday.devfolio.utils.SearchKeywordUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 포트폴리오, 커뮤니티 게시글, 닉네임을 한 번에 검색하는 통합 검색 서비스
+ * 대상별 하위 검색을 제한된 스레드 풀에서 동시에 실행하고 대상마다 제한 시간을 둠
+ * 제한 시간을 넘기거나 실패한 대상은 제외하고 나머지 결과만 점수순으로 병합해 응답
+ * 대상마다 rank 척도가 달라 대상별 고정 기준값으로 rank / (rank + 기준값) 점수(0~1)를 계산해 병합
+ * (결과마다 달라지는 대상 내 최대값이 아닌 고정 기준값을 사용해 점수를 대상 간 비교할 수 있음)
+ */
+@Service
+public class UnifiedSearchService {
+    private static final String PORTFOLIO = "portfolio";
+    private static final String COMMUNITY = "community";
+    private static final String USER = "user";
+
+    /**
+     * 닉네임 rank 기준값
+     * 닉네임 rank는 검색어가 닉네임에서 차지하는 비율(0~1)이므로 닉네임이 검색어와 같으면(rank 1)
+     * 포트폴리오, 게시글에서 rank가 검색 방식의 기준값인 문서와 같은 점수(0.5)
+     */
+    private static final float USER_RANK_SCALE = 1f;
+
+    private final PortfolioQueryDslRepository portfolioQueryDslRepository;
+    private final CommunityQueryDslRepository communityQueryDslRepository;
+    private final SuggestService suggestService;
+    private final SearchBackend searchBackend;
+    private final ThreadPoolTaskExecutor searchExecutor;
+    private final int timeoutMillis;
+
+    public UnifiedSearchService(
+            PortfolioQueryDslRepository portfolioQueryDslRepository,
+            CommunityQueryDslRepository communityQueryDslRepository,
+            SuggestService suggestService,
+            SearchBackend searchBackend,
+            @Qualifier("searchExecutor") ThreadPoolTaskExecutor searchExecutor,
+            @Value("${search.unified.timeout-ms:300}") int timeoutMillis
+    ) {
+        this.portfolioQueryDslRepository = portfolioQueryDslRepository;
+        this.communityQueryDslRepository = communityQueryDslRepository;
+        this.suggestService = suggestService;
+        this.searchBackend = searchBackend;
+        this.searchExecutor = searchExecutor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 통합 검색
+     *
+     * @param keyword 검색어
+     * @param size    대상별 최대 결과 수
+     */
+    public UnifiedSearchResponseDto search(String keyword, int size) {
+        String query = SearchKeywordUtils.normalize(keyword);
+        List<UnifiedSearchItemDto> items = new ArrayList<>();
+        List<String> degradedSources = new ArrayList<>();
+        if (query.isEmpty()) {
+            return new UnifiedSearchResponseDto(items, degradedSources);
+        }
+
+        // 모든 하위 검색을 먼저 시작
+        List<SourceTask> tasks = new ArrayList<>();
+        float documentRankScale = searchBackend.rankScale();
+        submit(tasks, degradedSources, PORTFOLIO, documentRankScale,
+                () -> portfolioQueryDslRepository.findRankedByKeyword(query, size, timeoutMillis));
+        submit(tasks, degradedSources, COMMUNITY, documentRankScale,
+                () -> communityQueryDslRepository.findRankedByKeyword(query, size, timeoutMillis));
+        submit(tasks, degradedSources, USER, USER_RANK_SCALE,
+                () -> findUsers(query, size));
+
+        // 대상마다 시작 시점 기준 제한 시간까지만 대기
+        for (SourceTask task : tasks) {
+            try {
+                long remaining = Math.max(0L, task.deadline - System.nanoTime());
+                items.addAll(normalizeScores(task.source, task.rankScale, task.future.get(remaining, TimeUnit.NANOSECONDS)));
+            } catch (TimeoutException e) {
+                task.future.cancel(true);
+                degradedSources.add(task.source);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                task.future.cancel(true);
+                degradedSources.add(task.source);
+            } catch (ExecutionException e) {
+                e.printStackTrace();
+                degradedSources.add(task.source);
+            }
+        }
+
+        // 대상 간 척도가 다른 rank 대신 기준값으로 맞춘 점수로 병합 (같은 점수는 대상 순서 유지)
+        items.sort(Comparator.comparingDouble(UnifiedSearchItemDto::getScore).reversed());
+        return new UnifiedSearchResponseDto(items, degradedSources);
+    }
+
+    /**
+     * 하위 검색을 스레드 풀에 제출
+     * 대기열이 가득 차 거절되면 해당 대상을 제외
+     */
+    private void submit(List<SourceTask> tasks, List<String> degradedSources, String source, float rankScale,
+                        Callable<List<UnifiedSearchItemDto>> search) {
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            tasks.add(new SourceTask(source, rankScale, searchExecutor.submit(search), deadline));
+        } catch (TaskRejectedException e) {
+            degradedSources.add(source);
+        }
+    }
+
+    /**
+     * 닉네임 접두사 검색
+     * 메모리 자동완성 색인을 사용하고, 검색어가 닉네임에서 차지하는 비율을 rank로 사용 (일치하면 1)
+     */
+    private List<UnifiedSearchItemDto> findUsers(String query, int size) {
+        List<UnifiedSearchItemDto> results = new ArrayList<>();
+        for (SuggestionDto suggestion : suggestService.suggest(query, List.of(SuggestType.USER), size)) {
+            float rank = Math.min(1f, (float) query.length() / suggestion.getText().length());
+            results.add(UnifiedSearchItemDto.builder()
+                    .idx(suggestion.getIdx())
+                    .title(suggestion.getText())
+                    .rank(rank)
+                    .build());
+        }
+        return results;
+    }
+
+    /**
+     * 대상 종류를 채우고 대상의 rank 기준값으로 0~1 점수 계산
+     * rank / (rank + 기준값) : rank가 기준값이면 0.5, 클수록 1에 가까워짐
+     */
+    private List<UnifiedSearchItemDto> normalizeScores(String source, float rankScale, List<UnifiedSearchItemDto> results) {
+        for (UnifiedSearchItemDto result : results) {
+            result.setType(source);
+            float rank = result.getRank() != null ? Math.max(0f, result.getRank()) : 0f;
+            result.setScore((double) rank / (rank + rankScale));
+        }
+        return results;
+    }
+
+    /**
+     * 실행 중인 하위 검색과 제한 시각
+     */
+    @RequiredArgsConstructor
+    private static class SourceTask {
+        private final String source;
+        private final float rankScale;
+        private final Future<List<UnifiedSearchItemDto>> future;
+        private final long deadline;
+    }
+}
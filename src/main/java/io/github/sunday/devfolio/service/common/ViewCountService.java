@@ -0,0 +1,135 @@
+package io.github.sunday.devfolio.service.common;
+
+import io.github.sunday.devfolio.enums.common.ViewTarget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포트폴리오, 커뮤니티 게시글의 조회수를 메모리에 모았다가 주기적으로 반영하는 서비스
+ * 상세 페이지 조회마다 행을 잠그는 UPDATE 대신 대상별 LongAdder에 누적하고,
+ * 일정 주기와 종료 시점에 views = views + ? 형태의 배치 UPDATE 한 번으로 반영
+ */
+@Service
+public class ViewCountService {
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<ViewTarget, ConcurrentHashMap<Long, LongAdder>> buffers = new EnumMap<>(ViewTarget.class);
+    private final Counter flushedCounter;
+    private final Timer flushTimer;
+
+    public ViewCountService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (ViewTarget target : ViewTarget.values()) {
+            ConcurrentHashMap<Long, LongAdder> buffer = new ConcurrentHashMap<>();
+            buffers.put(target, buffer);
+            Gauge.builder("devfolio.views.pending", buffer, ViewCountService::sum)
+                    .description("아직 DB에 반영되지 않은 조회수")
+                    .tag("target", target.getTargetName())
+                    .register(meterRegistry);
+        }
+        this.flushedCounter = Counter.builder("devfolio.views.flushed")
+                .description("DB에 반영한 조회수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("devfolio.views.flush")
+                .description("조회수 반영 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가
+     */
+    public void increment(ViewTarget target, Long idx) {
+        add(buffers.get(target), idx, 1);
+    }
+
+    /**
+     * 아직 반영되지 않은 조회수 조회
+     * 상세 페이지에 DB 값과 합쳐서 보여주기 위해 사용
+     */
+    public long getPending(ViewTarget target, Long idx) {
+        LongAdder adder = buffers.get(target).get(idx);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 조회수를 주기적으로 반영
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush-ms:10000}")
+    public void flush() {
+        flushTimer.record(() -> {
+            for (ViewTarget target : ViewTarget.values()) {
+                flush(target);
+            }
+        });
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 대상별 누적 조회수를 배치 UPDATE로 반영
+     * 반영에 실패하면 누적 값을 되돌려 다음 주기에 다시 시도
+     */
+    private void flush(ViewTarget target) {
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(target);
+        List<Object[]> batchArgs = new ArrayList<>();
+        buffer.forEach((idx, adder) -> {
+            // 값만 비우므로 동시에 들어온 증가분이 사라지지 않음
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                batchArgs.add(new Object[]{delta, idx});
+            } else {
+                // 한 주기 동안 조회가 없던 대상은 제거 (증가와 같은 잠금 안에서 비어 있을 때만)
+                buffer.computeIfPresent(idx, (key, current) -> current.sum() == 0 ? null : current);
+            }
+        });
+        if (batchArgs.isEmpty()) return;
+
+        String sql = "UPDATE " + target.getTableName()
+                + " SET views = views + ? WHERE " + target.getIdColumn() + " = ?";
+        try {
+            jdbcTemplate.batchUpdate(sql, batchArgs);
+            flushedCounter.increment(batchArgs.stream().mapToLong(args -> (long) args[0]).sum());
+        } catch (Exception e) {
+            batchArgs.forEach(args -> add(buffer, (Long) args[1], (long) args[0]));
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 누적 조회수 증가
+     * 비어 있는 항목 제거(flush)와 같은 잠금 안에서 증가시켜, 제거된 항목에 더해져 사라지는 일이 없도록 함
+     */
+    private static void add(ConcurrentHashMap<Long, LongAdder> buffer, Long idx, long delta) {
+        buffer.compute(idx, (key, adder) -> {
+            LongAdder target = adder != null ? adder : new LongAdder();
+            target.add(delta);
+            return target;
+        });
+    }
+
+    private static double sum(ConcurrentHashMap<Long, LongAdder> buffer) {
+        long total = 0;
+        for (LongAdder adder : buffer.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.sunday.devfolio.service.community;
+
+import io.github.sunday.devfolio.dto.community.CommunitySearchRequestDto;
+import io.github.sunday.devfolio.utils.SearchKeywordUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 검색 조건별 게시글 전체 개수 캐시
+ * 첫 페이지 요청에서 계산한 개수를 정규화한 검색 조건(키워드, 카테고리)을 키로 저장하고
+ * 같은 조건의 다음 페이지 요청에서는 개수 쿼리 없이 재사용
+ * 개수를 계산하는 동안 캐시가 비워졌으면(세대 변경) 계산한 개수는 저장하지 않음
+ */
+@Component
+public class CommunityCountCache {
+    private static final int MAX_ENTRIES = 1000;
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private long generation;
+
+    public CommunityCountCache(@Value("${community.count-cache.ttl-ms:60000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 전체 개수 조회
+     * 첫 페이지거나 캐시가 없거나 만료되었으면 새로 계산해서 저장
+     */
+    public long getCount(CommunitySearchRequestDto searchRequestDto, LongSupplier counter) {
+        String key = normalize(searchRequestDto);
+        long now = System.currentTimeMillis();
+
+        CachedCount cached = counts.get(key);
+        if (searchRequestDto.getPage() > 0 && cached != null && now - cached.getComputedAt() < ttlMillis) {
+            return cached.getCount();
+        }
+
+        long expectedGeneration = generation();
+        long count = counter.getAsLong();
+        putIfGeneration(key, new CachedCount(count, now), expectedGeneration);
+        return count;
+    }
+
+    /**
+     * 게시글 작성/삭제로 개수가 바뀌었을 때 캐시 비우기
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 비움 (커밋 전에 비우면 그 사이의 검색이 이전 개수를 다시 캐시)
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateNow();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateNow();
+            }
+        });
+    }
+
+    private synchronized void invalidateNow() {
+        counts.clear();
+        generation++;
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 개수 계산을 시작한 뒤 캐시가 비워지지 않았을 때만 저장
+     */
+    private synchronized void putIfGeneration(String key, CachedCount cachedCount, long expectedGeneration) {
+        if (generation != expectedGeneration) return;
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+        counts.put(key, cachedCount);
+    }
+
+    /**
+     * 검색 조건을 캐시 키로 정규화
+     * 키워드의 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환
+     */
+    private String normalize(CommunitySearchRequestDto searchRequestDto) {
+        String normalizedKeyword = SearchKeywordUtils.normalize(searchRequestDto.getKeyword());
+        String categoryName = searchRequestDto.getCategoryName() != null ? searchRequestDto.getCategoryName() : "";
+        return categoryName + "|" + normalizedKeyword;
+    }
+
+    /**
+     * 캐시된 개수와 계산 시점
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class CachedCount {
+        private final long count;
+        private final long computedAt;
+    }
+}
@@ -1,22 +1,36 @@
 package io.github.sunday.devfolio.service.community;
 
+import io.github.sunday.devfolio.dto.common.LikeStatusDto;
+import io.github.sunday.devfolio.dto.common.SearchIdPage;
 import io.github.sunday.devfolio.dto.community.*;
 import io.github.sunday.devfolio.entity.table.community.CommunityComment;
-import io.github.sunday.devfolio.entity.table.community.CommunityLike;
 import io.github.sunday.devfolio.entity.table.community.CommunityPost;
 import io.github.sunday.devfolio.entity.table.user.User;
+import io.github.sunday.devfolio.enums.common.SearchTarget;
+import io.github.sunday.devfolio.enums.common.SuggestType;
+import io.github.sunday.devfolio.enums.common.ViewTarget;
+import io.github.sunday.devfolio.enums.community.CommunityCountMode;
 import io.github.sunday.devfolio.repository.user.UserRepository;
+import io.github.sunday.devfolio.repository.comment.CommentDeleteBackend;
 import io.github.sunday.devfolio.repository.community.CommunityCommentRepository;
 import io.github.sunday.devfolio.repository.community.CommunityLikeRepository;
 import io.github.sunday.devfolio.repository.community.CommunityPostRepository;
 import io.github.sunday.devfolio.repository.community.CommunityQueryDslRepository;
+import io.github.sunday.devfolio.repository.community.CommunitySearchCondition;
+import io.github.sunday.devfolio.repository.like.LikeBackend;
+import io.github.sunday.devfolio.repository.search.SearchBackend;
+import io.github.sunday.devfolio.service.common.SearchResultCache;
+import io.github.sunday.devfolio.service.common.SuggestService;
+import io.github.sunday.devfolio.service.common.ViewCountService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 커뮤니티 게시판 관련 비즈니스 로직을 처리하는 서비스 클래스.
@@ -26,23 +40,114 @@ import java.util.*;
 @Transactional(readOnly = true)
 public class CommunityService {
 
+    /** 전체 개수를 최대 개수까지만 계산할 때의 최대 개수 */
+    private static final int CAPPED_COUNT_LIMIT = 1000;
+
+    /** 게시글 상세 페이지에서 처음 보여줄 최상위 댓글 수 */
+    private static final int COMMENT_PAGE_SIZE = 20;
+
     private final CommunityPostRepository communityPostRepository;
     private final CommunityCommentRepository communityCommentRepository;
+    private final CommentDeleteBackend commentDeleteBackend;
     private final CommunityLikeRepository communityLikeRepository;
+    private final LikeBackend likeBackend;
     private final UserRepository userRepository;
     private final CommunityQueryDslRepository communityQueryDslRepository;
+    private final ViewCountService viewCountService;
+    private final CommunityCountCache communityCountCache;
+    private final SearchResultCache searchResultCache;
+    private final SuggestService suggestService;
+    private final SearchBackend searchBackend;
 
     /**
      * 게시글을 검색합니다
      *
-     * @return 페이징 처리된 게시글 목록 (PostListResponse)
+     * @param searchRequestDto 검색 조건
+     * @param countMode        전체 개수 계산 방식
+     * @return 페이징 처리된 게시글 목록과 전체 개수 정보
      */
-    public Page<PostListResponseDto> searchPosts(CommunitySearchRequestDto searchRequestDto) {
+    public PostPageResponseDto searchPosts(CommunitySearchRequestDto searchRequestDto, CommunityCountMode countMode) {
         Sort sort = Sort.by(searchRequestDto.getDirection(), searchRequestDto.getSort().getFieldName());
         Pageable pageable = PageRequest.of(searchRequestDto.getPage(), searchRequestDto.getSize(), sort);
-        Page<CommunityPost> postPage = communityQueryDslRepository.findAllByKeywordAndCategory(searchRequestDto, pageable);
+        int size = pageable.getPageSize();
+        // 목록, 개수 조회가 같은 검색 조건(키워드 조건)을 사용
+        CommunitySearchCondition condition = communityQueryDslRepository.prepare(searchRequestDto);
+
+        switch (countMode) {
+            case CACHED -> {
+                List<PostListResponseDto> content = findCachedContent(searchRequestDto, condition, pageable, size);
+                long total = communityCountCache.getCount(searchRequestDto,
+                        () -> communityQueryDslRepository.count(condition));
+                return new PostPageResponseDto(new PageImpl<>(content, pageable, total), true, false);
+            }
+            case SLICE -> {
+                // 한 개 더 조회해서 다음 페이지 존재 여부만 확인
+                List<PostListResponseDto> content = findCachedContent(searchRequestDto, condition, pageable, size + 1);
+                boolean hasNext = content.size() > size;
+                if (hasNext) {
+                    content = content.subList(0, size);
+                }
+                long total = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+                return new PostPageResponseDto(new PageImpl<>(content, pageable, total), false, false);
+            }
+            case CAPPED -> {
+                List<PostListResponseDto> content = findCachedContent(searchRequestDto, condition, pageable, size);
+                long count = communityQueryDslRepository.countUpTo(condition, CAPPED_COUNT_LIMIT + 1);
+                boolean capped = count > CAPPED_COUNT_LIMIT;
+                long total = capped ? CAPPED_COUNT_LIMIT : count;
+                return new PostPageResponseDto(new PageImpl<>(content, pageable, total), true, capped);
+            }
+            default -> {
+                List<PostListResponseDto> content = findCachedContent(searchRequestDto, condition, pageable, size);
+                Page<PostListResponseDto> page = PageableExecutionUtils.getPage(content, pageable,
+                        () -> communityQueryDslRepository.count(condition));
+                return new PostPageResponseDto(page, true, false);
+            }
+        }
+    }
+
+    /**
+     * 게시글 목록을 조회합니다.
+     * <p>
+     * 같은 검색 조건의 게시글 ID 목록은 짧은 시간 캐시하고, 목록 정보는 ID로 다시 조회해
+     * 조회수, 좋아요 수 같은 값은 항상 최신 상태로 보여줍니다.
+     *
+     * @param searchRequestDto 검색 조건
+     * @param condition        검색 요청의 카테고리, 키워드 조건
+     * @param pageable         페이지 정보
+     * @param limit            조회할 최대 개수
+     * @return 정렬 순서가 유지된 게시글 목록
+     */
+    private List<PostListResponseDto> findCachedContent(
+            CommunitySearchRequestDto searchRequestDto,
+            CommunitySearchCondition condition,
+            Pageable pageable,
+            int limit
+    ) {
+        AtomicReference<List<PostListResponseDto>> loaded = new AtomicReference<>();
+        String cacheKey = searchRequestDto.toCacheKey() + "|" + limit;
+
+        SearchIdPage idPage = searchResultCache.get(SearchTarget.COMMUNITY, cacheKey, () -> {
+            List<PostListResponseDto> content = communityQueryDslRepository.findContent(condition, pageable, limit);
+            loaded.set(content);
+            return new SearchIdPage(content.stream().map(PostListResponseDto::getPostIdx).toList(), null);
+        });
+        if (loaded.get() != null) {
+            return loaded.get();
+        }
+        if (idPage.getIds().isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        return postPage.map(PostListResponseDto::from);
+        Map<Long, PostListResponseDto> posts = new HashMap<>();
+        for (PostListResponseDto post : communityQueryDslRepository.findListByPostIdxIn(idPage.getIds())) {
+            posts.put(post.getPostIdx(), post);
+        }
+        // 캐시 이후 삭제된 게시글은 제외
+        return idPage.getIds().stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
@@ -52,11 +157,13 @@ public class CommunityService {
      * @param user   현재 로그인한 사용자 (좋아요 여부 확인용, null 가능)
      * @return 게시글 상세 정보
      */
-    @Transactional
     public PostDetailResponseDto getPost(Long postId, Long userId) {
         CommunityPost post = communityPostRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다: " + postId));
-        post.setViews(post.getViews() + 1);
+
+        // 조회수는 메모리에 누적했다가 주기적으로 반영하므로 읽기 전용 트랜잭션으로 처리
+        viewCountService.increment(ViewTarget.COMMUNITY, postId);
+        int views = (int) (post.getViews() + viewCountService.getPending(ViewTarget.COMMUNITY, postId));
 
         boolean isLiked = false;
         if (userId != null) {
@@ -65,12 +172,38 @@ public class CommunityService {
             isLiked = communityLikeRepository.findByUserAndPost(user, post).isPresent();
         }
 
-        List<CommunityComment> allComments = communityCommentRepository.findAllByPost(post);
-        long totalCommentCount = allComments.size();
+        // 최상위 댓글 첫 페이지만 조회하고 나머지와 답글은 요청 시 조회
+        CommentSliceResponseDto comments = getComments(postId, null, COMMENT_PAGE_SIZE);
 
-        List<CommentResponseDto> hierarchicalComments = convertToHierarchy(allComments);
+        return PostDetailResponseDto.of(post, views, comments, post.getCommentCount(), isLiked);
+    }
 
-        return PostDetailResponseDto.of(post, hierarchicalComments, totalCommentCount, isLiked);
+    /**
+     * 게시글의 최상위 댓글을 커서 기준으로 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @param after  이전 페이지의 마지막 댓글 ID (첫 페이지면 null)
+     * @param size   페이지 크기
+     * @return 댓글 목록과 다음 페이지 커서
+     */
+    public CommentSliceResponseDto getComments(Long postId, Long after, int size) {
+        List<CommentResponseDto> comments = communityCommentRepository.findTopLevelComments(
+                postId, after != null ? after : 0L, PageRequest.of(0, size + 1));
+        return toCommentSlice(comments, size);
+    }
+
+    /**
+     * 댓글의 답글을 커서 기준으로 조회합니다.
+     *
+     * @param commentId 부모 댓글 ID
+     * @param after     이전 페이지의 마지막 댓글 ID (첫 페이지면 null)
+     * @param size      페이지 크기
+     * @return 답글 목록과 다음 페이지 커서
+     */
+    public CommentSliceResponseDto getReplies(Long commentId, Long after, int size) {
+        List<CommentResponseDto> replies = communityCommentRepository.findReplies(
+                commentId, after != null ? after : 0L, PageRequest.of(0, size + 1));
+        return toCommentSlice(replies, size);
     }
 
     /**
@@ -87,6 +220,10 @@ public class CommunityService {
 
         CommunityPost newPost = requestDto.toEntity(writer);
         CommunityPost savedPost = communityPostRepository.save(newPost);
+        communityCountCache.invalidate();
+        searchResultCache.invalidate(SearchTarget.COMMUNITY);
+        suggestService.put(SuggestType.COMMUNITY, savedPost.getPostIdx(), savedPost.getTitle());
+        searchBackend.index(SearchTarget.COMMUNITY, savedPost.getPostIdx(), savedPost.getTitle(), savedPost.getContent());
         return savedPost.getPostIdx();
     }
 
@@ -116,6 +253,10 @@ public class CommunityService {
         post.setContent(requestDto.getContent());
         post.setCategory(requestDto.getCategory());
         post.setStatus(requestDto.getStatus());
+        communityCountCache.invalidate();
+        searchResultCache.invalidate(SearchTarget.COMMUNITY);
+        suggestService.put(SuggestType.COMMUNITY, post.getPostIdx(), post.getTitle());
+        searchBackend.index(SearchTarget.COMMUNITY, post.getPostIdx(), post.getTitle(), post.getContent());
     }
 
     /**
@@ -141,6 +282,10 @@ public class CommunityService {
         }
 
         communityPostRepository.delete(post);
+        communityCountCache.invalidate();
+        searchResultCache.invalidate(SearchTarget.COMMUNITY);
+        suggestService.remove(SuggestType.COMMUNITY, postId);
+        searchBackend.remove(SearchTarget.COMMUNITY, postId);
     }
 
     /**
@@ -157,7 +302,7 @@ public class CommunityService {
         CommunityPost post = communityPostRepository.findById(requestDto.getPostId())
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
 
-        post.setCommentCount(post.getCommentCount() + 1);
+        communityPostRepository.incrementCommentCount(post.getPostIdx());
 
         CommunityComment parentComment = null;
         if (requestDto.getParentId() != null) {
@@ -175,68 +320,63 @@ public class CommunityService {
     }
 
     /**
-     * 게시글에 대한 '좋아요' 상태를 토글(추가/삭제)합니다.
+     * 게시글에 '좋아요'를 추가합니다.
+     * 이미 좋아요한 상태면 좋아요 수를 바꾸지 않습니다.
      *
      * @param postId 좋아요를 누를 게시글의 ID
-     * @param user   좋아요를 누르는 사용자
+     * @param userId 좋아요를 누르는 사용자의 ID
+     * @return 처리 후 좋아요 상태와 좋아요 수
      */
     @Transactional
-    public void toggleLike(Long postId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-
-        CommunityPost post = communityPostRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
-
-        Optional<CommunityLike> likeOptional = communityLikeRepository.findByUserAndPost(user, post);
-
-        if (likeOptional.isPresent()) {
-            communityLikeRepository.delete(likeOptional.get());
-            post.setLikeCount(post.getLikeCount() - 1);
-        } else {
-            CommunityLike newLike = CommunityLike.builder()
-                    .user(user)
-                    .post(post)
-                    .build();
-            communityLikeRepository.save(newLike);
-            post.setLikeCount(post.getLikeCount() + 1);
+    public LikeStatusDto like(Long postId, Long userId) {
+        if (!communityPostRepository.existsById(postId)) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다.");
         }
+        Integer likeCount = likeBackend.likePost(userId, postId);
+        return new LikeStatusDto(true, likeCount);
     }
 
     /**
-     * 댓글 엔티티 목록을 부모-자식 관계를 갖는 계층형 DTO 목록으로 변환합니다.
+     * 게시글의 '좋아요'를 취소합니다.
+     * 좋아요하지 않은 상태면 좋아요 수를 바꾸지 않습니다.
      *
-     * @param comments 변환할 댓글 엔티티 목록
-     * @return 최상위 댓글만 포함된 계층형 DTO 목록
+     * @param postId 좋아요를 취소할 게시글의 ID
+     * @param userId 좋아요를 취소하는 사용자의 ID
+     * @return 처리 후 좋아요 상태와 좋아요 수
      */
+    @Transactional
+    public LikeStatusDto unlike(Long postId, Long userId) {
+        Integer likeCount = likeBackend.unlikePost(userId, postId);
+        if (likeCount == null) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+        return new LikeStatusDto(false, likeCount);
+    }
 
-    private List<CommentResponseDto> convertToHierarchy(List<CommunityComment> comments) {
-        List<CommentResponseDto> result = new ArrayList<>();
-        Map<Long, CommentResponseDto> map = new HashMap<>();
-
-        // 1. 모든 댓글을 DTO로 변환하고 Map에 ID를 키로 저장
-        comments.forEach(comment -> {
-            CommentResponseDto dto = CommentResponseDto.from(comment);
-            map.put(dto.getCommentId(), dto);
-        });
-
-        // 2. 다시 모든 댓글을 순회하며 부모-자식 관계 설정
-        comments.forEach(comment -> {
-            CommentResponseDto dto = map.get(comment.getCommentIdx());
-            if (comment.getParent() != null) {
-                // 부모 댓글이 있는 경우(대댓글), 부모의 children 리스트에 추가
-                Long parentId = comment.getParent().getCommentIdx();
-                CommentResponseDto parentDto = map.get(parentId);
-                if (parentDto != null) {
-                    parentDto.getChildren().add(dto);
-                }
-            } else {
-                // 부모 댓글이 없는 경우(최상위 댓글), 결과 리스트에 바로 추가
-                result.add(dto);
-            }
-        });
+    /**
+     * 게시글에 대한 '좋아요' 상태를 토글(추가/삭제)합니다.
+     *
+     * @param postId 좋아요를 누를 게시글의 ID
+     * @param userId 좋아요를 누르는 사용자의 ID
+     */
+    @Transactional
+    public void toggleLike(Long postId, Long userId) {
+        if (communityLikeRepository.existsByUser_UserIdxAndPost_PostIdx(userId, postId)) {
+            unlike(postId, userId);
+        } else {
+            like(postId, userId);
+        }
+    }
 
-        return result;
+    /**
+     * 페이지 크기보다 하나 더 조회한 댓글 목록을 페이지와 다음 페이지 커서로 변환합니다.
+     */
+    private CommentSliceResponseDto toCommentSlice(List<CommentResponseDto> comments, int size) {
+        if (comments.size() <= size) {
+            return new CommentSliceResponseDto(comments, null, false);
+        }
+        List<CommentResponseDto> content = comments.subList(0, size);
+        return new CommentSliceResponseDto(content, content.get(size - 1).getCommentId(), true);
     }
 
     /**
@@ -261,12 +401,14 @@ public class CommunityService {
     /**
      * 댓글을 삭제합니다.
      * <p>요청한 사용자가 댓글 작성자인지 권한을 확인합니다.</p>
+     * <p>모든 자손 댓글을 함께 삭제하고 게시글의 댓글 수를 삭제한 개수만큼 감소시킵니다.</p>
      *
      * @param commentId 삭제할 댓글의 ID
      * @param userId    삭제를 요청한 사용자 ID
+     * @return 삭제된 댓글 수 (본인 포함)
      */
     @Transactional
-    public void deleteComment(Long commentId, Long userId) {
+    public long deleteComment(Long commentId, Long userId) {
         CommunityComment comment = communityCommentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다."));
 
@@ -274,24 +416,7 @@ public class CommunityService {
             throw new IllegalStateException("댓글을 삭제할 권한이 없습니다.");
         }
 
-        // [핵심 2] 삭제될 댓글의 총 개수(본인 + 모든 자손)를 계산합니다.
-        long countToDelete = countSelfAndChildren(comment);
-
-        // [핵심 3] 게시글의 댓글 수를 계산된 개수만큼 감소시킵니다.
-        CommunityPost post = comment.getPost();
-        post.setCommentCount((int)(post.getCommentCount() - countToDelete));
-
-        communityCommentRepository.delete(comment);
-    }
-
-    /**
-     * 자기 자신과 모든 자손 댓글의 수를 재귀적으로 계산하는 helper 메서드
-     */
-    private long countSelfAndChildren(CommunityComment comment) {
-        long count = 1; // 자기 자신
-        for (CommunityComment child : comment.getChildren()) {
-            count += countSelfAndChildren(child);
-        }
-        return count;
+        // 서브트리 삭제와 댓글 수 감소 (PostgreSQL이면 하나의 쿼리로 처리)
+        return commentDeleteBackend.deleteSubtree(commentId, comment.getPost().getPostIdx());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+package io.github.sunday.devfolio.service.image;
+
+import io.github.sunday.devfolio.exception.common.ImageValidationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * 이미지 처리용 재사용 바이트 버퍼
+ * 업로드 원본을 한 번만 읽어 두거나 인코딩 결과를 쓰는 데 사용하고,
+ * 복사 없이 내부 배열을 그대로 읽는 InputStream을 제공
+ * ImageBufferPool에서 빌려 쓰고 다 쓰면 반납
+ */
+public class ImageBuffer extends OutputStream {
+    private static final int READ_CHUNK_SIZE = 8192;
+
+    private byte[] buf;
+    private int count;
+
+    ImageBuffer(int initialCapacity) {
+        this.buf = new byte[initialCapacity];
+    }
+
+    /**
+     * 스트림 전체를 버퍼로 읽기
+     * 예상 크기만큼 미리 늘려 두고, maxBytes를 넘으면 읽기를 멈추고 예외
+     */
+    public void readFrom(InputStream in, long expectedSize, long maxBytes) throws IOException {
+        count = 0;
+        if (expectedSize > 0) {
+            ensureCapacity((int) Math.min(expectedSize, maxBytes));
+        }
+        while (true) {
+            if (count == buf.length) {
+                // 예상 크기만큼 다 읽었으면 한 바이트로 끝인지 먼저 확인 (끝이면 배열을 늘리지 않음)
+                int next = in.read();
+                if (next < 0) break;
+                ensureCapacity(count + READ_CHUNK_SIZE);
+                buf[count++] = (byte) next;
+            }
+            int read = in.read(buf, count, buf.length - count);
+            if (read < 0) break;
+            count += read;
+            if (count > maxBytes) {
+                throw new ImageValidationException("파일 크기 제한을 초과했습니다.");
+            }
+        }
+    }
+
+    /**
+     * 내부 배열을 복사하지 않고 읽는 스트림 (여러 번 열 수 있음)
+     */
+    public InputStream toInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+
+    /**
+     * 현재 내용의 SHA-256 (16진수 소문자)
+     *
+     * @param prefix 내용 앞에 함께 해시할 값 (처리 조건 등, 없으면 빈 문자열)
+     */
+    public String sha256(String prefix) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(prefix.getBytes(StandardCharsets.UTF_8));
+            digest.update(buf, 0, count);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 현재 내용 크기
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 할당된 배열 크기
+     */
+    public int capacity() {
+        return buf.length;
+    }
+
+    /**
+     * 내용 비우기 (배열은 유지)
+     */
+    public void reset() {
+        count = 0;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buf[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= buf.length) return;
+        buf = Arrays.copyOf(buf, Math.max(capacity, buf.length * 2));
+    }
+}
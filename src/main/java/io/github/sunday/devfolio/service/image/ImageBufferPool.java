@@ -0,0 +1,51 @@
+package io.github.sunday.devfolio.service.image;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 이미지 처리용 바이트 버퍼 풀
+ * 업로드마다 큰 배열을 새로 할당하지 않도록 사용한 버퍼를 보관했다가 재사용
+ * 너무 커진 버퍼(max-retained-bytes 초과)는 보관하지 않고 GC에 맡겨 힙을 오래 점유하지 않도록 함
+ */
+@Component
+public class ImageBufferPool {
+    private static final int INITIAL_CAPACITY = 256 * 1024;
+
+    private final BlockingQueue<ImageBuffer> buffers;
+    private final int maxRetainedBytes;
+
+    public ImageBufferPool(
+            MeterRegistry meterRegistry,
+            @Value("${image.buffer.pool-size:8}") int poolSize,
+            @Value("${image.buffer.max-retained-bytes:8388608}") int maxRetainedBytes
+    ) {
+        this.buffers = new ArrayBlockingQueue<>(Math.max(poolSize, 1));
+        this.maxRetainedBytes = maxRetainedBytes;
+        Gauge.builder("devfolio.image.buffer.pooled", buffers, BlockingQueue::size)
+                .description("재사용 대기 중인 이미지 버퍼 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 버퍼 빌리기 (보관 중인 버퍼가 없으면 새로 생성)
+     */
+    public ImageBuffer acquire() {
+        ImageBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : new ImageBuffer(INITIAL_CAPACITY);
+    }
+
+    /**
+     * 버퍼 반납
+     */
+    public void release(ImageBuffer buffer) {
+        if (buffer == null || buffer.capacity() > maxRetainedBytes) return;
+        buffer.reset();
+        buffers.offer(buffer);
+    }
+}
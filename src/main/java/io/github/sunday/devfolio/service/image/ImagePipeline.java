@@ -0,0 +1,431 @@
+package io.github.sunday.devfolio.service.image;
+
+import io.github.sunday.devfolio.exception.common.ImageBusyException;
+import io.github.sunday.devfolio.exception.common.ImageValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import marvin.image.MarvinImage;
+import org.apache.tika.Tika;
+import org.marvinproject.image.transform.scale.Scale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지 처리 파이프라인
+ * 원본을 풀에서 빌린 버퍼로 한 번만 읽고, 같은 버퍼로 형식 확인(Tika)과 디코딩을 한 번씩 수행
+ * 디코딩 전에 헤더만 읽어 크기를 확인하고, 동시 디코딩 픽셀 수 합(pixel-budget)을 넘지 않을 때만 디코딩
+ * 최대 크기를 넘으면 축소 후 풀에서 빌린 출력 버퍼로 인코딩하고, 넘지 않으면 원본 바이트를 그대로 사용
+ * 읽기~헤더 확인(prepare)과 디코딩~인코딩(process)을 나눠 무거운 단계만 작업 스레드에서 실행할 수 있음
+ * 요청하면 너비별 축소 이미지(variant)와 아주 작은 미리보기(placeholder)도 함께 생성
+ * 단계별 소요 시간과 최대 사용 메모리를 ImagePipelineStats와 메트릭으로 기록
+ */
+@Component
+public class ImagePipeline {
+    /**
+     * 업로드 허용 최대 너비/높이
+     */
+    private static final int MAX_SOURCE_DIMENSION = 5000;
+
+    /**
+     * 저장할 이미지 최대 너비/높이
+     */
+    private static final int MAX_OUTPUT_DIMENSION = 1920;
+
+    /**
+     * 미리보기 이미지 너비
+     */
+    private static final int PLACEHOLDER_WIDTH = 16;
+
+    /**
+     * 허용 MIME 타입별 저장 확장자
+     */
+    private static final Map<String, String> EXTENSIONS_BY_MIME_TYPE = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/gif", "gif",
+            "image/webp", "webp"
+    );
+
+    private final Tika tika = new Tika();
+    private final ImageBufferPool bufferPool;
+    private final Timer readTimer;
+    private final Timer sniffTimer;
+    private final Timer probeTimer;
+    private final Timer decodeTimer;
+    private final Timer resizeTimer;
+    private final Timer encodeTimer;
+    private final Timer variantTimer;
+    private final DistributionSummary peakBytesSummary;
+    private final Counter budgetRejections;
+
+    /**
+     * 이미지 한 장의 최대 픽셀 수
+     */
+    private final long maxPixels;
+
+    /**
+     * 동시에 디코딩할 수 있는 픽셀 수 합 (픽셀당 약 4바이트)
+     */
+    private final Semaphore pixelBudget;
+    private final int pixelBudgetSize;
+    private final long pixelBudgetWaitMillis;
+
+    public ImagePipeline(
+            ImageBufferPool bufferPool,
+            MeterRegistry meterRegistry,
+            @Value("${image.decode.max-pixels:25000000}") long maxPixels,
+            @Value("${image.decode.pixel-budget:100000000}") int pixelBudgetSize,
+            @Value("${image.decode.budget-wait-ms:2000}") long pixelBudgetWaitMillis
+    ) {
+        this.bufferPool = bufferPool;
+        this.maxPixels = maxPixels;
+        this.pixelBudget = new Semaphore(pixelBudgetSize, true);
+        this.pixelBudgetSize = pixelBudgetSize;
+        this.pixelBudgetWaitMillis = pixelBudgetWaitMillis;
+        this.readTimer = stageTimer(meterRegistry, "read");
+        this.sniffTimer = stageTimer(meterRegistry, "sniff");
+        this.probeTimer = stageTimer(meterRegistry, "probe");
+        this.decodeTimer = stageTimer(meterRegistry, "decode");
+        this.resizeTimer = stageTimer(meterRegistry, "resize");
+        this.encodeTimer = stageTimer(meterRegistry, "encode");
+        this.variantTimer = stageTimer(meterRegistry, "variants");
+        this.peakBytesSummary = DistributionSummary.builder("devfolio.image.pipeline.peak")
+                .description("이미지 처리 중 최대 사용 메모리 (추정)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.budgetRejections = Counter.builder("devfolio.image.decode.rejected")
+                .description("픽셀 예산 부족으로 거절한 이미지 수")
+                .register(meterRegistry);
+        Gauge.builder("devfolio.image.decode.budget.available", pixelBudget, Semaphore::availablePermits)
+                .description("남은 동시 디코딩 픽셀 예산")
+                .register(meterRegistry);
+
+        // 인코딩 시 임시 파일 대신 메모리 캐시 사용
+        ImageIO.setUseCache(false);
+    }
+
+    /**
+     * 업로드 파일 처리 (prepare, process를 이어서 실행)
+     * 반환된 ProcessedImage는 저장 후 반드시 close
+     *
+     * @param maxBytes 읽을 수 있는 최대 바이트 수
+     */
+    public ProcessedImage process(MultipartFile file, long maxBytes) throws IOException {
+        try (PreparedImage prepared = prepare(file, maxBytes)) {
+            return process(prepared);
+        }
+    }
+
+    /**
+     * 원본 읽기, 형식 확인, 헤더 확인
+     * 픽셀을 디코딩하지 않으므로 요청 스레드에서 실행해도 가벼움
+     * 반환된 PreparedImage는 process에 넘기거나 close
+     *
+     * @param maxBytes 읽을 수 있는 최대 바이트 수
+     */
+    public PreparedImage prepare(MultipartFile file, long maxBytes) throws IOException {
+        ImagePipelineStats stats = new ImagePipelineStats();
+        ImageBuffer source = bufferPool.acquire();
+        ImageReader reader = null;
+        try {
+            // 원본 읽기 (한 번만)
+            long start = System.nanoTime();
+            try (InputStream in = file.getInputStream()) {
+                source.readFrom(in, file.getSize(), maxBytes);
+            }
+            stats.setReadNanos(System.nanoTime() - start);
+            stats.updatePeak(source.capacity());
+
+            // 형식 확인 (Magic Number 기반)
+            start = System.nanoTime();
+            String mimeType = tika.detect(source.toInputStream());
+            stats.setSniffNanos(System.nanoTime() - start);
+            String extension = EXTENSIONS_BY_MIME_TYPE.get(mimeType);
+            if (extension == null) {
+                throw new ImageValidationException("허용되지 않은 파일 형식입니다.");
+            }
+
+            // 헤더만 읽어서 크기 확인 (픽셀은 디코딩하지 않음)
+            start = System.nanoTime();
+            int width;
+            int height;
+            try (ImageInputStream imageInput = ImageIO.createImageInputStream(source.toInputStream())) {
+                reader = openReader(imageInput, mimeType);
+                width = reader.getWidth(0);
+                height = reader.getHeight(0);
+            }
+            stats.setProbeNanos(System.nanoTime() - start);
+            validateDimensions(width, height);
+
+            // 축소하지 않으면 원본 그대로, 축소하면 같은 형식으로 저장 (인코더가 없는 형식은 PNG)
+            boolean resizeRequired = width > MAX_OUTPUT_DIMENSION || height > MAX_OUTPUT_DIMENSION;
+            String contentType = mimeType;
+            if (resizeRequired && !ImageIO.getImageWritersByFormatName(extension).hasNext()) {
+                contentType = "image/png";
+                extension = "png";
+            }
+
+            PreparedImage prepared = new PreparedImage(
+                    bufferPool, source, mimeType, contentType, extension, width, height, resizeRequired, stats
+            );
+            source = null;
+            return prepared;
+        } finally {
+            if (reader != null) {
+                reader.dispose();
+            }
+            bufferPool.release(source);
+        }
+    }
+
+    /**
+     * 디코딩, 축소, 인코딩
+     * 동시 디코딩 픽셀 예산을 확보한 뒤 실행하며, 원본 버퍼는 이 메서드가 반납
+     * 반환된 ProcessedImage는 저장 후 반드시 close
+     */
+    public ProcessedImage process(PreparedImage prepared) throws IOException {
+        return process(prepared, List.of());
+    }
+
+    /**
+     * 디코딩, 축소, 인코딩과 크기별 이미지, 미리보기 생성
+     * 크기별 이미지는 저장 이미지보다 작은 너비만 생성하고, 해당 형식의 인코더가 없으면 생성하지 않음
+     *
+     * @param variantWidths 생성할 크기별 이미지 너비 (비어 있으면 크기별 이미지와 미리보기를 만들지 않음)
+     */
+    public ProcessedImage process(PreparedImage prepared, List<Integer> variantWidths) throws IOException {
+        ImagePipelineStats stats = prepared.getStats();
+        ImageBuffer source = prepared.takeSource();
+        if (source == null) {
+            throw new IllegalStateException("이미 처리된 이미지입니다.");
+        }
+        ImageBuffer output = null;
+        List<ProcessedImage.Variant> variants = new ArrayList<>();
+        ImageReader reader = null;
+        int pixelPermits = 0;
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(source.toInputStream())) {
+            reader = openReader(imageInput, prepared.getSourceMimeType());
+
+            // 동시 디코딩 픽셀 예산 확보 후 디코딩 (한 번만)
+            pixelPermits = acquirePixelBudget(prepared.getWidth(), prepared.getHeight());
+            long start = System.nanoTime();
+            BufferedImage decoded = decode(reader);
+            stats.setDecodeNanos(System.nanoTime() - start);
+            long decodedBytes = rasterBytes(decoded);
+            stats.updatePeak(source.capacity() + decodedBytes);
+
+            BufferedImage stored = decoded;
+            if (prepared.isResizeRequired()) {
+                // 비율 유지하며 축소
+                start = System.nanoTime();
+                stored = resize(decoded, MAX_OUTPUT_DIMENSION);
+                stats.setResizeNanos(System.nanoTime() - start);
+                // Marvin은 원본 크기 픽셀 배열을 두 벌(입력 복제본, 출력) 만들어 처리
+                stats.updatePeak(source.capacity() + decodedBytes
+                        + 2L * decoded.getWidth() * decoded.getHeight() * Integer.BYTES + rasterBytes(stored));
+
+                // 원본 버퍼는 더 이상 필요 없으므로 인코딩 전에 반납
+                bufferPool.release(source);
+                source = null;
+
+                // 출력 버퍼로 인코딩
+                start = System.nanoTime();
+                output = bufferPool.acquire();
+                ImageIO.write(stored, prepared.getExtension(), output);
+                stats.setEncodeNanos(System.nanoTime() - start);
+                stats.updatePeak(rasterBytes(stored) + output.capacity());
+            } else {
+                // 축소가 필요 없으면 원본 바이트를 그대로 저장 (GIF 애니메이션 등 보존)
+                output = source;
+                source = null;
+            }
+
+            // 크기별 이미지, 미리보기 (큰 것부터 직전 결과를 축소해 계산량을 줄임)
+            String placeholder = null;
+            if (!variantWidths.isEmpty() && ImageIO.getImageWritersByFormatName(prepared.getExtension()).hasNext()) {
+                start = System.nanoTime();
+                BufferedImage base = stored;
+                int storedWidth = stored.getWidth();
+                List<Integer> widths = variantWidths.stream()
+                        .filter(width -> width < storedWidth)
+                        .sorted(Comparator.reverseOrder())
+                        .toList();
+                for (int width : widths) {
+                    base = resize(base, width, Math.max(1, (int) ((long) base.getHeight() * width / base.getWidth())));
+                    ImageBuffer variantBuffer = bufferPool.acquire();
+                    variants.add(0, new ProcessedImage.Variant(variantBuffer, base.getWidth(), base.getHeight()));
+                    ImageIO.write(base, prepared.getExtension(), variantBuffer);
+                }
+                placeholder = toPlaceholder(base);
+                stats.setVariantNanos(System.nanoTime() - start);
+            }
+
+            record(stats);
+            ProcessedImage processed = new ProcessedImage(bufferPool, output, prepared.getContentType(),
+                    prepared.getExtension(), stored.getWidth(), stored.getHeight(), stats, variants, placeholder);
+            output = null;
+            variants = List.of();
+            return processed;
+        } finally {
+            if (reader != null) {
+                reader.dispose();
+            }
+            pixelBudget.release(pixelPermits);
+            bufferPool.release(source);
+            bufferPool.release(output);
+            variants.forEach(variant -> variant.close(bufferPool));
+        }
+    }
+
+    /**
+     * 감지한 MIME 타입을 읽을 수 있는 ImageReader 열기
+     * 메타데이터는 읽지 않음
+     */
+    private ImageReader openReader(ImageInputStream imageInput, String mimeType) throws ImageValidationException {
+        if (imageInput == null) {
+            throw new ImageValidationException("이미지 파일을 읽을 수 없습니다.");
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+        while (readers.hasNext()) {
+            ImageReader reader = readers.next();
+            if (Arrays.asList(reader.getOriginatingProvider().getMIMETypes()).contains(mimeType)) {
+                reader.setInput(imageInput, true, true);
+                return reader;
+            }
+            reader.dispose();
+        }
+        throw new ImageValidationException("유효한 이미지 파일이 아닙니다.");
+    }
+
+    /**
+     * 헤더의 너비/높이로 이미지 크기 제한 확인
+     */
+    private void validateDimensions(int width, int height) throws ImageValidationException {
+        if (width <= 0 || height <= 0) {
+            throw new ImageValidationException("유효한 이미지 파일이 아닙니다.");
+        }
+        if (width > MAX_SOURCE_DIMENSION || height > MAX_SOURCE_DIMENSION) {
+            throw new ImageValidationException("이미지 크기는 5000x5000 픽셀 이하여야 합니다.");
+        }
+        if ((long) width * height > maxPixels) {
+            throw new ImageValidationException("이미지 픽셀 수가 너무 많습니다.");
+        }
+    }
+
+    /**
+     * 동시에 디코딩하는 이미지의 픽셀 수 합이 예산을 넘지 않도록 대기
+     * 제한 시간 안에 확보하지 못하면 ImageBusyException
+     *
+     * @return 확보한 픽셀 수 (처리 후 반납)
+     */
+    private int acquirePixelBudget(int width, int height) throws ImageBusyException {
+        int permits = (int) Math.min((long) width * height, pixelBudgetSize);
+        try {
+            if (!pixelBudget.tryAcquire(permits, pixelBudgetWaitMillis, TimeUnit.MILLISECONDS)) {
+                budgetRejections.increment();
+                throw new ImageBusyException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageBusyException("이미지 처리가 중단되었습니다.");
+        }
+        return permits;
+    }
+
+    private BufferedImage decode(ImageReader reader) throws ImageValidationException {
+        try {
+            return reader.read(0);
+        } catch (IOException | RuntimeException e) {
+            throw new ImageValidationException("이미지 파일을 읽을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 비율 유지하며 최대 너비/높이에 맞게 축소
+     */
+    private BufferedImage resize(BufferedImage originalImage, int maxDimension) {
+        double scale = Math.min(
+                (double) maxDimension / originalImage.getWidth(),
+                (double) maxDimension / originalImage.getHeight()
+        );
+
+        int newWidth = (int) (originalImage.getWidth() * scale);
+        int newHeight = (int) (originalImage.getHeight() * scale);
+        return resize(originalImage, newWidth, newHeight);
+    }
+
+    private BufferedImage resize(BufferedImage originalImage, int newWidth, int newHeight) {
+        MarvinImage marvinImage = new MarvinImage(originalImage);
+
+        Scale imageScale = new Scale();
+        imageScale.load();
+        imageScale.setAttribute("newWidth", newWidth);
+        imageScale.setAttribute("newHeight", newHeight);
+        imageScale.process(marvinImage.clone(), marvinImage, null, null, false);
+
+        return marvinImage.getBufferedImageNoAlpha();
+    }
+
+    /**
+     * 아주 작은 JPEG 미리보기를 data URI로 생성
+     */
+    private String toPlaceholder(BufferedImage image) throws IOException {
+        int height = Math.max(1, (int) ((long) image.getHeight() * PLACEHOLDER_WIDTH / image.getWidth()));
+        BufferedImage placeholder = new BufferedImage(PLACEHOLDER_WIDTH, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = placeholder.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, PLACEHOLDER_WIDTH, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(placeholder, "jpg", bytes);
+        return "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * 디코딩된 이미지의 픽셀 배열 크기
+     */
+    private long rasterBytes(BufferedImage image) {
+        DataBuffer dataBuffer = image.getRaster().getDataBuffer();
+        return (long) dataBuffer.getSize() * dataBuffer.getNumBanks() * DataBuffer.getDataTypeSize(dataBuffer.getDataType()) / 8;
+    }
+
+    private void record(ImagePipelineStats stats) {
+        readTimer.record(stats.getReadNanos(), TimeUnit.NANOSECONDS);
+        sniffTimer.record(stats.getSniffNanos(), TimeUnit.NANOSECONDS);
+        probeTimer.record(stats.getProbeNanos(), TimeUnit.NANOSECONDS);
+        decodeTimer.record(stats.getDecodeNanos(), TimeUnit.NANOSECONDS);
+        resizeTimer.record(stats.getResizeNanos(), TimeUnit.NANOSECONDS);
+        encodeTimer.record(stats.getEncodeNanos(), TimeUnit.NANOSECONDS);
+        variantTimer.record(stats.getVariantNanos(), TimeUnit.NANOSECONDS);
+        peakBytesSummary.record(stats.getPeakBytes());
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("devfolio.image.pipeline")
+                .description("이미지 처리 단계별 소요 시간")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
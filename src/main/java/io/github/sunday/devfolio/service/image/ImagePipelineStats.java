@@ -0,0 +1,32 @@
+package io.github.sunday.devfolio.service.image;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 이미지 처리 단계별 소요 시간(나노초)과 최대 사용 메모리(추정, 바이트)
+ * 최대 사용 메모리는 파이프라인이 동시에 붙잡고 있는 버퍼와 픽셀 배열 크기의 합 중 가장 큰 값
+ */
+@Getter
+@Setter
+public class ImagePipelineStats {
+    private long readNanos;
+    private long sniffNanos;
+    private long probeNanos;
+    private long decodeNanos;
+    private long resizeNanos;
+    private long encodeNanos;
+    private long variantNanos;
+    private long peakBytes;
+
+    /**
+     * 현재 사용량이 기존 최대값보다 크면 갱신
+     */
+    void updatePeak(long bytes) {
+        peakBytes = Math.max(peakBytes, bytes);
+    }
+
+    public long getTotalNanos() {
+        return readNanos + sniffNanos + probeNanos + decodeNanos + resizeNanos + encodeNanos + variantNanos;
+    }
+}
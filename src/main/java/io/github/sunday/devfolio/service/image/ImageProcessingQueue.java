@@ -0,0 +1,83 @@
+package io.github.sunday.devfolio.service.image;
+
+import io.github.sunday.devfolio.exception.common.ImageBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 처리 작업 대기열
+ * 작업을 이미지 처리 스레드 풀에 제출하고, 대기열이 가득 차면 기다리지 않고 ImageBusyException으로 거절
+ * 대기열 길이, 거절 수, 대기 시간과 처리 시간을 메트릭으로 기록
+ */
+@Service
+public class ImageProcessingQueue {
+    private final ThreadPoolTaskExecutor imageExecutor;
+    private final Counter rejections;
+    private final Counter failures;
+    private final Timer waitTimer;
+    private final Timer latencyTimer;
+
+    public ImageProcessingQueue(
+            @Qualifier("imageExecutor") ThreadPoolTaskExecutor imageExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.imageExecutor = imageExecutor;
+        Gauge.builder("devfolio.image.queue.depth", imageExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("대기 중인 이미지 처리 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("devfolio.image.queue.active", imageExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("처리 중인 이미지 작업 수")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("devfolio.image.queue.rejected")
+                .description("대기열이 가득 차 거절한 이미지 작업 수")
+                .register(meterRegistry);
+        this.failures = Counter.builder("devfolio.image.queue.failed")
+                .description("실패한 이미지 작업 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("devfolio.image.queue.wait")
+                .description("이미지 작업 대기 시간")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("devfolio.image.queue.latency")
+                .description("이미지 작업 제출부터 완료까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업 제출
+     *
+     * @return 작업 결과 (실패하면 작업에서 발생한 예외로 완료)
+     * @throws ImageBusyException 대기열이 가득 찬 경우
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> job) throws ImageBusyException {
+        long submittedAt = System.nanoTime();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            imageExecutor.execute(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    future.complete(job.call());
+                } catch (Exception e) {
+                    failures.increment();
+                    future.completeExceptionally(e);
+                } finally {
+                    latencyTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejections.increment();
+            throw new ImageBusyException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return future;
+    }
+}
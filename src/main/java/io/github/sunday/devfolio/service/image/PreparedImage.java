@@ -0,0 +1,66 @@
+package io.github.sunday.devfolio.service.image;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 헤더 확인까지 마친 업로드 이미지
+ * 요청 스레드에서 원본을 읽고 형식, 크기를 확인한 결과로, 디코딩 이후 단계는 ImagePipeline.process에서 처리
+ * 저장 형식(contentType, extension)은 이 시점에 정해지므로 처리 전에 저장 키를 만들 수 있음
+ * 처리하지 않고 버릴 때는 close로 원본 버퍼 반납
+ */
+@Getter
+public class PreparedImage implements AutoCloseable {
+    @Getter(AccessLevel.NONE)
+    private final ImageBufferPool bufferPool;
+    @Getter(AccessLevel.NONE)
+    private ImageBuffer source;
+
+    private final String sourceMimeType;
+    private final String contentType;
+    private final String extension;
+    private final int width;
+    private final int height;
+    private final boolean resizeRequired;
+    private final ImagePipelineStats stats;
+
+    PreparedImage(ImageBufferPool bufferPool, ImageBuffer source, String sourceMimeType, String contentType,
+                  String extension, int width, int height, boolean resizeRequired, ImagePipelineStats stats) {
+        this.bufferPool = bufferPool;
+        this.source = source;
+        this.sourceMimeType = sourceMimeType;
+        this.contentType = contentType;
+        this.extension = extension;
+        this.width = width;
+        this.height = height;
+        this.resizeRequired = resizeRequired;
+        this.stats = stats;
+    }
+
+    /**
+     * 원본 바이트의 SHA-256
+     *
+     * @param prefix 원본 앞에 함께 해시할 처리 조건
+     */
+    public synchronized String sourceSha256(String prefix) {
+        if (source == null) {
+            throw new IllegalStateException("이미 처리된 이미지입니다.");
+        }
+        return source.sha256(prefix);
+    }
+
+    /**
+     * 원본 버퍼 소유권 넘기기 (이후 close는 아무것도 하지 않음)
+     */
+    synchronized ImageBuffer takeSource() {
+        ImageBuffer taken = source;
+        source = null;
+        return taken;
+    }
+
+    @Override
+    public synchronized void close() {
+        bufferPool.release(source);
+        source = null;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.sunday.devfolio.service.image;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 이미지 처리 결과
+ * 저장소에 올릴 바이트는 풀에서 빌린 버퍼에 있으므로 업로드가 끝나면 반드시 close로 반납
+ */
+@Getter
+public class ProcessedImage implements AutoCloseable {
+    @Getter(AccessLevel.NONE)
+    private final ImageBufferPool bufferPool;
+    @Getter(AccessLevel.NONE)
+    private final ImageBuffer buffer;
+
+    private final String contentType;
+    private final String extension;
+    private final int width;
+    private final int height;
+    private final ImagePipelineStats stats;
+
+    /**
+     * 크기별 이미지 (너비 오름차순, 요청하지 않았거나 원본이 더 작으면 비어 있음)
+     */
+    private final List<Variant> variants;
+
+    /**
+     * 로딩 중 표시할 아주 작은 미리보기 이미지 (data URI, 요청하지 않았으면 null)
+     */
+    private final String placeholder;
+
+    ProcessedImage(ImageBufferPool bufferPool, ImageBuffer buffer, String contentType, String extension,
+                   int width, int height, ImagePipelineStats stats, List<Variant> variants, String placeholder) {
+        this.bufferPool = bufferPool;
+        this.buffer = buffer;
+        this.contentType = contentType;
+        this.extension = extension;
+        this.width = width;
+        this.height = height;
+        this.stats = stats;
+        this.variants = variants;
+        this.placeholder = placeholder;
+    }
+
+    /**
+     * 결과 바이트를 복사 없이 읽는 스트림
+     */
+    public InputStream openStream() {
+        return buffer.toInputStream();
+    }
+
+    /**
+     * 결과 바이트 크기
+     */
+    public long getLength() {
+        return buffer.size();
+    }
+
+    /**
+     * 결과 바이트의 SHA-256
+     */
+    public String sha256() {
+        return buffer.sha256("");
+    }
+
+    @Override
+    public void close() {
+        bufferPool.release(buffer);
+        variants.forEach(variant -> variant.close(bufferPool));
+    }
+
+    /**
+     * 크기별 이미지
+     */
+    @Getter
+    public static class Variant {
+        @Getter(AccessLevel.NONE)
+        private final ImageBuffer buffer;
+        private final int width;
+        private final int height;
+
+        Variant(ImageBuffer buffer, int width, int height) {
+            this.buffer = buffer;
+            this.width = width;
+            this.height = height;
+        }
+
+        public InputStream openStream() {
+            return buffer.toInputStream();
+        }
+
+        public long getLength() {
+            return buffer.size();
+        }
+
+        void close(ImageBufferPool bufferPool) {
+            bufferPool.release(buffer);
+        }
+    }
+}
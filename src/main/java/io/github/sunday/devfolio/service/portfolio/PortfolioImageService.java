@@ -1,23 +1,34 @@
 package io.github.sunday.devfolio.service.portfolio;
 
 import io.github.sunday.devfolio.dto.common.ImageUploadResult;
+import io.github.sunday.devfolio.dto.common.StorageBatchResult;
 import io.github.sunday.devfolio.dto.portfolio.PortfolioEditRequestDto;
 import io.github.sunday.devfolio.dto.portfolio.PortfolioWriteRequestDto;
 import io.github.sunday.devfolio.entity.table.portfolio.Portfolio;
 import io.github.sunday.devfolio.entity.table.portfolio.PortfolioImage;
 import io.github.sunday.devfolio.exception.common.ImageUploadException;
+import io.github.sunday.devfolio.exception.common.StorageBatchException;
 import io.github.sunday.devfolio.repository.portfolio.PortfolioImageRepository;
 import io.github.sunday.devfolio.service.common.S3Service;
 import io.github.sunday.devfolio.service.common.SecureImageService;
+import io.github.sunday.devfolio.service.common.StorageDeletionService;
+import io.github.sunday.devfolio.service.common.StoredImageService;
+import io.github.sunday.devfolio.utils.ImageVariantUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.URI;
 import java.net.URLDecoder;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 포트폴리오의 이미지 Entity를 관리하는 Service
@@ -28,6 +39,8 @@ public class PortfolioImageService {
     private final PortfolioImageRepository portfolioImageRepository;
     private final SecureImageService secureImageService;
     private final S3Service s3Service;
+    private final StoredImageService storedImageService;
+    private final StorageDeletionService storageDeletionService;
 
     /**
      * 포트폴리오의 썸네일 이미지 조회
@@ -48,32 +61,21 @@ public class PortfolioImageService {
     public void addPortfolioImage(Portfolio portfolio, PortfolioWriteRequestDto writeRequestDto, Long userIdx) throws Exception {
         String filePath = userIdx + "/portfolio/" + portfolio.getPortfolioIdx();
 
+        // 썸네일 업로드를 먼저 시작하고 에디터 이미지 처리와 동시에 진행
         MultipartFile thumbnailFile = writeRequestDto.getThumbnail();
+        AtomicBoolean thumbnailSaved = new AtomicBoolean();
+        CompletableFuture<ImageUploadResult> thumbnailUpload = null;
         if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            PortfolioImage thumbnailImage = addNewImage(thumbnailFile, filePath, true);
-            // DB에 이미지 추가
-            thumbnailImage.setPortfolio(portfolio);
-            portfolioImageRepository.save(thumbnailImage);
+            thumbnailUpload = startThumbnailUpload(thumbnailFile, filePath, thumbnailSaved);
         }
 
         List<String> imageList = writeRequestDto.getImages();
         if (imageList != null && !imageList.isEmpty()) {
-            imageList.forEach(imageUrl -> {
-                try {
-                    PortfolioImage imageInEditor = PortfolioImage.builder()
-                            .portfolio(portfolio)
-                            .imageUrl(imageUrl)
-                            .s3Key(extractKeyFromUrl(imageUrl))
-                            .isThumbnail(false)
-                            .createdAt(ZonedDateTime.now())
-                            .expireAt(ZonedDateTime.now().plusMonths(1))
-                            .build();
-                    portfolioImageRepository.save(imageInEditor);
-                    s3Service.updateObjectTags(imageInEditor.getS3Key(), "lifecycle", "");
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            });
+            addEditorImages(portfolio, imageList);
+        }
+
+        if (thumbnailUpload != null) {
+            saveThumbnail(portfolio, thumbnailUpload, thumbnailSaved);
         }
     }
 
@@ -86,18 +88,20 @@ public class PortfolioImageService {
         PortfolioImage originalThumbnail = portfolioImageRepository
                 .findByPortfolio_PortfolioIdxAndIsThumbnailTrue(portfolio.getPortfolioIdx()).orElse(null);
 
-        // 썸네일 제거 동작
-        if (editRequestDto.isRemoveFlag() && originalThumbnail != null) {
-            deleteImage(originalThumbnail.getImageIdx());
-        }
-
-        // 썸네일 이미지 추가
+        // 썸네일 업로드를 먼저 시작하고 나머지 이미지 처리와 동시에 진행
         MultipartFile thumbnailFile = editRequestDto.getThumbnail();
+        AtomicBoolean thumbnailSaved = new AtomicBoolean();
+        CompletableFuture<ImageUploadResult> thumbnailUpload = null;
         if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            PortfolioImage thumbnailImage = addNewImage(thumbnailFile, filePath, true);
-            // DB에 이미지 추가
-            thumbnailImage.setPortfolio(portfolio);
-            portfolioImageRepository.save(thumbnailImage);
+            thumbnailUpload = startThumbnailUpload(thumbnailFile, filePath, thumbnailSaved);
+        }
+
+        // 제거할 이미지 (S3에서 한 번에 삭제)
+        List<PortfolioImage> removedImages = new ArrayList<>();
+
+        // 썸네일 제거 동작 (새 썸네일을 올리면 기존 썸네일도 제거, 썸네일은 포트폴리오당 하나)
+        if (originalThumbnail != null && (editRequestDto.isRemoveFlag() || thumbnailUpload != null)) {
+            removedImages.add(originalThumbnail);
         }
 
         // 요청으로 온 이미지 목록
@@ -115,79 +119,170 @@ public class PortfolioImageService {
         // 기존 이미지 목록에서 이미지 제거
         if (!originalImageList.isEmpty()) {
             if (imageList == null || imageList.isEmpty()) {
-                originalImageList.stream()
-                        .forEach(image -> deleteImage(image.getImageIdx()));
+                removedImages.addAll(originalImageList);
             } else {
                 originalImageList.stream()
                         .filter(image -> imageList.stream()
                                 .noneMatch(requestUrl -> extractKeyFromUrl(requestUrl).equals(image.getS3Key())))
-                        .forEach(image -> deleteImage(image.getImageIdx()));
+                        .forEach(removedImages::add);
             }
         }
+        deleteImages(removedImages);
 
         if (imageList != null && !imageList.isEmpty()) {
             // 새 이미지 목록 추가
-            imageList
-                    .stream()
+            addEditorImages(portfolio, imageList.stream()
                     .filter(imageUrl -> !originalUrlList.contains(imageUrl))
-                    .forEach(imageUrl -> {
+                    .toList());
+        }
+
+        if (thumbnailUpload != null) {
+            saveThumbnail(portfolio, thumbnailUpload, thumbnailSaved);
+        }
+    }
+
+    /**
+     * 썸네일 업로드 시작
+     * 업로드는 저장된 이미지의 참조 수를 바로 늘리므로, 썸네일 행이 커밋되지 않으면(롤백, 저장 전 실패)
+     * 업로드가 끝난 뒤 참조를 반납하고 마지막 참조였으면 저장소에서 삭제
+     */
+    private CompletableFuture<ImageUploadResult> startThumbnailUpload(MultipartFile thumbnailFile, String filePath,
+                                                                      AtomicBoolean saved) throws Exception {
+        CompletableFuture<ImageUploadResult> thumbnailUpload = secureImageService.uploadImageAsync(thumbnailFile, filePath, false, true);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED && saved.get()) return;
+                // 업로드에 실패했으면 늘린 참조가 없음
+                thumbnailUpload.thenAccept(result -> {
                     try {
-                        PortfolioImage imageInEditor = PortfolioImage.builder()
-                                .portfolio(portfolio)
-                                .imageUrl(imageUrl)
-                                .s3Key(extractKeyFromUrl(imageUrl))
-                                .isThumbnail(false)
-                                .createdAt(ZonedDateTime.now())
-                                .expireAt(ZonedDateTime.now().plusMonths(1))
-                                .build();
-                        portfolioImageRepository.save(imageInEditor);
-                        s3Service.updateObjectTags(imageInEditor.getS3Key(), "lifecycle", "");
-                    } catch (Exception e) {
+                        if (storedImageService.releaseAcquired(result.getS3Key())) {
+                            storageDeletionService.delete(storageKeys(result.getS3Key(), result.getVariantWidths()));
+                        }
+                    } catch (RuntimeException e) {
                         e.printStackTrace();
                     }
-            });
-        }
+                });
+            }
+        });
+        return thumbnailUpload;
     }
 
     /**
-     * AWS S3에 이미지 추가하기
+     * 썸네일 업로드가 끝나길 기다렸다가 DB에 이미지 추가
+     * 썸네일은 목록 카드용 크기별 이미지와 미리보기를 함께 생성
      */
-    // Todo : 예외 처리 로직 추가
-    private PortfolioImage addNewImage(MultipartFile file, String filePath, boolean isThumbnail) throws ImageUploadException{
-        ImageUploadResult uploadResult = secureImageService.uploadImage(file, filePath, false);
+    private void saveThumbnail(Portfolio portfolio, CompletableFuture<ImageUploadResult> thumbnailUpload,
+                               AtomicBoolean saved) throws ImageUploadException {
+        ImageUploadResult uploadResult;
+        try {
+            uploadResult = thumbnailUpload.get();
+        } catch (ExecutionException e) {
+            throw new ImageUploadException("이미지 업로드 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageUploadException("이미지 업로드 실패", e);
+        }
+
+        PortfolioImage thumbnailImage = toPortfolioImage(uploadResult, true);
+        thumbnailImage.setPortfolio(portfolio);
+        portfolioImageRepository.save(thumbnailImage);
+        saved.set(true);
+    }
 
+    /**
+     * 업로드 결과로 이미지 Entity 생성
+     */
+    private PortfolioImage toPortfolioImage(ImageUploadResult uploadResult, boolean isThumbnail) {
         return PortfolioImage.builder()
                 .imageUrl(uploadResult.getImageUrl())
                 .s3Key(uploadResult.getS3Key())
+                .width(uploadResult.getWidth())
+                .height(uploadResult.getHeight())
+                .variantWidths(ImageVariantUtils.joinWidths(uploadResult.getVariantWidths()))
+                .placeholder(uploadResult.getPlaceholder())
                 .isThumbnail(isThumbnail)
                 .createdAt(ZonedDateTime.now())
                 .expireAt(ZonedDateTime.now().plusMonths(1))
                 .build();
     }
 
+    /**
+     * 에디터 이미지 DB에 추가 후 임시 파일 태그(lifecycle=TEMP) 제거
+     * 태그 세트는 항상 lifecycle 하나이므로 기존 태그를 조회하지 않고 한 번에 교체
+     * 태그를 제거하지 못한 파일은 수명 주기에 따라 삭제되므로 예외로 저장을 취소
+     */
+    private void addEditorImages(Portfolio portfolio, List<String> imageUrls) {
+        List<PortfolioImage> images = new ArrayList<>();
+        for (String imageUrl : imageUrls) {
+            try {
+                images.add(PortfolioImage.builder()
+                        .portfolio(portfolio)
+                        .imageUrl(imageUrl)
+                        .s3Key(extractKeyFromUrl(imageUrl))
+                        .isThumbnail(false)
+                        .createdAt(ZonedDateTime.now())
+                        .expireAt(ZonedDateTime.now().plusMonths(1))
+                        .build());
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        if (images.isEmpty()) return;
+
+        portfolioImageRepository.saveAll(images);
+        StorageBatchResult result = s3Service.replaceObjectTags(
+                images.stream().map(PortfolioImage::getS3Key).toList(),
+                Map.of("lifecycle", "")
+        );
+        if (!result.isAllSucceeded()) {
+            throw new StorageBatchException("이미지 태그 변경 실패", List.copyOf(result.getFailed().keySet()));
+        }
+    }
+
     /**
      * 포트폴리오의 이미지 모두 제거
      */
+    @Transactional
     public void deleteImages(Long portfolioIdx) {
-        List<PortfolioImage> images = getPortfolioImages(portfolioIdx);
-        if (images != null && !images.isEmpty()) {
-            images.forEach(image -> deleteImage(image.getImageIdx()));
+        deleteImages(getPortfolioImages(portfolioIdx));
+    }
+
+    /**
+     * 이미지 제거
+     * DB에서는 바로 제거하고, 원본, 크기별 이미지는 트랜잭션이 커밋된 뒤 저장소에서 한 번에 삭제
+     * (롤백되면 저장소 파일이 남아 있어야 하므로, 삭제에 실패한 키는 StorageDeletionService가 다시 삭제)
+     * 내용 기반으로 저장된 이미지는 마지막 참조일 때만 저장소에서 삭제
+     */
+    private void deleteImages(List<PortfolioImage> images) {
+        if (images == null || images.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>();
+        for (PortfolioImage image : images) {
+            // 다른 곳에서 아직 참조 중인 이미지는 행만 삭제
+            if (storedImageService.release(image.getS3Key())) {
+                keys.addAll(storageKeys(image.getS3Key(), ImageVariantUtils.parseWidths(image.getVariantWidths())));
+            }
         }
+        portfolioImageRepository.deleteAllInBatch(images);
+        storageDeletionService.deleteAfterCommit(keys);
     }
 
-    @Transactional
-    private void deleteImage(Long imageIdx) {
-        PortfolioImage image = portfolioImageRepository.findById(imageIdx).orElse(null);
-        if (image == null) return;
-        s3Service.deleteFile(image.getS3Key());
-        portfolioImageRepository.deleteById(imageIdx);
+    /**
+     * 원본과 크기별 이미지의 저장소 키
+     */
+    private List<String> storageKeys(String s3Key, List<Integer> variantWidths) {
+        List<String> keys = new ArrayList<>();
+        keys.add(s3Key);
+        if (variantWidths != null) {
+            variantWidths.forEach(width -> keys.add(ImageVariantUtils.variantKey(s3Key, width)));
+        }
+        return keys;
     }
 
     private String extractKeyFromUrl(String url) {
         try {
-            URI uri = new URI(url);
-            String path = uri.getPath();
-            return path.startsWith("/") ? path.substring(1) : path;
+            return s3Service.getFileKey(url);
         } catch (Exception e) {
             throw new IllegalArgumentException("잘못된 URL 형식입니다.", e);
         }
@@ -0,0 +1,115 @@
+package io.github.sunday.devfolio.service.portfolio;
+
+import io.github.sunday.devfolio.dto.portfolio.PortfolioListDto;
+import io.github.sunday.devfolio.dto.portfolio.PortfolioSummaryDto;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 핫한 포트폴리오, 인기 포트폴리오 목록을 미리 계산해 메모리에서 제공하는 서비스
+ * 주기적으로 다시 계산하고, 좋아요/조회수/작성/삭제 이벤트로 변경 표시가 되면 짧은 주기로 다시 계산
+ * 계산 결과는 불변 스냅샷으로 만들어 한 번에 교체하므로 페이지 요청에서는 DB 조회가 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class PortfolioLeaderboardService {
+    private static final Pageable TOP_FIVE = PageRequest.of(0, 5);
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioListAssembler portfolioListAssembler;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    /**
+     * 현재 스냅샷 조회
+     */
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * 목록이 바뀌었을 수 있음을 표시
+     * 다음 변경 확인 주기에 다시 계산
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * 애플리케이션 시작 시 스냅샷 계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    /**
+     * 변경 표시가 있을 때만 다시 계산
+     */
+    @Scheduled(fixedDelayString = "${portfolio.leaderboard.dirty-check-ms:5000}")
+    public void refreshIfDirty() {
+        if (dirty.get()) {
+            refresh();
+        }
+    }
+
+    /**
+     * 변경 표시와 관계없이 주기적으로 다시 계산
+     * 일주일 기간이 지나 핫한 포트폴리오에서 빠지는 경우를 반영
+     */
+    @Scheduled(fixedDelayString = "${portfolio.leaderboard.refresh-ms:300000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * 핫한 포트폴리오 목록을 계산하고 없으면 인기 포트폴리오 목록으로 대체
+     */
+    public void refresh() {
+        dirty.set(false);
+        try {
+            ZonedDateTime now = ZonedDateTime.now();
+            List<PortfolioSummaryDto> results = portfolioRepository.findHotSummaries(
+                    now.minusWeeks(1), now, TOP_FIVE
+            );
+            boolean isHot = !results.isEmpty();
+            if (!isHot) {
+                results = portfolioRepository.findPopularSummaries(TOP_FIVE);
+            }
+
+            List<PortfolioListDto> portfolios = List.copyOf(portfolioListAssembler.assemble(results));
+            snapshot.set(new Snapshot(portfolios, isHot, now));
+        } catch (Exception e) {
+            // 실패하면 이전 스냅샷을 유지하고 다음 주기에 다시 시도
+            dirty.set(true);
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 리더보드 스냅샷
+     * 포트폴리오 목록, 핫한 포트폴리오 여부(false면 인기 포트폴리오), 계산 시점
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(List.of(), false, null);
+
+        private final List<PortfolioListDto> portfolios;
+        private final boolean hot;
+        private final ZonedDateTime computedAt;
+    }
+}
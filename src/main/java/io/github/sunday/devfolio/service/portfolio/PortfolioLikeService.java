@@ -1,15 +1,16 @@
 package io.github.sunday.devfolio.service.portfolio;
 
+import io.github.sunday.devfolio.dto.common.LikeStatusDto;
 import io.github.sunday.devfolio.entity.table.portfolio.Portfolio;
 import io.github.sunday.devfolio.entity.table.portfolio.PortfolioLike;
 import io.github.sunday.devfolio.entity.table.user.User;
+import io.github.sunday.devfolio.repository.like.LikeBackend;
 import io.github.sunday.devfolio.repository.portfolio.PortfolioLikeRepository;
 import io.github.sunday.devfolio.repository.portfolio.PortfolioRepository;
 import io.github.sunday.devfolio.service.user.impl.UserServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-
-import java.time.ZonedDateTime;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 포트폴리오의 좋아요 표시를 관리하는 서비스
@@ -18,8 +19,10 @@ import java.time.ZonedDateTime;
 @RequiredArgsConstructor
 public class PortfolioLikeService {
     private final PortfolioLikeRepository portfolioLikeRepository;
+    private final LikeBackend likeBackend;
     private final PortfolioRepository portfolioRepository;
     private final UserServiceImpl userService;
+    private final PortfolioLeaderboardService portfolioLeaderboardService;
 
     /**
      * 특정 포트폴리오와 특정 사용자의 좋아요 조회
@@ -37,57 +40,52 @@ public class PortfolioLikeService {
 
     /**
      * 포트폴리오에 좋아요 추가
+     * 이미 좋아요한 상태면 좋아요 수를 바꾸지 않고 현재 상태 반환
      */
-    public void addLike(Long portfolioIdx, Long userIdx) throws Exception {
+    @Transactional
+    public LikeStatusDto like(Long portfolioIdx, Long userIdx) throws Exception {
         Portfolio portfolio = validatePortfolio(portfolioIdx);
         User user = validateUser(userIdx);
 
         // 작성자 검증
         validateNotOwner(user, portfolio);
 
-        PortfolioLike original = portfolioLikeRepository.findByUserAndPortfolio(user, portfolio).orElse(null);
-        if (original != null) {
-            throw new Exception("이미 좋아요를 등록했습니다");
-        }
-
-        PortfolioLike portfolioLike = PortfolioLike.builder()
-                .portfolio(portfolio)
-                .user(user)
-                .likedAt(ZonedDateTime.now())
-                .build();
-        PortfolioLike saved = portfolioLikeRepository.save(portfolioLike);
-        
-        // 좋아요 카운트 변경
-        portfolio.setLikeCount(portfolio.getLikeCount()+1);
-        portfolioRepository.save(portfolio);
-        
-        if (saved == null) {
-            throw new Exception("좋아요 추가 중에 에러가 발생했습니다");
-        }
+        Integer likeCount = likeBackend.likePortfolio(userIdx, portfolioIdx);
+        portfolioLeaderboardService.markDirty();
+        return new LikeStatusDto(true, likeCount);
     }
 
     /**
      * 포트폴리오에 좋아요 제거
+     * 좋아요하지 않은 상태면 좋아요 수를 바꾸지 않고 현재 상태 반환
      */
-    public void removeLike(Long portfolioIdx, Long userIdx) throws Exception {
+    @Transactional
+    public LikeStatusDto unlike(Long portfolioIdx, Long userIdx) throws Exception {
         Portfolio portfolio = validatePortfolio(portfolioIdx);
         User user = validateUser(userIdx);
 
         // 작성자 검증
         validateNotOwner(user, portfolio);
 
-        PortfolioLike target = portfolioLikeRepository.findByUserAndPortfolio(user, portfolio).orElse(null);
+        Integer likeCount = likeBackend.unlikePortfolio(userIdx, portfolioIdx);
+        portfolioLeaderboardService.markDirty();
+        return new LikeStatusDto(false, likeCount);
+    }
 
-        // 좋아요 카운트 변경
-        Integer likeCount = portfolio.getLikeCount() > 0 ? portfolio.getLikeCount() - 1 : 0;
-        portfolio.setLikeCount(likeCount);
-        portfolioRepository.save(portfolio);
+    /**
+     * 포트폴리오에 좋아요 추가
+     */
+    @Transactional
+    public void addLike(Long portfolioIdx, Long userIdx) throws Exception {
+        like(portfolioIdx, userIdx);
+    }
 
-        if (target != null) {
-            portfolioLikeRepository.delete(target);
-        } else {
-            throw new Exception("존재하지 않거나 이미 제거된 좋아요 표시입니다");
-        }
+    /**
+     * 포트폴리오에 좋아요 제거
+     */
+    @Transactional
+    public void removeLike(Long portfolioIdx, Long userIdx) throws Exception {
+        unlike(portfolioIdx, userIdx);
     }
 
     /**
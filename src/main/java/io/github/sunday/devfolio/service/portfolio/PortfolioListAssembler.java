@@ -0,0 +1,189 @@
+package io.github.sunday.devfolio.service.portfolio;
+
+import io.github.sunday.devfolio.dto.portfolio.PortfolioCategoryDto;
+import io.github.sunday.devfolio.dto.portfolio.PortfolioLikeListDto;
+import io.github.sunday.devfolio.dto.portfolio.PortfolioListDto;
+import io.github.sunday.devfolio.dto.portfolio.PortfolioSummaryDto;
+import io.github.sunday.devfolio.dto.user.WriterDto;
+import io.github.sunday.devfolio.entity.table.portfolio.Portfolio;
+import io.github.sunday.devfolio.entity.table.portfolio.PortfolioCategory;
+import io.github.sunday.devfolio.entity.table.portfolio.PortfolioCategoryMap;
+import io.github.sunday.devfolio.entity.table.portfolio.PortfolioImage;
+import io.github.sunday.devfolio.entity.table.portfolio.PortfolioLike;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioCategoryMapRepository;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioImageRepository;
+import io.github.sunday.devfolio.repository.user.UserRepository;
+import io.github.sunday.devfolio.utils.ImageVariantUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 포트폴리오 목록용 DTO를 조립하는 컴포넌트
+ * 한 페이지에 포함된 포트폴리오의 썸네일, 카테고리, 작성자 정보를
+ * 포트폴리오 수와 관계없이 고정된 횟수의 IN 조회로 가져온 뒤 메모리에서 결합
+ * 목록 쿼리는 PortfolioSummaryDto 프로젝션으로 필요한 컬럼만 조회해 전달
+ * 썸네일은 카드 너비(image.variant.card-width) 이상인 가장 작은 크기별 이미지를 사용
+ */
+@Component
+public class PortfolioListAssembler {
+    private final PortfolioImageRepository portfolioImageRepository;
+    private final PortfolioCategoryMapRepository portfolioCategoryMapRepository;
+    private final UserRepository userRepository;
+    private final int cardWidth;
+    private final DateTimeFormatter dateTimeformatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    public PortfolioListAssembler(
+            PortfolioImageRepository portfolioImageRepository,
+            PortfolioCategoryMapRepository portfolioCategoryMapRepository,
+            UserRepository userRepository,
+            @Value("${image.variant.card-width:640}") int cardWidth
+    ) {
+        this.portfolioImageRepository = portfolioImageRepository;
+        this.portfolioCategoryMapRepository = portfolioCategoryMapRepository;
+        this.userRepository = userRepository;
+        this.cardWidth = cardWidth;
+    }
+
+    /**
+     * 포트폴리오 목록을 목록용 DTO로 변환
+     * 입력 순서(정렬 순서)를 그대로 유지
+     */
+    public List<PortfolioListDto> toListDto(List<Portfolio> portfolios) {
+        if (portfolios == null || portfolios.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return assemble(portfolios.stream()
+                .map(this::toSummary)
+                .toList());
+    }
+
+    /**
+     * 프로젝션으로 조회한 포트폴리오 목록을 목록용 DTO로 변환
+     * 입력 순서(정렬 순서)를 그대로 유지
+     */
+    public List<PortfolioListDto> assemble(List<PortfolioSummaryDto> summaries) {
+        if (summaries == null || summaries.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> portfolioIdxList = summaries.stream()
+                .map(PortfolioSummaryDto::getPortfolioIdx)
+                .toList();
+
+        // 페이지 단위로 썸네일, 카테고리, 작성자 정보 조회
+        Map<Long, PortfolioImage> thumbnails = loadThumbnails(portfolioIdxList);
+        Map<Long, List<PortfolioCategoryDto>> categories = loadCategories(portfolioIdxList);
+        Map<Long, WriterDto> writers = loadWriters(summaries);
+
+        return summaries.stream()
+                .map(summary -> toListDto(
+                        summary,
+                        thumbnails.get(summary.getPortfolioIdx()),
+                        writers.get(summary.getUserIdx()),
+                        categories.getOrDefault(summary.getPortfolioIdx(), new ArrayList<>())
+                ))
+                .toList();
+    }
+
+    /**
+     * 좋아요 목록을 좋아요 목록용 DTO로 변환
+     */
+    public List<PortfolioLikeListDto> toLikeListDto(List<PortfolioLike> portfolioLikes) {
+        if (portfolioLikes == null || portfolioLikes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<PortfolioListDto> listDtos = toListDto(portfolioLikes.stream()
+                .map(PortfolioLike::getPortfolio)
+                .toList());
+
+        List<PortfolioLikeListDto> results = new ArrayList<>(portfolioLikes.size());
+        for (int i = 0; i < portfolioLikes.size(); i++) {
+            results.add(PortfolioLikeListDto.builder()
+                    .portfolioListDto(listDtos.get(i))
+                    .likedAt(portfolioLikes.get(i).getLikedAt().format(dateTimeformatter))
+                    .build());
+        }
+        return results;
+    }
+
+    /**
+     * 포트폴리오 IDX별 썸네일 이미지 조회
+     */
+    private Map<Long, PortfolioImage> loadThumbnails(List<Long> portfolioIdxList) {
+        Map<Long, PortfolioImage> thumbnails = new HashMap<>();
+        for (PortfolioImage image : portfolioImageRepository.findAllByPortfolio_PortfolioIdxInAndIsThumbnailTrue(portfolioIdxList)) {
+            thumbnails.putIfAbsent(image.getPortfolio().getPortfolioIdx(), image);
+        }
+        return thumbnails;
+    }
+
+    /**
+     * 카드 너비 이상인 가장 작은 크기별 이미지 URL (없으면 원본 URL)
+     */
+    private String thumbnailUrl(PortfolioImage image) {
+        Integer width = ImageVariantUtils.pickWidth(ImageVariantUtils.parseWidths(image.getVariantWidths()), cardWidth);
+        return width != null ? ImageVariantUtils.variantKey(image.getImageUrl(), width) : image.getImageUrl();
+    }
+
+    /**
+     * 포트폴리오 IDX별 카테고리 목록 조회
+     */
+    private Map<Long, List<PortfolioCategoryDto>> loadCategories(List<Long> portfolioIdxList) {
+        Map<Long, List<PortfolioCategoryDto>> categories = new HashMap<>();
+        for (PortfolioCategoryMap map : portfolioCategoryMapRepository.findAllWithCategoryByPortfolioIdxIn(portfolioIdxList)) {
+            PortfolioCategory category = map.getCategory();
+            categories.computeIfAbsent(map.getPortfolio().getPortfolioIdx(), idx -> new ArrayList<>())
+                    .add(PortfolioCategoryDto.builder()
+                            .categoryIdx(category.getCategoryIdx())
+                            .name(category.getName())
+                            .nameKo(category.getNameKo())
+                            .build());
+        }
+        return categories;
+    }
+
+    /**
+     * 사용자 IDX별 작성자 정보 조회
+     */
+    private Map<Long, WriterDto> loadWriters(List<PortfolioSummaryDto> summaries) {
+        Set<Long> userIdxSet = new HashSet<>();
+        summaries.forEach(summary -> userIdxSet.add(summary.getUserIdx()));
+
+        Map<Long, WriterDto> writers = new HashMap<>();
+        for (WriterDto writer : userRepository.findWritersByUserIdxIn(userIdxSet)) {
+            writers.put(writer.getUserIdx(), writer);
+        }
+        return writers;
+    }
+
+    private PortfolioSummaryDto toSummary(Portfolio portfolio) {
+        return new PortfolioSummaryDto(
+                portfolio.getPortfolioIdx(),
+                portfolio.getTitle(),
+                portfolio.getViews(),
+                portfolio.getLikeCount(),
+                portfolio.getCommentCount(),
+                portfolio.getUpdatedAt(),
+                portfolio.getUser().getUserIdx()
+        );
+    }
+
+    private PortfolioListDto toListDto(PortfolioSummaryDto summary, PortfolioImage thumbnail, WriterDto writerDto, List<PortfolioCategoryDto> categories) {
+        return PortfolioListDto.builder()
+                .portfolioIdx(summary.getPortfolioIdx())
+                .title(summary.getTitle())
+                .views(summary.getViews())
+                .likeCount(summary.getLikeCount())
+                .updatedAt(summary.getUpdatedAt().format(dateTimeformatter))
+                .commentCount(summary.getCommentCount())
+                .imageUrl(thumbnail != null ? thumbnailUrl(thumbnail) : "")
+                .placeholder(thumbnail != null ? thumbnail.getPlaceholder() : null)
+                .writer(writerDto)
+                .categories(categories)
+                .build();
+    }
+}
@@ -1,13 +1,21 @@
 package io.github.sunday.devfolio.service.portfolio;
 
+import io.github.sunday.devfolio.dto.common.SearchIdPage;
 import io.github.sunday.devfolio.dto.portfolio.*;
 import io.github.sunday.devfolio.entity.table.portfolio.*;
+import io.github.sunday.devfolio.enums.common.SearchTarget;
+import io.github.sunday.devfolio.enums.common.SuggestType;
+import io.github.sunday.devfolio.enums.common.ViewTarget;
 import io.github.sunday.devfolio.enums.portfolio.PortfolioSort;
 import io.github.sunday.devfolio.dto.user.WriterDto;
 import io.github.sunday.devfolio.entity.table.user.User;
 import io.github.sunday.devfolio.exception.portfolio.NoWriterFoundException;
 import io.github.sunday.devfolio.exception.portfolio.PortfolioNotFoundException;
 import io.github.sunday.devfolio.repository.portfolio.*;
+import io.github.sunday.devfolio.repository.search.SearchBackend;
+import io.github.sunday.devfolio.service.common.SearchResultCache;
+import io.github.sunday.devfolio.service.common.SuggestService;
+import io.github.sunday.devfolio.service.common.ViewCountService;
 import io.github.sunday.devfolio.service.user.impl.UserServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -18,8 +26,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 포트폴리오 Entity를 다루는 Service
@@ -30,11 +38,16 @@ import java.util.List;
 public class PortfolioService {
     private final PortfolioRepository portfolioRepository;
     private final PortfolioQueryDslRepository portfolioQueryDslRepository;
-    private final PortfolioImageRepository portfolioImageRepository;
     private final PortfolioLikeRepository portfolioLikeRepository;
     private final PortfolioImageService portfolioImageService;
     private final PortfolioCategoryService portfolioCategoryService;
     private final PortfolioCommentService portfolioCommentService;
+    private final PortfolioListAssembler portfolioListAssembler;
+    private final PortfolioLeaderboardService portfolioLeaderboardService;
+    private final ViewCountService viewCountService;
+    private final SearchResultCache searchResultCache;
+    private final SuggestService suggestService;
+    private final SearchBackend searchBackend;
     private final UserServiceImpl userService;
     private final DateTimeFormatter dateTimeformatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
     private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -42,32 +55,45 @@ public class PortfolioService {
     /**
      * 포트폴리오 검색 및 조회
      * 페이지, 키워드, 카테고리, 정렬 기준을 요청을 받음
+     * 같은 검색 조건의 결과 IDX 목록은 짧은 시간 캐시하고 목록 정보는 IDX로 다시 조회
      */
     // Todo : Index 초과 에러 처리
     public List<PortfolioListDto> search(PortfolioSearchRequestDto searchRequestDto) {
         Pageable pageable = PageRequest.of(searchRequestDto.getPage(), searchRequestDto.getSize());
-        List<Portfolio> results = portfolioQueryDslRepository.findAllByKeywordAndCategory(searchRequestDto, pageable);
-        return portfoliosToListDto(results);
-    }
+        AtomicReference<List<PortfolioSummaryDto>> loaded = new AtomicReference<>();
 
-    /**
-     * 최근 핫한 포트폴리오 조회
-     * 현재 날짜 기준으로 일주일 간 업로드된 포트폴리오 중 좋아요, 조회수 내림차순으로 상위 5개 선정
-     */
-    public List<PortfolioListDto> getHotPortfolios() {
-        List<Portfolio> results = portfolioRepository.findTop5ByCreatedAtBetweenOrderByLikeCountDescViewsDesc(
-                ZonedDateTime.now().minusWeeks(1), ZonedDateTime.now()
-        );
-        return portfoliosToListDto(results);
+        SearchIdPage idPage = searchResultCache.get(SearchTarget.PORTFOLIO, "page|" + searchRequestDto.toCacheKey(), () -> {
+            List<PortfolioSummaryDto> results = portfolioQueryDslRepository.findAllByKeywordAndCategory(searchRequestDto, pageable);
+            loaded.set(results);
+            return new SearchIdPage(toPortfolioIdxList(results), null);
+        });
+
+        List<PortfolioSummaryDto> results = loaded.get() != null ? loaded.get() : loadSummaries(idPage.getIds());
+        return portfolioListAssembler.assemble(results);
     }
 
     /**
-     * 인기 게시글 조회
-     * 포트폴리오 중 좋아요, 조회수 내림차순으로 상위 5개 선정
+     * 포트폴리오 커서 기반 검색 및 조회
+     * 커서가 비어 있으면 첫 페이지를, 있으면 커서 이후 페이지를 조회
      */
-    public List<PortfolioListDto> getPopularPortfolios() {
-        List<Portfolio> results = portfolioRepository.findTop5ByOrderByLikeCountDescViewsDescCreatedAtDesc();
-        return portfoliosToListDto(results);
+    public PortfolioCursorPageDto searchByCursor(PortfolioSearchRequestDto searchRequestDto) {
+        PortfolioCursor cursor = decodeCursor(searchRequestDto);
+        AtomicReference<List<PortfolioSummaryDto>> loaded = new AtomicReference<>();
+
+        SearchIdPage idPage = searchResultCache.get(SearchTarget.PORTFOLIO, "cursor|" + searchRequestDto.toCacheKey(), () -> {
+            PortfolioQueryDslRepository.CursorSlice slice =
+                    portfolioQueryDslRepository.findSliceByKeywordAndCategory(searchRequestDto, cursor);
+            loaded.set(slice.getContent());
+            PortfolioCursor nextCursor = slice.getNextCursor();
+            return new SearchIdPage(toPortfolioIdxList(slice.getContent()), nextCursor != null ? nextCursor.encode() : null);
+        });
+
+        List<PortfolioSummaryDto> results = loaded.get() != null ? loaded.get() : loadSummaries(idPage.getIds());
+        return PortfolioCursorPageDto.builder()
+                .content(portfolioListAssembler.assemble(results))
+                .nextCursor(idPage.getNextCursor())
+                .hasNext(idPage.getNextCursor() != null)
+                .build();
     }
 
     /**
@@ -78,7 +104,7 @@ public class PortfolioService {
         Sort sort = getSortFromPageRequestDto(requestDto, true);
         Pageable pageable = PageRequest.of(requestDto.getPage(), requestDto.getSize(), sort);
         List<PortfolioLike> results = portfolioLikeRepository.findAllByUser_UserIdx(userIdx, pageable);
-        return portfoliosToLikeListDto(results);
+        return portfolioListAssembler.toLikeListDto(results);
     }
 
     /**
@@ -88,8 +114,8 @@ public class PortfolioService {
     public List<PortfolioListDto> getUserPortfolios(Long userIdx, PortfolioPageRequestDto requestDto) {
         Sort sort = getSortFromPageRequestDto(requestDto, false);
         Pageable pageable = PageRequest.of(requestDto.getPage(), requestDto.getSize(), sort);
-        List<Portfolio> results = portfolioRepository.findAllByUser_UserIdx(userIdx, pageable);
-        return userPortfoliosToListDto(results);
+        List<PortfolioSummaryDto> results = portfolioRepository.findSummariesByUserIdx(userIdx, pageable);
+        return portfolioListAssembler.assemble(results);
     }
 
     /**
@@ -125,9 +151,10 @@ public class PortfolioService {
         String createdAt = portfolio.getCreatedAt() != null ? portfolio.getCreatedAt().format(dateTimeformatter) : null;
         String updatedAt = portfolio.getUpdatedAt() != null ? portfolio.getUpdatedAt().format(dateTimeformatter) : null;
 
-        // 조회수 올리기
-        portfolio.setViews(portfolio.getViews()+1);
-        portfolioRepository.save(portfolio);
+        // 조회수 올리기 (주기적으로 DB에 반영)
+        viewCountService.increment(ViewTarget.PORTFOLIO, portfolioIdx);
+        portfolioLeaderboardService.markDirty();
+        int views = (int) (portfolio.getViews() + viewCountService.getPending(ViewTarget.PORTFOLIO, portfolioIdx));
 
         return PortfolioDetailDto.builder()
                 .portfolioIdx(portfolioIdx)
@@ -135,7 +162,7 @@ public class PortfolioService {
                 .startDate(startDate)
                 .endDate(endDate)
                 .description(portfolio.getDescription())
-                .views(portfolio.getViews())
+                .views(views)
                 .likeCount(portfolio.getLikeCount())
                 .commentCount(portfolio.getCommentCount())
                 .createdAt(createdAt)
@@ -197,8 +224,9 @@ public class PortfolioService {
     /**
      * 포트폴리오 저장
      * 포트폴리오 데이터, 포트폴리오 카테고리, 썸네일 이미지, 포트폴리오 이미지 저장
+     * 검사 예외(이미지 업로드 실패 등)도 롤백해 업로드한 썸네일의 참조를 해제
      */
-    @Transactional
+    @Transactional(rollbackFor = Exception.class)
     public Long addNewPortfolio(PortfolioWriteRequestDto writeRequestDto, Long userIdx) throws Exception{
         // 사용자 검색
         User user = userService.findByUserIdx(userIdx);
@@ -217,16 +245,20 @@ public class PortfolioService {
         // 이미지 파일 저장
         // Todo : 에러 핸들링
         portfolioImageService.addPortfolioImage(portfolio, writeRequestDto, userIdx);
+        portfolioLeaderboardService.markDirty();
+        searchResultCache.invalidate(SearchTarget.PORTFOLIO);
+        suggestService.put(SuggestType.PORTFOLIO, newPortfolio.getPortfolioIdx(), newPortfolio.getTitle());
+        searchBackend.index(SearchTarget.PORTFOLIO, newPortfolio.getPortfolioIdx(), newPortfolio.getTitle(), newPortfolio.getDescription());
 
         return newPortfolio.getPortfolioIdx();
     }
 
     /**
      * 포트폴리오 수정
+     * 검사 예외(이미지 업로드 실패 등)도 롤백해 업로드한 썸네일의 참조를 해제
      */
-    @Transactional
+    @Transactional(rollbackFor = Exception.class)
     public Long editPortfolio(PortfolioEditRequestDto editRequestDto, Long portfolioIdx, Long userIdx) throws Exception {
-        try {
         // 사용자 검색
         User user = userService.findByUserIdx(userIdx);
 
@@ -252,13 +284,13 @@ public class PortfolioService {
         portfolioCategoryService.editPortfolioCategoryMap(edittedPortfolio, editRequestDto.getCategories());
 
         // 이미지 파일 저장
-        // Todo : 에러 핸들링
-            portfolioImageService.editPortfolioImage(edittedPortfolio, editRequestDto, userIdx);
-            return portfolio.getPortfolioIdx();
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
+        // 실패하면 예외를 그대로 던져 트랜잭션을 롤백 (이미지 태그 변경 실패 시 저장 취소)
+        portfolioImageService.editPortfolioImage(edittedPortfolio, editRequestDto, userIdx);
+        portfolioLeaderboardService.markDirty();
+        searchResultCache.invalidate(SearchTarget.PORTFOLIO);
+        suggestService.put(SuggestType.PORTFOLIO, edittedPortfolio.getPortfolioIdx(), edittedPortfolio.getTitle());
+        searchBackend.index(SearchTarget.PORTFOLIO, edittedPortfolio.getPortfolioIdx(), edittedPortfolio.getTitle(), edittedPortfolio.getDescription());
+        return portfolio.getPortfolioIdx();
     }
 
     /**
@@ -288,6 +320,10 @@ public class PortfolioService {
 
             // 포트폴리오 제거
             portfolioRepository.deleteById(portfolioIdx);
+            portfolioLeaderboardService.markDirty();
+            searchResultCache.invalidate(SearchTarget.PORTFOLIO);
+            suggestService.remove(SuggestType.PORTFOLIO, portfolioIdx);
+            searchBackend.remove(SearchTarget.PORTFOLIO, portfolioIdx);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -315,68 +351,57 @@ public class PortfolioService {
         return Sort.by(direction, sortProperty);
     }
 
-    private WriterDto userToWriterDto(User user) {
-        return WriterDto.builder()
-                .userIdx(user.getUserIdx())
-                .nickname(user.getNickname())
-                .profileImg(user.getProfileImg())
-                .build();
+    /**
+     * 포트폴리오 목록의 IDX 목록 추출
+     */
+    private List<Long> toPortfolioIdxList(List<PortfolioSummaryDto> summaries) {
+        return summaries.stream()
+                .map(PortfolioSummaryDto::getPortfolioIdx)
+                .toList();
     }
 
-    private PortfolioListDto portfolioToListDto(Portfolio portfolio, PortfolioImage image, WriterDto writerDto, List<PortfolioCategoryDto> categories) {
-        return PortfolioListDto.builder()
-                .portfolioIdx(portfolio.getPortfolioIdx())
-                .title(portfolio.getTitle())
-                .views(portfolio.getViews())
-                .likeCount(portfolio.getLikeCount())
-                .updatedAt(portfolio.getUpdatedAt().format(dateTimeformatter))
-                .commentCount(portfolio.getCommentCount())
-                .imageUrl(image != null ? image.getImageUrl() : "")
-                .writer(writerDto)
-                .categories(categories)
-                .build();
-    }
+    /**
+     * 캐시된 IDX 목록 순서대로 포트폴리오 목록 정보 조회
+     * 그 사이 삭제된 포트폴리오는 제외
+     */
+    private List<PortfolioSummaryDto> loadSummaries(List<Long> portfolioIdxList) {
+        if (portfolioIdxList.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-    private List<PortfolioListDto> portfoliosToListDto(List<Portfolio> portfolios) {
-        return portfolios.stream()
-                .map(portfolio -> {
-                    WriterDto writerDto = userToWriterDto(portfolio.getUser());
-                    PortfolioImage image = portfolioImageRepository.findByPortfolio_PortfolioIdxAndIsThumbnailTrue(portfolio.getPortfolioIdx())
-                            .orElse(null);
-                    List<PortfolioCategoryDto> categories = portfolioCategoryService.getCategoriesByPortfolio(portfolio);
-                    return portfolioToListDto(portfolio, image, writerDto, categories);
-                }).toList();
+        Map<Long, PortfolioSummaryDto> summaries = new HashMap<>();
+        for (PortfolioSummaryDto summary : portfolioRepository.findSummariesByPortfolioIdxIn(portfolioIdxList)) {
+            summaries.put(summary.getPortfolioIdx(), summary);
+        }
+        return portfolioIdxList.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-    private List<PortfolioListDto> userPortfoliosToListDto(List<Portfolio> portfolios) {
-        Portfolio firstPortfolio = portfolios.get(0);
-        if (firstPortfolio == null) {
-            return new ArrayList<>();
+    /**
+     * 요청 DTO의 커서 토큰을 해석하고 현재 정렬 조건과 일치하는지 검증
+     */
+    private PortfolioCursor decodeCursor(PortfolioSearchRequestDto searchRequestDto) {
+        String token = searchRequestDto.getCursor();
+        if (token == null || token.isBlank()) return null;
+
+        PortfolioCursor cursor = PortfolioCursor.decode(token);
+        PortfolioSort portfolioSort = searchRequestDto.getSort() != null ? searchRequestDto.getSort() : PortfolioSort.UPDATED_AT;
+        Sort.Direction direction = searchRequestDto.getDirection() != null ? searchRequestDto.getDirection() : Sort.Direction.DESC;
+        boolean hasKeyword = searchRequestDto.getKeyword() != null && !searchRequestDto.getKeyword().isEmpty();
+        if (!cursor.matches(portfolioSort, direction, hasKeyword)) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
         }
-        WriterDto writerDto = userToWriterDto(firstPortfolio.getUser());
-
-        return portfolios.stream()
-                .map(portfolio -> {
-                    PortfolioImage image = portfolioImageRepository.findByPortfolio_PortfolioIdxAndIsThumbnailTrue(portfolio.getPortfolioIdx())
-                            .orElse(null);
-                    List<PortfolioCategoryDto> categories = portfolioCategoryService.getCategoriesByPortfolio(portfolio);
-                    return portfolioToListDto(portfolio, image, writerDto, categories);
-                }).toList();
+        return cursor;
     }
 
-    private List<PortfolioLikeListDto> portfoliosToLikeListDto(List<PortfolioLike> portfolioLikes) {
-        return portfolioLikes.stream()
-                .map(portfolioLike -> {
-                    Portfolio portfolio = portfolioLike.getPortfolio();
-                    WriterDto writerDto = userToWriterDto(portfolio.getUser());
-                    PortfolioImage image = portfolioImageRepository.findByPortfolio_PortfolioIdxAndIsThumbnailTrue(portfolio.getPortfolioIdx())
-                            .orElse(null);
-                    List<PortfolioCategoryDto> categories = portfolioCategoryService.getCategoriesByPortfolio(portfolio);
-                    return PortfolioLikeListDto.builder()
-                            .portfolioListDto(portfolioToListDto(portfolio, image, writerDto, categories))
-                            .likedAt(portfolioLike.getLikedAt().format(dateTimeformatter))
-                            .build();
-                }).toList();
+    private WriterDto userToWriterDto(User user) {
+        return WriterDto.builder()
+                .userIdx(user.getUserIdx())
+                .nickname(user.getNickname())
+                .profileImg(user.getProfileImg())
+                .build();
     }
 
     private Portfolio writeDtoToPortfolio(PortfolioWriteRequestDto writeRequestDto, User user) {
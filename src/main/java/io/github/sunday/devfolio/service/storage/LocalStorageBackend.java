@@ -0,0 +1,255 @@
+package io.github.sunday.devfolio.service.storage;
+
+import io.github.sunday.devfolio.dto.common.StorageBatchResult;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 로컬 디스크 저장소
+ * 네트워크 없이 업로드, 조회 흐름을 실행하기 위한 저장소로 파일은 storage.local.root 아래 키 경로에 저장
+ * 같은 디렉터리의 임시 파일에 쓴 뒤 이름을 바꿔(atomic move) 쓰는 중인 파일이 조회되지 않도록 함
+ * 태그는 .tags 디렉터리에 키별 properties 파일로 저장하고, 파일은 LocalStorageController에서 제공
+ */
+public class LocalStorageBackend implements StorageBackend {
+    private static final String TAGS_DIRECTORY = ".tags";
+
+    private final Path root;
+    private final String baseUrl;
+    private final Executor executor;
+
+    public LocalStorageBackend(Path root, String baseUrl, Executor executor) {
+        this.root = root.toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.executor = executor;
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장소 디렉터리를 만들 수 없습니다: " + this.root, e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    @Override
+    public CompletableFuture<Void> put(String key, InputStream inputStream, long contentLength, String contentType, boolean isTemp) {
+        Path target = resolve(key);
+        return CompletableFuture.runAsync(() -> {
+            try {
+                write(target, inputStream, contentLength);
+                writeTags(key, isTemp ? Map.of("lifecycle", "TEMP") : Map.of());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    @Override
+    public StoredObject get(String key) throws IOException {
+        Path file = findFile(key);
+        if (file == null) {
+            return null;
+        }
+        try {
+            // 파일은 이름을 바꿔 한 번에 교체되므로 크기와 수정 시각으로 내용을 구분
+            long length = Files.size(file);
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            return new StoredObject(
+                    Files.newInputStream(file),
+                    length,
+                    MediaTypeFactory.getMediaType(file.getFileName().toString())
+                            .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                            .toString(),
+                    "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"",
+                    lastModified
+            );
+        } catch (NoSuchFileException e) {
+            // 확인 후 삭제된 파일
+            return null;
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        StringBuilder url = new StringBuilder(baseUrl);
+        for (String segment : key.split("/")) {
+            url.append('/').append(UriUtils.encodePathSegment(segment, StandardCharsets.UTF_8));
+        }
+        return url.toString();
+    }
+
+    @Override
+    public String getKey(String url) {
+        String path = URI.create(url).getPath();
+        if (path.startsWith(baseUrl + "/")) {
+            return path.substring(baseUrl.length() + 1);
+        }
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    @Override
+    public StorageBatchResult delete(Collection<String> keys) {
+        StorageBatchResult result = new StorageBatchResult();
+        for (String key : new LinkedHashSet<>(keys)) {
+            try {
+                // S3와 같이 없는 파일 삭제도 성공으로 처리
+                Files.deleteIfExists(resolve(key));
+                Files.deleteIfExists(tagsPath(key));
+                result.getSucceeded().add(key);
+            } catch (IOException | RuntimeException e) {
+                result.getFailed().put(key, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public StorageBatchResult replaceTags(Collection<String> keys, Map<String, String> tags) {
+        StorageBatchResult result = new StorageBatchResult();
+        for (String key : new LinkedHashSet<>(keys)) {
+            try {
+                if (!Files.isRegularFile(resolve(key))) {
+                    throw new NoSuchFileException(key);
+                }
+                writeTags(key, tags);
+                result.getSucceeded().add(key);
+            } catch (IOException | RuntimeException e) {
+                result.getFailed().put(key, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void updateTag(String key, String tagKey, String tagValue) {
+        try {
+            Map<String, String> tags = new LinkedHashMap<>(readTags(key));
+            tags.put(tagKey, tagValue);
+            writeTags(key, tags);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 키에 해당하는 파일 경로 (파일이 없으면 null)
+     */
+    public Path findFile(String key) {
+        try {
+            Path path = resolve(key);
+            return Files.isRegularFile(path) ? path : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 키를 저장소 안의 경로로 변환
+     * 저장소 밖을 가리키거나 숨김 경로(.으로 시작, 태그와 쓰는 중인 임시 파일)를 가리키는 키는 거부
+     */
+    private Path resolve(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("잘못된 키입니다.");
+        }
+        for (String segment : key.split("/")) {
+            if (segment.isEmpty() || segment.startsWith(".")) {
+                throw new IllegalArgumentException("잘못된 키입니다: " + key);
+            }
+        }
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 키입니다: " + key);
+        }
+        return path;
+    }
+
+    private Path tagsPath(String key) {
+        return root.resolve(TAGS_DIRECTORY).resolve(key + ".properties");
+    }
+
+    /**
+     * 같은 디렉터리의 임시 파일에 끝까지 쓰고 디스크에 반영한 뒤 이름 바꾸기
+     */
+    private void write(Path target, InputStream inputStream, long contentLength) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(inputStream)) {
+                long position = 0;
+                while (position < contentLength) {
+                    long transferred = channel.transferFrom(source, position, contentLength - position);
+                    if (transferred <= 0) break;
+                    position += transferred;
+                }
+                if (position != contentLength) {
+                    throw new IOException("파일 크기가 다릅니다: " + position + "/" + contentLength);
+                }
+                channel.force(true);
+            }
+            move(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Map<String, String> readTags(String key) throws IOException {
+        Path path = tagsPath(key);
+        if (!Files.exists(path)) {
+            return Map.of();
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+        }
+        Map<String, String> tags = new LinkedHashMap<>();
+        properties.stringPropertyNames().forEach(name -> tags.put(name, properties.getProperty(name)));
+        return tags;
+    }
+
+    private void writeTags(String key, Map<String, String> tags) throws IOException {
+        Path path = tagsPath(key);
+        if (tags.isEmpty()) {
+            Files.deleteIfExists(path);
+            return;
+        }
+        Properties properties = new Properties();
+        properties.putAll(tags);
+
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), ".tags-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, null);
+            }
+            move(temp, path);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
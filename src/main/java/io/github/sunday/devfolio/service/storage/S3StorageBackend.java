@@ -0,0 +1,243 @@
+package io.github.sunday.devfolio.service.storage;
+
+import io.github.sunday.devfolio.dto.common.StorageBatchResult;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * AWS S3 저장소
+ * 업로드는 비동기 클라이언트로 스트림을 전송하고, 조회/태그/삭제는 동기 클라이언트로 처리
+ */
+public class S3StorageBackend implements StorageBackend {
+
+    /**
+     * DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+     */
+    private static final int MAX_DELETE_BATCH_SIZE = 1000;
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final ExecutorService streamExecutor;
+    private final String bucketName;
+    private final int tagConcurrency;
+
+    public S3StorageBackend(S3Client s3Client, S3AsyncClient s3AsyncClient, ExecutorService streamExecutor,
+                            String bucketName, int tagConcurrency) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.streamExecutor = streamExecutor;
+        this.bucketName = bucketName;
+        this.tagConcurrency = Math.max(tagConcurrency, 1);
+    }
+
+    @Override
+    public String name() {
+        return "s3";
+    }
+
+    /**
+     * 스트림을 나눠 읽으며 그대로 전송하므로 업로드할 바이트를 별도 배열로 복사하지 않고,
+     * 큰 파일은 멀티파트로 나눠 업로드 (aws.s3.async.multipart)
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, InputStream inputStream, long contentLength, String contentType, boolean isTemp) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .tagging(isTemp ? "lifecycle=TEMP" : null)
+                .build();
+
+        return s3AsyncClient.putObject(request, AsyncRequestBody.fromInputStream(inputStream, contentLength, streamExecutor))
+                .thenApply(response -> null);
+    }
+
+    /**
+     * 본문을 받으면서 바로 읽을 수 있도록 응답 스트림을 그대로 반환
+     */
+    @Override
+    public StoredObject get(String key) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        ResponseInputStream<GetObjectResponse> body;
+        try {
+            body = s3Client.getObject(request);
+        } catch (NoSuchKeyException e) {
+            return null;
+        }
+        GetObjectResponse response = body.response();
+        return new StoredObject(
+                body,
+                response.contentLength() != null ? response.contentLength() : -1,
+                response.contentType(),
+                response.eTag(),
+                response.lastModified() != null ? response.lastModified().toEpochMilli() : -1
+        );
+    }
+
+    @Override
+    public String getUrl(String key) {
+        S3Utilities s3Utilities = s3Client.utilities();
+        GetUrlRequest request = GetUrlRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        return s3Utilities.getUrl(request).toString();
+    }
+
+    @Override
+    public String getKey(String url) {
+        String path = URI.create(url).getPath();
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    /**
+     * DeleteObjects 한 번에 최대 1000개씩 요청
+     */
+    @Override
+    public StorageBatchResult delete(Collection<String> fileNames) {
+        StorageBatchResult result = new StorageBatchResult();
+        List<String> keys = new ArrayList<>(new LinkedHashSet<>(fileNames));
+
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(from + MAX_DELETE_BATCH_SIZE, keys.size()));
+            DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder()
+                            .objects(batch.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                            .quiet(true)
+                            .build())
+                    .build();
+
+            try {
+                // quiet 모드에서는 실패한 키만 응답에 포함
+                Map<String, String> errors = new HashMap<>();
+                for (S3Error error : s3Client.deleteObjects(request).errors()) {
+                    errors.put(error.key(), error.code() + ": " + error.message());
+                }
+                for (String key : batch) {
+                    if (errors.containsKey(key)) {
+                        result.getFailed().put(key, errors.get(key));
+                    } else {
+                        result.getSucceeded().add(key);
+                    }
+                }
+            } catch (SdkException e) {
+                batch.forEach(key -> result.getFailed().put(key, e.getMessage()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 원하는 태그 세트를 알고 있으므로 기존 태그를 조회하지 않고 바로 교체하며,
+     * 동시 요청 수를 aws.s3.batch.tag-concurrency로 제한해 병렬로 처리
+     */
+    @Override
+    public StorageBatchResult replaceTags(Collection<String> fileNames, Map<String, String> tags) {
+        Tagging tagging = Tagging.builder()
+                .tagSet(tags.entrySet().stream()
+                        .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                        .toList())
+                .build();
+
+        Semaphore permits = new Semaphore(tagConcurrency);
+        Map<String, CompletableFuture<PutObjectTaggingResponse>> requests = new LinkedHashMap<>();
+        try {
+            for (String key : new LinkedHashSet<>(fileNames)) {
+                permits.acquire();
+                PutObjectTaggingRequest request = PutObjectTaggingRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .tagging(tagging)
+                        .build();
+                CompletableFuture<PutObjectTaggingResponse> future;
+                try {
+                    future = s3AsyncClient.putObjectTagging(request);
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                requests.put(key, future.whenComplete((response, error) -> permits.release()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        StorageBatchResult result = new StorageBatchResult();
+        for (Map.Entry<String, CompletableFuture<PutObjectTaggingResponse>> request : requests.entrySet()) {
+            try {
+                request.getValue().join();
+                result.getSucceeded().add(request.getKey());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                result.getFailed().put(request.getKey(), cause.getMessage());
+            }
+        }
+        // 중단되어 요청하지 못한 키
+        for (String key : fileNames) {
+            if (!requests.containsKey(key)) {
+                result.getFailed().put(key, "요청이 중단되었습니다.");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 다른 태그를 유지해야 하므로 기존 태그를 조회한 뒤 교체
+     */
+    @Override
+    public void updateTag(String fileName, String newTagKey, String newTagValue) {
+        // 객체의 현재 태그 가져오기
+        GetObjectTaggingRequest getTaggingRequest = GetObjectTaggingRequest.builder()
+                .bucket(bucketName)
+                .key(fileName)
+                .build();
+
+        GetObjectTaggingResponse getTaggingResponse = s3Client.getObjectTagging(getTaggingRequest);
+
+        // 기존 태그 목록 가져오기
+        List<Tag> tags = new ArrayList<>(getTaggingResponse.tagSet());
+
+        // 새로운 태그 추가 또는 기존 태그 업데이트
+        boolean tagUpdated = false;
+        for (Tag tag : tags) {
+            if (tag.key().equals(newTagKey)) {
+                tags.remove(tag);
+                tags.add(Tag.builder().key(newTagKey).value(newTagValue).build());
+                tagUpdated = true;
+                break;
+            }
+        }
+        if (!tagUpdated) {
+            tags.add(Tag.builder().key(newTagKey).value(newTagValue).build());
+        }
+
+        // 새로운 태그 세트로 객체 태그 업데이트
+        PutObjectTaggingRequest putTaggingRequest = PutObjectTaggingRequest.builder()
+                .bucket(bucketName)
+                .key(fileName)
+                .tagging(Tagging.builder().tagSet(tags).build())
+                .build();
+
+        s3Client.putObjectTagging(putTaggingRequest);
+    }
+
+}
@@ -0,0 +1,62 @@
+package io.github.sunday.devfolio.service.storage;
+
+import io.github.sunday.devfolio.dto.common.StorageBatchResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 파일 저장소 인터페이스
+ * 구현체: S3StorageBackend (AWS S3), LocalStorageBackend (로컬 디스크)
+ * 사용할 구현체는 StorageBackendConfig에서 storage.backend 값으로 선택
+ */
+public interface StorageBackend {
+
+    /**
+     * 저장소 이름 (메트릭 태그용)
+     */
+    String name();
+
+    /**
+     * 파일 저장
+     * 스트림은 반환된 작업이 끝날 때까지 닫거나 재사용하면 안 됨
+     *
+     * @param isTemp 임시 파일 여부 (lifecycle=TEMP 태그)
+     */
+    CompletableFuture<Void> put(String key, InputStream inputStream, long contentLength, String contentType, boolean isTemp);
+
+    /**
+     * 파일 읽기
+     *
+     * @return 읽은 파일 (없으면 null)
+     */
+    StoredObject get(String key) throws IOException;
+
+    /**
+     * 파일 URL
+     */
+    String getUrl(String key);
+
+    /**
+     * getUrl로 만든 URL에서 키 추출
+     */
+    String getKey(String url);
+
+    /**
+     * 여러 파일 삭제 (키별 실패는 결과에 담아 반환)
+     */
+    StorageBatchResult delete(Collection<String> keys);
+
+    /**
+     * 여러 파일의 태그를 주어진 태그 세트로 교체 (키별 실패는 결과에 담아 반환)
+     */
+    StorageBatchResult replaceTags(Collection<String> keys, Map<String, String> tags);
+
+    /**
+     * 파일 태그 하나를 추가하거나 변경 (다른 태그는 유지)
+     */
+    void updateTag(String key, String tagKey, String tagValue);
+}
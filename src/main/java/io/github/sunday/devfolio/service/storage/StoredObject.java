@@ -0,0 +1,35 @@
+package io.github.sunday.devfolio.service.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 저장소에서 읽은 파일
+ * 본문 스트림을 다 읽었거나 더 읽지 않을 때 닫아야 함
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoredObject implements Closeable {
+    private final InputStream body;
+    private final long contentLength;
+    private final String contentType;
+
+    /**
+     * 저장소가 정한 ETag (따옴표 포함)
+     */
+    private final String eTag;
+
+    /**
+     * 마지막 수정 시각 (epoch millis, 알 수 없으면 -1)
+     */
+    private final long lastModified;
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+}
@@ -13,6 +13,7 @@ import io.github.sunday.devfolio.repository.user.ResumeRepository;
 import io.github.sunday.devfolio.repository.user.UserRepository;
 import io.github.sunday.devfolio.repository.community.CommunityLikeRepository;
 import io.github.sunday.devfolio.repository.community.CommunityPostRepository;
+import io.github.sunday.devfolio.repository.like.LikeBackend;
 import io.github.sunday.devfolio.repository.portfolio.PortfolioLikeRepository;
 import io.github.sunday.devfolio.repository.portfolio.PortfolioRepository;
 import io.github.sunday.devfolio.service.portfolio.PortfolioLikeService;
@@ -45,6 +46,7 @@ public class ProfileService {
     private final CommunityPostRepository postRepo;
     private final PortfolioLikeRepository portfolioLikeRepo;
     private final CommunityLikeRepository CommunityLikeRepo;
+    private final LikeBackend likeBackend;
     private final PortfolioLikeService portfolioLikeService;
 
     // -------- 요약/팔로우/이력서 --------
@@ -149,15 +151,12 @@ public class ProfileService {
         if (currentUser == null) throw new IllegalStateException("로그인이 필요합니다");
         CommunityPost post = postRepo.findById(postIdx)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글"));
+        // 좋아요 행과 좋아요 수를 함께 변경
         if (CommunityLikeRepo.existsByUserAndPost(currentUser, post)) {
-            CommunityLikeRepo.deleteByUserAndPost(currentUser, post);
+            likeBackend.unlikePost(currentUser.getUserIdx(), post.getPostIdx());
             return false;
         }
-        CommunityLikeRepo.save(CommunityLike.builder()
-                .user(currentUser)
-                .post(post)
-                .likedAt(ZonedDateTime.now(ZoneId.of("UTC")))
-                .build());
+        likeBackend.likePost(currentUser.getUserIdx(), post.getPostIdx());
         return true;
     }
 
@@ -5,8 +5,10 @@ import io.github.sunday.devfolio.dto.user.ProfileUpdateRequest;
 import io.github.sunday.devfolio.entity.table.user.AuthProvider;
 import io.github.sunday.devfolio.entity.table.user.EmailVerification;
 import io.github.sunday.devfolio.entity.table.user.User;
+import io.github.sunday.devfolio.enums.common.SuggestType;
 import io.github.sunday.devfolio.repository.auth.EmailVerificationRepository;
 import io.github.sunday.devfolio.repository.user.UserRepository;
+import io.github.sunday.devfolio.service.common.SuggestService;
 import io.github.sunday.devfolio.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -25,6 +27,7 @@ public class ProfileUpdateService {
     private final UserService userService;
     private final EmailVerificationRepository emailVerificationRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SuggestService suggestService;
 
     public void verifyPassword(User currentUser, String rawPassword) {
         if (!passwordEncoder.matches(rawPassword, currentUser.getPassword())) {
@@ -92,7 +95,9 @@ public class ProfileUpdateService {
         currentUser.setAffiliation(req.getAffiliation());
         currentUser.setProfileImg(req.getProfileImg());
 
-        return userRepository.save(currentUser);
+        User savedUser = userRepository.save(currentUser);
+        suggestService.put(SuggestType.USER, savedUser.getUserIdx(), savedUser.getNickname());
+        return savedUser;
     }
 
     public boolean isNicknameDuplicateForEdit(String nickname, Long userIdx) {
@@ -1,8 +1,10 @@
 package io.github.sunday.devfolio.service.user.impl;
 
 import io.github.sunday.devfolio.entity.table.user.User;
+import io.github.sunday.devfolio.enums.common.SuggestType;
 import io.github.sunday.devfolio.repository.auth.EmailVerificationRepository;
 import io.github.sunday.devfolio.repository.user.UserRepository;
+import io.github.sunday.devfolio.service.common.SuggestService;
 import io.github.sunday.devfolio.service.user.UserService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailVerificationRepository emailVerificationRepository;
+    private final SuggestService suggestService;
 
     /**
      * {@code UserServiceImpl} 생성자.
@@ -33,11 +36,14 @@ public class UserServiceImpl implements UserService {
      *
      * @param userRepository 사용자 엔티티에 대한 CRUD 처리를 담당하는 JPA 리포지토리
      * @param passwordEncoder 비밀번호 암호화에 사용되는 Spring Security 제공 인코더 (BCrypt)
+     * @param suggestService 닉네임 자동완성 색인 갱신에 사용되는 서비스
      */
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, EmailVerificationRepository emailVerificationRepository) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, EmailVerificationRepository emailVerificationRepository,
+                           SuggestService suggestService) {
         this.passwordEncoder = passwordEncoder;
         this.userRepository = userRepository;
         this.emailVerificationRepository = emailVerificationRepository;
+        this.suggestService = suggestService;
     }
 
     /**
@@ -130,6 +136,7 @@ public class UserServiceImpl implements UserService {
             user.setPassword(encodedPassword);
         }
         userRepository.save(user);
+        suggestService.put(SuggestType.USER, user.getUserIdx(), user.getNickname());
     }
 
     /**
@@ -0,0 +1,123 @@
+package io.github.sunday.devfolio.utils;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한글 자동완성을 위한 문자열 가공 유틸 클래스
+ * 완성형 음절을 호환 자모로 분해해 입력 중인 글자("갑" → "가비")도 접두사로 일치하게 하고,
+ * 초성만 입력한 검색("ㅍㅌㅍㄹㅇ" → "포트폴리오")을 위한 초성 문자열을 생성
+ */
+public class HangulUtils {
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /**
+     * 중성 (겹모음은 입력 순서대로 분해)
+     */
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    /**
+     * 종성 (겹받침은 입력 순서대로 분해)
+     */
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /**
+     * 단독으로 입력된 겹모음, 겹받침 호환 자모의 분해 결과
+     */
+    private static final Map<Character, String> COMPOUND_JAMO = new HashMap<>();
+
+    static {
+        String[][] pairs = {
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"},
+                {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}, {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"},
+                {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"},
+                {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"}
+        };
+        for (String[] pair : pairs) {
+            COMPOUND_JAMO.put(pair[0].charAt(0), pair[1]);
+        }
+    }
+
+    /**
+     * 자동완성 비교용 문자열 생성
+     * NFC 정규화, 공백 정리, 소문자 변환 후 한글 음절과 겹자모를 호환 자모로 분해
+     */
+    public static String toJamo(String text) {
+        String normalized = normalize(text);
+        StringBuilder sb = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (isSyllable(ch)) {
+                int offset = ch - SYLLABLE_BEGIN;
+                sb.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                sb.append(JUNGSEONG[(offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT]);
+                sb.append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else {
+                sb.append(COMPOUND_JAMO.getOrDefault(ch, String.valueOf(ch)));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 검색용 문자열 생성
+     * 한글 음절은 초성으로 바꾸고 나머지 문자는 그대로 유지
+     */
+    public static String toChoseong(String text) {
+        String normalized = normalize(text);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (isSyllable(ch)) {
+                sb.append(CHOSEONG[(ch - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성(자음)만으로 이루어진 입력인지 확인
+     * 공백은 무시하고, 자음이 두 글자 이상이어야 초성 검색으로 판단
+     */
+    public static boolean isChoseongOnly(String text) {
+        String normalized = normalize(text);
+        int consonants = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (ch == ' ') continue;
+            if (ch < 'ㄱ' || ch > 'ㅎ') {
+                return false;
+            }
+            consonants++;
+        }
+        return consonants >= 2;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) return "";
+        return SearchKeywordUtils.normalize(Normalizer.normalize(text, Normalizer.Form.NFC));
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BEGIN && ch <= SYLLABLE_END;
+    }
+}
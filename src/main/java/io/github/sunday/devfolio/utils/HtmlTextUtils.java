@@ -0,0 +1,35 @@
+package io.github.sunday.devfolio.utils;
+
+import org.jsoup.Jsoup;
+
+/**
+ * 에디터로 작성한 HTML 본문을 일반 텍스트로 가공하는 유틸 클래스
+ */
+public class HtmlTextUtils {
+
+    /**
+     * 목록용 본문 요약 최대 길이
+     */
+    public static final int EXCERPT_LENGTH = 150;
+
+    /**
+     * HTML 본문에서 태그를 제거한 일반 텍스트 생성
+     */
+    public static String toText(String html) {
+        if (html == null || html.isBlank()) {
+            return "";
+        }
+        return Jsoup.parse(html).text();
+    }
+
+    /**
+     * HTML 본문에서 태그를 제거하고 최대 길이로 자른 요약 생성
+     */
+    public static String toExcerpt(String html) {
+        String text = toText(html);
+        if (text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+        return text.substring(0, EXCERPT_LENGTH - 3) + "...";
+    }
+}
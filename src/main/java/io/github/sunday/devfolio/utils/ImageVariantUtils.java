@@ -0,0 +1,67 @@
+package io.github.sunday.devfolio.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 크기별 이미지(variant)의 저장 키, URL을 다루는 유틸 클래스
+ * 크기별 이미지는 원본 키의 확장자 앞에 너비를 붙인 키로 저장
+ * ("1/portfolio/3/cover_1a2b3c4d.jpg" → "1/portfolio/3/cover_1a2b3c4d_w320.jpg")
+ */
+public class ImageVariantUtils {
+
+    /**
+     * 원본 키 또는 URL로 크기별 이미지 키 또는 URL 생성
+     */
+    public static String variantKey(String keyOrUrl, int width) {
+        int slash = keyOrUrl.lastIndexOf('/');
+        int dot = keyOrUrl.lastIndexOf('.');
+        if (dot <= slash) {
+            return keyOrUrl + "_w" + width;
+        }
+        return keyOrUrl.substring(0, dot) + "_w" + width + keyOrUrl.substring(dot);
+    }
+
+    /**
+     * 쉼표로 구분된 너비 목록 파싱 ("320,640,1280")
+     */
+    public static List<Integer> parseWidths(String widths) {
+        List<Integer> results = new ArrayList<>();
+        if (widths == null || widths.isBlank()) {
+            return results;
+        }
+        for (String width : widths.split(",")) {
+            try {
+                results.add(Integer.parseInt(width.trim()));
+            } catch (NumberFormatException e) {
+                // 잘못된 값은 무시
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 너비 목록을 쉼표로 구분된 문자열로 변환
+     */
+    public static String joinWidths(List<Integer> widths) {
+        if (widths == null || widths.isEmpty()) {
+            return null;
+        }
+        return String.join(",", widths.stream().map(String::valueOf).toList());
+    }
+
+    /**
+     * 표시할 너비 이상인 가장 작은 크기별 이미지 너비 선택
+     *
+     * @return 적당한 크기별 이미지가 없으면 null (원본 사용)
+     */
+    public static Integer pickWidth(List<Integer> widths, int displayWidth) {
+        Integer picked = null;
+        for (Integer width : widths) {
+            if (width >= displayWidth && (picked == null || width < picked)) {
+                picked = width;
+            }
+        }
+        return picked;
+    }
+}
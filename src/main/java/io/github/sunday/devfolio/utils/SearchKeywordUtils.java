@@ -0,0 +1,18 @@
+package io.github.sunday.devfolio.utils;
+
+import java.util.Locale;
+
+/**
+ * 검색 키워드를 가공하는 유틸 클래스
+ */
+public class SearchKeywordUtils {
+
+    /**
+     * 검색 키워드 정규화
+     * 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환 (null이면 빈 문자열)
+     */
+    public static String normalize(String keyword) {
+        if (keyword == null) return "";
+        return keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.sunday.devfolio.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 메모리 검색 색인용 토크나이저
+ * 문자/숫자가 이어진 구간을 단어로 보고,
+ * 라틴 문자와 숫자 구간은 단어 그대로, 한글 구간은 형태소 분석 없이 두 글자씩 겹치는 bigram으로 분리
+ * ("포트폴리오" → "포트", "트폴", "폴리", "리오" / 한 글자 단어는 그대로)
+ */
+public class SearchTokenizer {
+
+    /**
+     * 색인할 최대 단어 길이 (너무 긴 라틴 문자열, URL 등은 잘라서 색인)
+     */
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    /**
+     * 문자열을 검색 토큰 목록으로 분리 (같은 토큰이 여러 번 나오면 그대로 반복)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char ch = normalized.charAt(i);
+            if (isHangul(ch)) {
+                int start = i;
+                while (i < length && isHangul(normalized.charAt(i))) i++;
+                addHangulTokens(tokens, normalized.substring(start, i));
+            } else if (Character.isLetterOrDigit(ch)) {
+                int start = i;
+                while (i < length && !isHangul(normalized.charAt(i)) && Character.isLetterOrDigit(normalized.charAt(i))) i++;
+                String word = normalized.substring(start, i);
+                tokens.add(word.length() > MAX_TOKEN_LENGTH ? word.substring(0, MAX_TOKEN_LENGTH) : word);
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addHangulTokens(List<String> tokens, String word) {
+        if (word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+
+    /**
+     * 한글 음절, 호환 자모 여부
+     */
+    private static boolean isHangul(char ch) {
+        return (ch >= '가' && ch <= '힣') || (ch >= 'ㄱ' && ch <= 'ㅣ');
+    }
+}
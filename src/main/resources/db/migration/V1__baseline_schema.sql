@@ -0,0 +1,221 @@
+-- 기본 테이블 구성
+-- 엔티티 매핑과 같은 컬럼 타입으로 생성 (Hibernate는 시작 시 validate로 확인만 함)
+-- 기존에 ddl-auto: update로 만들어진 DB에서도 실행할 수 있도록 모든 구문에 IF NOT EXISTS 사용
+
+-- 사용자
+CREATE TABLE IF NOT EXISTS users (
+    user_idx       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    login_id       VARCHAR(50)  NOT NULL UNIQUE,
+    oauth_provider VARCHAR(50),
+    provider_id    VARCHAR(100),
+    email          VARCHAR(255) NOT NULL UNIQUE,
+    password       VARCHAR(255),
+    nickname       VARCHAR(50)  NOT NULL UNIQUE,
+    profile_img    VARCHAR(512),
+    github_url     VARCHAR(255),
+    blog_url       VARCHAR(255),
+    affiliation    VARCHAR(100),
+    created_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at     TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS email_verifications (
+    verification_idx  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email             VARCHAR(255) NOT NULL,
+    verification_code VARCHAR(6)   NOT NULL,
+    expired_at        TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    verified          BOOLEAN      NOT NULL
+);
+
+-- 포트폴리오
+CREATE TABLE IF NOT EXISTS portfolio_categories (
+    category_idx BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         VARCHAR(50) NOT NULL,
+    name_ko      VARCHAR(50) NOT NULL,
+    description  VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS portfolios (
+    portfolio_idx BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title         VARCHAR(200) NOT NULL,
+    start_date    DATE,
+    end_date      DATE,
+    description   TEXT         NOT NULL,
+    views         INTEGER      NOT NULL DEFAULT 0,
+    like_count    INTEGER      NOT NULL DEFAULT 0,
+    comment_count INTEGER      NOT NULL DEFAULT 0,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE,
+    user_idx      BIGINT       NOT NULL,
+    CONSTRAINT fk_portfolios_user FOREIGN KEY (user_idx) REFERENCES users (user_idx)
+);
+
+CREATE TABLE IF NOT EXISTS portfolio_category_map (
+    map_idx       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    portfolio_idx BIGINT NOT NULL,
+    category_idx  BIGINT NOT NULL,
+    CONSTRAINT uk_portfolio_category_map_portfolio_category UNIQUE (portfolio_idx, category_idx),
+    CONSTRAINT fk_portfolio_category_map_portfolio FOREIGN KEY (portfolio_idx) REFERENCES portfolios (portfolio_idx),
+    CONSTRAINT fk_portfolio_category_map_category FOREIGN KEY (category_idx) REFERENCES portfolio_categories (category_idx)
+);
+
+CREATE TABLE IF NOT EXISTS portfolio_comments (
+    comment_idx   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content       TEXT   NOT NULL,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE,
+    user_idx      BIGINT NOT NULL,
+    portfolio_idx BIGINT NOT NULL,
+    parent_idx    BIGINT,
+    CONSTRAINT fk_portfolio_comments_user FOREIGN KEY (user_idx) REFERENCES users (user_idx),
+    CONSTRAINT fk_portfolio_comments_portfolio FOREIGN KEY (portfolio_idx) REFERENCES portfolios (portfolio_idx),
+    CONSTRAINT fk_portfolio_comments_parent FOREIGN KEY (parent_idx) REFERENCES portfolio_comments (comment_idx)
+);
+
+CREATE TABLE IF NOT EXISTS portfolio_images (
+    image_idx     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    portfolio_idx BIGINT       NOT NULL,
+    image_url     VARCHAR(512) NOT NULL,
+    s3_key        VARCHAR(512) NOT NULL,
+    is_thumbnail  BOOLEAN DEFAULT FALSE,
+    created_at    TIMESTAMP(6) WITH TIME ZONE,
+    expire_at     TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT fk_portfolio_images_portfolio FOREIGN KEY (portfolio_idx) REFERENCES portfolios (portfolio_idx)
+);
+
+CREATE TABLE IF NOT EXISTS portfolio_likes (
+    like_idx      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_idx      BIGINT NOT NULL,
+    portfolio_idx BIGINT NOT NULL,
+    liked_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_portfolio_likes_user_portfolio UNIQUE (user_idx, portfolio_idx),
+    CONSTRAINT fk_portfolio_likes_user FOREIGN KEY (user_idx) REFERENCES users (user_idx),
+    CONSTRAINT fk_portfolio_likes_portfolio FOREIGN KEY (portfolio_idx) REFERENCES portfolios (portfolio_idx)
+);
+
+-- 커뮤니티
+CREATE TABLE IF NOT EXISTS community_posts (
+    post_idx      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_idx      BIGINT       NOT NULL,
+    title         VARCHAR(200) NOT NULL,
+    content       TEXT         NOT NULL,
+    excerpt       VARCHAR(200),
+    status        VARCHAR(20)  NOT NULL DEFAULT 'ACTIVE',
+    views         INTEGER      NOT NULL DEFAULT 0,
+    like_count    INTEGER      NOT NULL DEFAULT 0,
+    comment_count INTEGER      NOT NULL DEFAULT 0,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    category      VARCHAR(20)  NOT NULL,
+    CONSTRAINT fk_community_posts_user FOREIGN KEY (user_idx) REFERENCES users (user_idx)
+);
+
+CREATE TABLE IF NOT EXISTS community_comments (
+    comment_idx BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_idx    BIGINT NOT NULL,
+    parent_idx  BIGINT,
+    post_idx    BIGINT NOT NULL,
+    content     TEXT   NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT fk_community_comments_user FOREIGN KEY (user_idx) REFERENCES users (user_idx),
+    CONSTRAINT fk_community_comments_parent FOREIGN KEY (parent_idx) REFERENCES community_comments (comment_idx),
+    CONSTRAINT fk_community_comments_post FOREIGN KEY (post_idx) REFERENCES community_posts (post_idx)
+);
+
+CREATE TABLE IF NOT EXISTS community_images (
+    image_idx BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    post_idx  BIGINT       NOT NULL,
+    image_url VARCHAR(512) NOT NULL,
+    CONSTRAINT fk_community_images_post FOREIGN KEY (post_idx) REFERENCES community_posts (post_idx)
+);
+
+CREATE TABLE IF NOT EXISTS community_likes (
+    like_idx BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_idx BIGINT NOT NULL,
+    post_idx BIGINT NOT NULL,
+    liked_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_community_likes_user_post UNIQUE (user_idx, post_idx),
+    CONSTRAINT fk_community_likes_user FOREIGN KEY (user_idx) REFERENCES users (user_idx),
+    CONSTRAINT fk_community_likes_post FOREIGN KEY (post_idx) REFERENCES community_posts (post_idx)
+);
+
+-- 프로필
+CREATE TABLE IF NOT EXISTS follows (
+    follower_id  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    follower_idx BIGINT NOT NULL,
+    followed_idx BIGINT NOT NULL,
+    followed_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_follows_follower FOREIGN KEY (follower_idx) REFERENCES users (user_idx),
+    CONSTRAINT fk_follows_followed FOREIGN KEY (followed_idx) REFERENCES users (user_idx)
+);
+
+CREATE TABLE IF NOT EXISTS resumes (
+    resume_idx BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_idx   BIGINT       NOT NULL,
+    content    TEXT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    profile    VARCHAR(255),
+    CONSTRAINT fk_resumes_user FOREIGN KEY (user_idx) REFERENCES users (user_idx)
+);
+
+CREATE TABLE IF NOT EXISTS education (
+    edu_idx     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    resume_idx  BIGINT NOT NULL,
+    school      VARCHAR(200),
+    degree      VARCHAR(100),
+    majored_in  VARCHAR(100),
+    start_date  DATE,
+    end_date    DATE,
+    grade       INTEGER,
+    description TEXT,
+    created_at  DATE   NOT NULL,
+    CONSTRAINT fk_education_resume FOREIGN KEY (resume_idx) REFERENCES resumes (resume_idx)
+);
+
+CREATE TABLE IF NOT EXISTS experiences (
+    exp_idx     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    resume_idx  BIGINT NOT NULL,
+    company     VARCHAR(200),
+    position    VARCHAR(200),
+    start_date  DATE,
+    end_date    DATE,
+    description TEXT,
+    created_at  DATE   NOT NULL,
+    CONSTRAINT fk_experiences_resume FOREIGN KEY (resume_idx) REFERENCES resumes (resume_idx)
+);
+
+CREATE TABLE IF NOT EXISTS skills (
+    skill_idx  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    resume_idx BIGINT NOT NULL,
+    name       VARCHAR(200),
+    level      INTEGER,
+    start_date DATE,
+    end_date   DATE,
+    CONSTRAINT fk_skills_resume FOREIGN KEY (resume_idx) REFERENCES resumes (resume_idx)
+);
+
+CREATE TABLE IF NOT EXISTS training (
+    training_idx  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    resume_idx    BIGINT NOT NULL,
+    training_name VARCHAR(200),
+    start_date    DATE,
+    end_date      DATE,
+    description   TEXT,
+    CONSTRAINT fk_training_resume FOREIGN KEY (resume_idx) REFERENCES resumes (resume_idx)
+);
+
+CREATE TABLE IF NOT EXISTS resume_files (
+    file_idx    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    resume_idx  BIGINT       NOT NULL,
+    filename    VARCHAR(255),
+    file_url    VARCHAR(512),
+    uploaded_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_resume_files_resume FOREIGN KEY (resume_idx) REFERENCES resumes (resume_idx)
+);
+
+-- 엔티티에 선언된 인덱스 (ddl-auto: update로 만들어진 DB와 같은 이름)
+CREATE INDEX IF NOT EXISTS idx_community_comments_post_parent ON community_comments (post_idx, parent_idx, comment_idx);
+CREATE INDEX IF NOT EXISTS idx_community_comments_parent ON community_comments (parent_idx, comment_idx);
+CREATE INDEX IF NOT EXISTS idx_portfolio_category_map_category_portfolio ON portfolio_category_map (category_idx, portfolio_idx);
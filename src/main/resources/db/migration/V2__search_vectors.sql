@@ -0,0 +1,67 @@
+-- 전문 검색용 search_vector 컬럼과 갱신 트리거, GIN 인덱스
+-- 검색 쿼리(websearch_to_tsquery('simple', ...))와 같은 'simple' 설정으로 색인
+-- 제목은 가중치 A, 본문은 HTML 태그를 제거한 뒤 가중치 B로 색인
+-- 엔티티에서는 읽기 전용(insertable, updatable = false)이므로 값은 트리거만 채움
+
+-- 이전에 생성 컬럼(GENERATED)으로 만들어 둔 DB는 트리거로 관리할 수 있도록 일반 컬럼으로 다시 생성
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'portfolios'
+                 AND column_name = 'search_vector' AND is_generated = 'ALWAYS') THEN
+        ALTER TABLE portfolios DROP COLUMN search_vector;
+    END IF;
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'community_posts'
+                 AND column_name = 'search_vector' AND is_generated = 'ALWAYS') THEN
+        ALTER TABLE community_posts DROP COLUMN search_vector;
+    END IF;
+END
+$$;
+
+ALTER TABLE portfolios ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+ALTER TABLE community_posts ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+
+-- 제목, HTML 본문으로 검색 벡터 생성
+CREATE OR REPLACE FUNCTION devfolio_search_vector(title TEXT, body TEXT) RETURNS TSVECTOR
+    LANGUAGE sql IMMUTABLE AS
+$$
+SELECT setweight(to_tsvector('simple'::regconfig, coalesce(title, '')), 'A')
+    || setweight(to_tsvector('simple'::regconfig, regexp_replace(coalesce(body, ''), '<[^>]*>', ' ', 'g')), 'B')
+$$;
+
+CREATE OR REPLACE FUNCTION portfolios_search_vector_trigger() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    NEW.search_vector := devfolio_search_vector(NEW.title, NEW.description);
+    RETURN NEW;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION community_posts_search_vector_trigger() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    NEW.search_vector := devfolio_search_vector(NEW.title, NEW.content);
+    RETURN NEW;
+END
+$$;
+
+-- 제목, 본문이 바뀔 때만 다시 계산 (조회수, 좋아요 수 갱신에는 실행되지 않음)
+DROP TRIGGER IF EXISTS trg_portfolios_search_vector ON portfolios;
+CREATE TRIGGER trg_portfolios_search_vector
+    BEFORE INSERT OR UPDATE OF title, description ON portfolios
+    FOR EACH ROW EXECUTE FUNCTION portfolios_search_vector_trigger();
+
+DROP TRIGGER IF EXISTS trg_community_posts_search_vector ON community_posts;
+CREATE TRIGGER trg_community_posts_search_vector
+    BEFORE INSERT OR UPDATE OF title, content ON community_posts
+    FOR EACH ROW EXECUTE FUNCTION community_posts_search_vector_trigger();
+
+-- 기존 행 채우기
+UPDATE portfolios SET search_vector = devfolio_search_vector(title, description);
+UPDATE community_posts SET search_vector = devfolio_search_vector(title, content);
+
+CREATE INDEX IF NOT EXISTS idx_portfolios_search_vector ON portfolios USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_community_posts_search_vector ON community_posts USING gin (search_vector);
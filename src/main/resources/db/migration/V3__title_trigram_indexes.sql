@@ -0,0 +1,6 @@
+-- 오타 허용 검색(제목 trigram 유사도)에 필요한 pg_trgm 확장과 GIN trigram 인덱스
+-- 확장 생성 권한이 없는 계정이면 DB 관리자가 먼저 CREATE EXTENSION pg_trgm을 실행해야 함
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_portfolios_title_trgm ON portfolios USING gin (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_community_posts_title_trgm ON community_posts USING gin (title gin_trgm_ops);
@@ -0,0 +1,66 @@
+-- 목록, 상세, 프로필 조회 쿼리용 인덱스
+-- 정렬 인덱스는 PortfolioSort, CommunitySort의 정렬 컬럼 + IDX 내림차순 (오름차순 정렬은 역방향 스캔으로 사용)
+
+-- 포트폴리오 목록 정렬
+CREATE INDEX IF NOT EXISTS idx_portfolios_updated_at ON portfolios (updated_at DESC, portfolio_idx DESC);
+CREATE INDEX IF NOT EXISTS idx_portfolios_comment_count ON portfolios (comment_count DESC, portfolio_idx DESC);
+CREATE INDEX IF NOT EXISTS idx_portfolios_views ON portfolios (views DESC, portfolio_idx DESC);
+CREATE INDEX IF NOT EXISTS idx_portfolios_like_count ON portfolios (like_count DESC, portfolio_idx DESC);
+
+-- 핫한 포트폴리오 (기간 조건), 인기 포트폴리오 (좋아요, 조회수, 작성일 순)
+CREATE INDEX IF NOT EXISTS idx_portfolios_created_at_like_count ON portfolios (created_at, like_count DESC, views DESC);
+CREATE INDEX IF NOT EXISTS idx_portfolios_popular ON portfolios (like_count DESC, views DESC, created_at DESC);
+
+-- 사용자 포트폴리오
+CREATE INDEX IF NOT EXISTS idx_portfolios_user ON portfolios (user_idx, updated_at DESC);
+
+-- 포트폴리오 이미지, 좋아요, 댓글
+CREATE INDEX IF NOT EXISTS idx_portfolio_images_portfolio_thumbnail ON portfolio_images (portfolio_idx, is_thumbnail);
+CREATE INDEX IF NOT EXISTS idx_portfolio_likes_portfolio ON portfolio_likes (portfolio_idx);
+CREATE INDEX IF NOT EXISTS idx_portfolio_comments_portfolio ON portfolio_comments (portfolio_idx, comment_idx);
+CREATE INDEX IF NOT EXISTS idx_portfolio_comments_parent ON portfolio_comments (parent_idx);
+CREATE INDEX IF NOT EXISTS idx_portfolio_comments_user ON portfolio_comments (user_idx);
+
+-- 포트폴리오당 썸네일은 하나만 허용 (중복된 썸네일은 가장 먼저 등록된 이미지만 남김)
+UPDATE portfolio_images image
+SET is_thumbnail = FALSE
+WHERE image.is_thumbnail
+  AND EXISTS (SELECT 1 FROM portfolio_images other
+              WHERE other.portfolio_idx = image.portfolio_idx
+                AND other.is_thumbnail
+                AND other.image_idx < image.image_idx);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_portfolio_images_thumbnail ON portfolio_images (portfolio_idx) WHERE is_thumbnail;
+
+-- 커뮤니티 목록 정렬 (전체, 카테고리별)
+CREATE INDEX IF NOT EXISTS idx_community_posts_updated_at ON community_posts (updated_at DESC, post_idx DESC);
+CREATE INDEX IF NOT EXISTS idx_community_posts_comment_count ON community_posts (comment_count DESC, post_idx DESC);
+CREATE INDEX IF NOT EXISTS idx_community_posts_views ON community_posts (views DESC, post_idx DESC);
+CREATE INDEX IF NOT EXISTS idx_community_posts_like_count ON community_posts (like_count DESC, post_idx DESC);
+CREATE INDEX IF NOT EXISTS idx_community_posts_category_updated_at ON community_posts (category, updated_at DESC, post_idx DESC);
+CREATE INDEX IF NOT EXISTS idx_community_posts_user ON community_posts (user_idx);
+
+-- 커뮤니티 좋아요, 이미지, 댓글 작성자
+CREATE INDEX IF NOT EXISTS idx_community_likes_post ON community_likes (post_idx);
+CREATE INDEX IF NOT EXISTS idx_community_images_post ON community_images (post_idx);
+CREATE INDEX IF NOT EXISTS idx_community_comments_user ON community_comments (user_idx);
+
+-- 팔로우 (중복 팔로우는 가장 먼저 등록된 관계만 남김)
+DELETE FROM follows follow
+WHERE EXISTS (SELECT 1 FROM follows other
+              WHERE other.follower_idx = follow.follower_idx
+                AND other.followed_idx = follow.followed_idx
+                AND other.follower_id < follow.follower_id);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_follows_follower_followed ON follows (follower_idx, followed_idx);
+CREATE INDEX IF NOT EXISTS idx_follows_followed ON follows (followed_idx);
+
+-- 이력서
+CREATE INDEX IF NOT EXISTS idx_resumes_user ON resumes (user_idx);
+CREATE INDEX IF NOT EXISTS idx_education_resume ON education (resume_idx);
+CREATE INDEX IF NOT EXISTS idx_experiences_resume ON experiences (resume_idx);
+CREATE INDEX IF NOT EXISTS idx_skills_resume ON skills (resume_idx);
+CREATE INDEX IF NOT EXISTS idx_training_resume ON training (resume_idx);
+CREATE INDEX IF NOT EXISTS idx_resume_files_resume ON resume_files (resume_idx);
+
+-- 이메일 인증 (최근 인증 코드 조회, 만료된 코드 삭제)
+CREATE INDEX IF NOT EXISTS idx_email_verifications_email ON email_verifications (email, expired_at DESC);
+CREATE INDEX IF NOT EXISTS idx_email_verifications_expired_at ON email_verifications (expired_at);
@@ -0,0 +1,7 @@
+-- 포트폴리오 이미지 크기, 크기별 이미지(variant) 너비 목록, 미리보기(placeholder)
+-- 기존 이미지는 값이 없으므로 원본 이미지를 그대로 사용
+
+ALTER TABLE portfolio_images ADD COLUMN IF NOT EXISTS width INTEGER;
+ALTER TABLE portfolio_images ADD COLUMN IF NOT EXISTS height INTEGER;
+ALTER TABLE portfolio_images ADD COLUMN IF NOT EXISTS variant_widths VARCHAR(50);
+ALTER TABLE portfolio_images ADD COLUMN IF NOT EXISTS placeholder TEXT;
@@ -0,0 +1,20 @@
+-- 내용 기반 키로 저장된 이미지 색인
+-- content_hash: 저장된 이미지 바이트의 SHA-256, source_hash: 업로드 원본과 처리 조건의 SHA-256
+-- ref_count가 0이 되면 색인과 저장소 파일을 함께 삭제
+
+CREATE TABLE IF NOT EXISTS stored_images (
+    content_hash   VARCHAR(64)  PRIMARY KEY,
+    source_hash    VARCHAR(64),
+    s3_key         VARCHAR(512) NOT NULL,
+    content_type   VARCHAR(50)  NOT NULL,
+    file_size      BIGINT       NOT NULL,
+    width          INTEGER,
+    height         INTEGER,
+    variant_widths VARCHAR(50),
+    placeholder    TEXT,
+    ref_count      INTEGER      NOT NULL DEFAULT 0,
+    created_at     TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT uk_stored_images_s3_key UNIQUE (s3_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_stored_images_source_hash ON stored_images (source_hash);
@@ -0,0 +1,18 @@
+-- V1은 CREATE TABLE IF NOT EXISTS라서 ddl-auto: update로 만들어진 기존 테이블에는 적용되지 않음
+-- 기존 테이블에 추가된 컬럼과 제약 조건을 명시적으로 추가
+
+-- 커뮤니티 목록용 본문 요약 (기존 게시글은 CommunityExcerptBackfillTask가 채움)
+ALTER TABLE community_posts ADD COLUMN IF NOT EXISTS excerpt VARCHAR(200);
+
+-- 커뮤니티 좋아요 중복 방지 (CommunityLikeRepository의 ON CONFLICT (user_idx, post_idx)에 필요)
+-- 중복된 좋아요는 가장 먼저 등록된 좋아요만 남기고, 게시글 좋아요 수를 다시 계산
+DELETE FROM community_likes community_like
+WHERE EXISTS (SELECT 1 FROM community_likes other
+              WHERE other.user_idx = community_like.user_idx
+                AND other.post_idx = community_like.post_idx
+                AND other.like_idx < community_like.like_idx);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_community_likes_user_post ON community_likes (user_idx, post_idx);
+
+UPDATE community_posts post
+SET like_count = (SELECT count(*) FROM community_likes community_like WHERE community_like.post_idx = post.post_idx)
+WHERE like_count <> (SELECT count(*) FROM community_likes community_like WHERE community_like.post_idx = post.post_idx);
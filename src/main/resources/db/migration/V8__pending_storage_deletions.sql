@@ -0,0 +1,11 @@
+-- 저장소 삭제에 실패한 파일 (StorageDeletionService가 주기적으로 다시 삭제)
+-- 이미지 행은 트랜잭션 안에서 삭제하고 저장소 파일은 커밋 후 삭제하므로, 실패한 키는 여기에만 남음
+
+CREATE TABLE IF NOT EXISTS pending_storage_deletions (
+    s3_key     VARCHAR(512) PRIMARY KEY,
+    attempts   INTEGER      NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_pending_storage_deletions_created_at ON pending_storage_deletions (created_at);
@@ -0,0 +1,49 @@
+/**
+ * 검색어 자동완성
+ * data-suggest-types 속성이 있는 검색 입력창에 /api/suggest 결과를 datalist로 연결
+ */
+const SUGGEST_DELAY_MS = 150;
+
+function attachSuggest(input, index) {
+    const datalist = document.createElement("datalist");
+    datalist.id = `search-suggest-${index}`;
+    input.setAttribute("list", datalist.id);
+    input.setAttribute("autocomplete", "off");
+    input.after(datalist);
+
+    let timer = null;
+    let controller = null;
+
+    input.addEventListener("input", () => {
+        clearTimeout(timer);
+        timer = setTimeout(async () => {
+            const query = input.value.trim();
+            if (query === "") {
+                datalist.replaceChildren();
+                return;
+            }
+
+            // 이전 요청이 끝나지 않았으면 취소
+            if (controller) controller.abort();
+            controller = new AbortController();
+
+            const params = new URLSearchParams({ q: query, types: input.dataset.suggestTypes });
+            try {
+                const response = await fetch(`/api/suggest?${params}`, { signal: controller.signal });
+                if (!response.ok) return;
+                const suggestions = await response.json();
+
+                const texts = [...new Set(suggestions.map((suggestion) => suggestion.text))];
+                datalist.replaceChildren(...texts.map((text) => {
+                    const option = document.createElement("option");
+                    option.value = text;
+                    return option;
+                }));
+            } catch (e) {
+                if (e.name !== "AbortError") console.error(e);
+            }
+        }, SUGGEST_DELAY_MS);
+    });
+}
+
+document.querySelectorAll("input[data-suggest-types]").forEach(attachSuggest);
@@ -1,16 +1,27 @@
 document.addEventListener('DOMContentLoaded', function () {
 
-    // '답글' 버튼 클릭 이벤트
-    document.querySelectorAll('.btn-reply').forEach(button => {
-        button.addEventListener('click', function() {
+    const commentSection = document.querySelector('.comment-container');
+    if (!commentSection) return;
+
+    const postId = commentSection.dataset.postId;
+    const isAuthenticated = commentSection.dataset.authenticated === 'true';
+    const currentUserIdx = commentSection.dataset.currentUserIdx;
+
+    // 댓글과 답글은 나중에 추가로 불러오므로 이벤트는 댓글 영역에 위임
+    commentSection.addEventListener('click', function (e) {
+        const button = e.target.closest('button');
+        if (!button) return;
+
+        // '답글' 버튼 클릭 이벤트
+        if (button.classList.contains('btn-reply')) {
             const existingReplyForm = document.querySelector('.reply-form-container .comment-write-box');
             if (existingReplyForm) {
                 existingReplyForm.remove();
             }
 
-            const commentId = this.dataset.commentId;
+            const commentId = button.dataset.commentId;
 
-            const commentItemContainer = this.closest('.comment-item');
+            const commentItemContainer = button.closest('.comment-item');
             const replyFormContainer = commentItemContainer.querySelector('.replies .reply-form-container');
 
             if (replyFormContainer) {
@@ -19,29 +30,177 @@ document.addEventListener('DOMContentLoaded', function () {
             } else {
                 console.error('.reply-form-container를 찾을 수 없습니다.');
             }
-        });
-    });
+        }
 
-    // '수정' 버튼 클릭 이벤트
-    document.querySelectorAll('.btn-edit').forEach(button => {
-        button.addEventListener('click', function() {
-            const commentId = this.dataset.commentId;
+        // '수정' 버튼 클릭 이벤트
+        if (button.classList.contains('btn-edit')) {
+            const commentId = button.dataset.commentId;
             const commentItem = document.getElementById('comment-' + commentId);
             const contentDiv = commentItem.querySelector('.comment-content');
             showEditUI(contentDiv, commentId);
-        });
-    });
+        }
 
-    // '삭제' 버튼 클릭 이벤트
-    document.querySelectorAll('.btn-delete-comment').forEach(button => {
-        button.addEventListener('click', function() {
+        // '삭제' 버튼 클릭 이벤트
+        if (button.classList.contains('btn-delete-comment')) {
             if (confirm('정말로 댓글을 삭제하시겠습니까?')) {
-                const commentId = this.dataset.commentId;
+                const commentId = button.dataset.commentId;
                 deleteComment(commentId);
             }
-        });
+        }
+
+        // '답글 보기' 버튼 클릭 이벤트
+        if (button.classList.contains('btn-load-replies')) {
+            loadReplies(button);
+        }
+
+        // '댓글 더보기' 버튼 클릭 이벤트
+        if (button.id === 'btn-load-more-comments') {
+            loadMoreComments(button);
+        }
     });
 
+    /**
+     * 최상위 댓글 다음 페이지를 불러와 목록 끝에 추가하는 함수
+     * @param {HTMLElement} button - 다음 페이지 커서를 가진 더보기 버튼
+     */
+    async function loadMoreComments(button) {
+        button.disabled = true;
+        try {
+            const data = await fetchComments(`/api/community/posts/${postId}/comments`, button.dataset.nextCursor);
+            const commentList = commentSection.querySelector(':scope > .comment-list');
+            data.content.forEach(comment => commentList.appendChild(createCommentElement(comment)));
+            updateCursorButton(button, data);
+        } catch (error) {
+            console.error('Error:', error);
+            alert('댓글을 불러오지 못했습니다.');
+            button.disabled = false;
+        }
+    }
+
+    /**
+     * 댓글의 답글을 불러와 답글 목록에 추가하는 함수
+     * @param {HTMLElement} button - 부모 댓글 ID와 다음 페이지 커서를 가진 답글 보기 버튼
+     */
+    async function loadReplies(button) {
+        button.disabled = true;
+        try {
+            const commentId = button.dataset.commentId;
+            const data = await fetchComments(`/api/community/comments/${commentId}/replies`, button.dataset.nextCursor);
+            const replyList = button.closest('.replies').querySelector(':scope > .reply-list');
+            data.content.forEach(reply => replyList.appendChild(createCommentElement(reply)));
+            button.textContent = '답글 더보기';
+            updateCursorButton(button, data);
+        } catch (error) {
+            console.error('Error:', error);
+            alert('답글을 불러오지 못했습니다.');
+            button.disabled = false;
+        }
+    }
+
+    /**
+     * 커서 이후 댓글 목록을 요청하는 함수
+     */
+    async function fetchComments(url, cursor) {
+        const params = new URLSearchParams();
+        if (cursor) params.set('after', cursor);
+        const response = await fetch(params.toString() ? `${url}?${params}` : url);
+        if (!response.ok) throw new Error('댓글 조회 실패');
+        return response.json();
+    }
+
+    /**
+     * 다음 페이지가 있으면 버튼에 커서를 저장하고, 없으면 버튼을 제거하는 함수
+     */
+    function updateCursorButton(button, data) {
+        if (data.hasNext) {
+            button.dataset.nextCursor = data.nextCursor;
+            button.disabled = false;
+        } else {
+            button.remove();
+        }
+    }
+
+    /**
+     * 댓글 응답으로 댓글 요소를 생성하는 함수 (comment_tree 프래그먼트와 같은 구조)
+     * @param {Object} comment - 댓글 응답 객체
+     * @returns {HTMLElement} - 생성된 댓글 요소
+     */
+    function createCommentElement(comment) {
+        const item = document.createElement('div');
+        item.className = 'comment-item';
+        item.id = 'comment-container-' + comment.commentId;
+
+        const box = document.createElement('div');
+        box.className = 'comment-box';
+        box.id = 'comment-' + comment.commentId;
+
+        const header = document.createElement('div');
+        header.className = 'comment-header';
+        const author = document.createElement('div');
+        author.className = 'comment-author';
+        const img = document.createElement('img');
+        img.src = comment.authorProfileImg ? comment.authorProfileImg : '/assets/icon/person-fill.svg';
+        img.alt = '프로필';
+        img.className = 'profile-img-small';
+        const nickname = document.createElement('strong');
+        nickname.textContent = comment.authorNickname;
+        author.append(img, nickname);
+        const date = document.createElement('span');
+        date.className = 'comment-date';
+        date.textContent = formatDate(comment.createdAt);
+        header.append(author, date);
+
+        const content = document.createElement('div');
+        content.className = 'comment-content';
+        content.textContent = comment.content;
+
+        const actions = document.createElement('div');
+        actions.className = 'comment-actions';
+        if (isAuthenticated && String(comment.authorUserIdx) === currentUserIdx) {
+            actions.append(
+                createButton('btn-edit', '수정', comment.commentId),
+                createButton('btn-delete-comment', '삭제', comment.commentId)
+            );
+        }
+        if (isAuthenticated) {
+            actions.append(createButton('btn-reply', '답글 작성', comment.commentId));
+        }
+        box.append(header, content, actions);
+
+        const replies = document.createElement('div');
+        replies.className = 'replies';
+        const replyFormContainer = document.createElement('div');
+        replyFormContainer.className = 'reply-form-container';
+        const replyList = document.createElement('div');
+        replyList.className = 'comment-list reply-list';
+        replies.append(replyFormContainer, replyList);
+        if (comment.replyCount > 0) {
+            replies.append(createButton('btn-load-replies', `답글 ${comment.replyCount}개 보기`, comment.commentId));
+        }
+
+        item.append(box, replies);
+        return item;
+    }
+
+    function createButton(className, text, commentId) {
+        const button = document.createElement('button');
+        button.type = 'button';
+        button.className = className;
+        button.dataset.commentId = commentId;
+        button.textContent = text;
+        return button;
+    }
+
+    /**
+     * 작성 시각을 'yyyy.MM.dd HH:mm' 형식으로 변환하는 함수
+     */
+    function formatDate(value) {
+        const date = new Date(value);
+        const pad = (n) => String(n).padStart(2, '0');
+        return `${date.getFullYear()}.${pad(date.getMonth() + 1)}.${pad(date.getDate())} `
+            + `${pad(date.getHours())}:${pad(date.getMinutes())}`;
+    }
+
     /**
      * 대댓글 작성 폼의 HTML 문자열을 생성하는 함수
      * @param {string} parentId - 부모 댓글의 ID
@@ -152,11 +311,12 @@ document.addEventListener('DOMContentLoaded', function () {
             });
 
             if (response.ok) {
+                const data = await response.json();
                 const commentElement = document.getElementById('comment-container-' + commentId);
 
                 if (commentElement) {
-                    const commentsToRemove = commentElement.querySelectorAll('.comment-item');
-                    const deletedCount = 1 + commentsToRemove.length;
+                    // 불러오지 않은 답글까지 포함된 서버의 삭제 개수 사용
+                    const deletedCount = data.deletedCount;
 
                     const countSpan = document.getElementById('comment-count');
                     if (countSpan) {
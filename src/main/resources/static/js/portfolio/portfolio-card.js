@@ -16,6 +16,11 @@ export default function createPortfolioCard(portfolio) {
   const portfolioImg = document.createElement("img");
   portfolioImg.src = portfolio.imageUrl;
   portfolioImg.alt = portfolio.title;
+  portfolioImg.loading = "lazy";
+  // 로딩 중 미리보기 이미지 표시
+  if (portfolio.placeholder) {
+    portfolioImg.style.backgroundImage = `url(${portfolio.placeholder})`;
+  }
   cardImgBox.appendChild(portfolioImg);
 
   // 카드 정보 박스
@@ -74,11 +74,10 @@ function toggleLike() {
         // 좋아요 추가 혹은 제거 요청 전송
         async function sendLikeRequest(portfolioId, requestLiked) {
             pending = false;
-            const url = requestLiked ? `/api/portfolio/${portfolioId}/add-like` : `/api/portfolio/${portfolioId}/remove-like`;
             if (currentLiked === requestLiked) return;
 
             try {
-                await fetch(url, {method: "POST"})
+                await fetch(`/api/portfolio/${portfolioId}/like`, {method: requestLiked ? "PUT" : "DELETE"})
                 .then((res) => {
                     if (res.ok) return res.json();
                     else throw new Error(requestLiked ? "좋아요 등록 실패" : "좋아요 제거 실패");
@@ -98,7 +97,8 @@ function toggleLike() {
         window.addEventListener("beforeunload", () => {
             requestLiked = clientSideLiked;
             if (pending) {
-                navigator.sendBeacon(requestLiked ? `/api/portfolio/${portfolioId}/add-like` : `/api/portfolio/${portfolioId}/remove-like`);
+                // sendBeacon은 POST만 지원하므로 keepalive 요청으로 전송
+                fetch(`/api/portfolio/${portfolioId}/like`, {method: requestLiked ? "PUT" : "DELETE", keepalive: true});
             }
         });
 }
@@ -61,9 +61,14 @@ function addInfiniteScroll() {
 
   const portfolioSection = document.getElementsByClassName("portfolios")[0];
   const portfolioList = document.getElementById("portfolio-list");
+  if (!portfolioList) return;
   const pageSize = parseInt(portfolioList.dataset.pageSize)??20;
+  // 첫 페이지는 커서 기반, page 파라미터로 진입한 경우 page 기반으로 추가 요청
+  const useCursor = !params.has("page") || params.get("page") === "0";
+  let cursor = portfolioList.dataset.nextCursor;
   const spinner = makeSpinner();
-  if (portfolioList.children.length === 0 || portfolioList.children.length < pageSize) {
+  if (portfolioList.children.length === 0 || portfolioList.children.length < pageSize
+      || (useCursor && !cursor)) {
     isLastPage = true;
     return;
   }
@@ -125,7 +130,12 @@ function addInfiniteScroll() {
   function fetchPortfolioData() {
     if (isLastPage) return;
 
-    params.set("page", page);
+    if (useCursor) {
+      params.delete("page");
+      params.set("cursor", cursor);
+    } else {
+      params.set("page", page);
+    }
     const requestUrl = `/api/portfolio/list?${params.toString()}`;
 
     fetch(requestUrl, {
@@ -135,8 +145,15 @@ function addInfiniteScroll() {
       },
     })
       .then((res) => res.json())
-      .then((data) => {
-        if (data.length < pageSize) {
+      .then((body) => {
+        let data = body;
+        if (useCursor) {
+          data = body.content;
+          cursor = body.nextCursor;
+          if (!body.hasNext) {
+            isLastPage = true;
+          }
+        } else if (data.length < pageSize) {
           isLastPage = true;
         }
 
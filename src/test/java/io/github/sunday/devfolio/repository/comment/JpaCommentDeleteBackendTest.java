@@ -0,0 +1,109 @@
+package io.github.sunday.devfolio.repository.comment;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.github.sunday.devfolio.entity.table.community.Category;
+import io.github.sunday.devfolio.entity.table.community.CommunityComment;
+import io.github.sunday.devfolio.entity.table.community.CommunityPost;
+import io.github.sunday.devfolio.entity.table.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostgreSQL 외 DB(H2)용 댓글 서브트리 삭제 테스트
+ * 자손 댓글까지 외래 키 위반 없이 삭제되고 게시글 댓글 수가 삭제한 개수만큼 줄어드는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:devfolio;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;INIT=CREATE DOMAIN IF NOT EXISTS tsvector AS VARCHAR",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class JpaCommentDeleteBackendTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private JpaCommentDeleteBackend commentDeleteBackend;
+    private User user;
+    private CommunityPost post;
+
+    @BeforeEach
+    void setUp() {
+        commentDeleteBackend = new JpaCommentDeleteBackend(new JPAQueryFactory(entityManager.getEntityManager()));
+        user = entityManager.persist(User.builder()
+                .loginId("writer")
+                .email("writer@devfolio.test")
+                .nickname("writer")
+                .build());
+        post = entityManager.persist(CommunityPost.builder()
+                .user(user)
+                .title("post")
+                .content("content")
+                .status("ACTIVE")
+                .views(0)
+                .likeCount(0)
+                .commentCount(5)
+                .updatedAt(ZonedDateTime.now())
+                .category(Category.general)
+                .build());
+    }
+
+    @Test
+    @DisplayName("댓글과 모든 자손 댓글을 삭제하고 게시글 댓글 수 감소")
+    void deleteSubtree() {
+        CommunityComment root = persistComment(null);
+        CommunityComment child = persistComment(root);
+        persistComment(root);
+        persistComment(child);
+        CommunityComment other = persistComment(null);
+        entityManager.flush();
+        entityManager.clear();
+
+        long deleted = commentDeleteBackend.deleteSubtree(root.getCommentIdx(), post.getPostIdx());
+        entityManager.clear();
+
+        assertThat(deleted).isEqualTo(4);
+        assertThat(entityManager.find(CommunityComment.class, root.getCommentIdx())).isNull();
+        assertThat(entityManager.find(CommunityComment.class, other.getCommentIdx())).isNotNull();
+        assertThat(entityManager.find(CommunityPost.class, post.getPostIdx()).getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 수는 0 미만으로 내려가지 않음")
+    void commentCountDoesNotGoBelowZero() {
+        CommunityComment root = persistComment(null);
+        for (int i = 0; i < 6; i++) {
+            persistComment(root);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        long deleted = commentDeleteBackend.deleteSubtree(root.getCommentIdx(), post.getPostIdx());
+        entityManager.clear();
+
+        assertThat(deleted).isEqualTo(7);
+        assertThat(entityManager.find(CommunityPost.class, post.getPostIdx()).getCommentCount()).isZero();
+    }
+
+    private CommunityComment persistComment(CommunityComment parent) {
+        return entityManager.persist(CommunityComment.builder()
+                .user(user)
+                .post(post)
+                .parent(parent)
+                .content("comment")
+                .build());
+    }
+}
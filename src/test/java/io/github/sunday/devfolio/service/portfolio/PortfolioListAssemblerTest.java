@@ -0,0 +1,207 @@
+package io.github.sunday.devfolio.service.portfolio;
+
+import io.github.sunday.devfolio.dto.portfolio.PortfolioLikeListDto;
+import io.github.sunday.devfolio.dto.portfolio.PortfolioListDto;
+import io.github.sunday.devfolio.entity.table.portfolio.Portfolio;
+import io.github.sunday.devfolio.entity.table.portfolio.PortfolioCategory;
+import io.github.sunday.devfolio.entity.table.portfolio.PortfolioCategoryMap;
+import io.github.sunday.devfolio.entity.table.portfolio.PortfolioImage;
+import io.github.sunday.devfolio.entity.table.portfolio.PortfolioLike;
+import io.github.sunday.devfolio.entity.table.user.User;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioLikeRepository;
+import io.github.sunday.devfolio.repository.portfolio.PortfolioRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포트폴리오 목록 조립 쿼리 수 회귀 테스트
+ * 포트폴리오 수와 관계없이 목록 조회 + 썸네일, 카테고리, 작성자 IN 조회만 실행되는지 확인
+ * 마이그레이션은 PostgreSQL 전용이므로 H2에 ddl-auto로 테이블을 만들고, tsvector는 VARCHAR 도메인으로 대신함
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:devfolio;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;INIT=CREATE DOMAIN IF NOT EXISTS tsvector AS VARCHAR",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(PortfolioListAssembler.class)
+class PortfolioListAssemblerTest {
+
+    /** 목록 조회 1회 + 썸네일, 카테고리, 작성자 조회 각 1회 */
+    private static final long EXPECTED_STATEMENTS = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private PortfolioLikeRepository portfolioLikeRepository;
+
+    @Autowired
+    private PortfolioListAssembler portfolioListAssembler;
+
+    private PortfolioCategory category;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        category = entityManager.persist(PortfolioCategory.builder()
+                .name("backend")
+                .nameKo("백엔드")
+                .build());
+    }
+
+    @Test
+    @DisplayName("엔티티 목록 조립 쿼리 수는 포트폴리오 수와 관계없이 일정 (작성자를 하나씩 초기화하지 않음)")
+    void toListDtoRunsConstantStatements() {
+        List<Long> few = persistPortfolios(2);
+        List<Long> many = persistPortfolios(20);
+
+        long fewStatements = countStatements(few.size(),
+                () -> portfolioListAssembler.toListDto(portfolioRepository.findAllById(few)));
+        long manyStatements = countStatements(many.size(),
+                () -> portfolioListAssembler.toListDto(portfolioRepository.findAllById(many)));
+
+        assertThat(fewStatements).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(manyStatements).isEqualTo(fewStatements);
+    }
+
+    @Test
+    @DisplayName("좋아요 목록 조립 쿼리 수는 좋아요 수와 관계없이 일정 (포트폴리오를 하나씩 초기화하지 않음)")
+    void toLikeListDtoRunsConstantStatements() {
+        Long fewLiker = persistLiker(persistPortfolios(2));
+        Long manyLiker = persistLiker(persistPortfolios(20));
+
+        long fewStatements = countStatements(2, () -> likedPortfolios(fewLiker));
+        long manyStatements = countStatements(20, () -> likedPortfolios(manyLiker));
+
+        assertThat(fewStatements).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(manyStatements).isEqualTo(fewStatements);
+    }
+
+    @Test
+    @DisplayName("프로젝션 목록 조립 쿼리 수는 포트폴리오 수와 관계없이 일정")
+    void assembleRunsConstantStatements() {
+        List<Long> few = persistPortfolios(2);
+        List<Long> many = persistPortfolios(20);
+
+        long fewStatements = countStatements(few.size(),
+                () -> portfolioListAssembler.assemble(portfolioRepository.findSummariesByPortfolioIdxIn(few)));
+        long manyStatements = countStatements(many.size(),
+                () -> portfolioListAssembler.assemble(portfolioRepository.findSummariesByPortfolioIdxIn(many)));
+
+        assertThat(fewStatements).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(manyStatements).isEqualTo(fewStatements);
+    }
+
+    private List<PortfolioListDto> likedPortfolios(Long userIdx) {
+        return portfolioListAssembler.toLikeListDto(portfolioLikeRepository.findAllByUser_UserIdx(userIdx, PageRequest.of(0, 100)))
+                .stream()
+                .map(PortfolioLikeListDto::getPortfolioListDto)
+                .toList();
+    }
+
+    /**
+     * 영속성 컨텍스트를 비운 뒤 목록을 조립하고 실행된 SQL 수 반환
+     */
+    private long countStatements(int expectedSize, Supplier<List<PortfolioListDto>> listing) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<PortfolioListDto> results = listing.get();
+
+        assertThat(results).hasSize(expectedSize);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.getWriter()).isNotNull();
+            assertThat(result.getCategories()).hasSize(1);
+            assertThat(result.getImageUrl()).isNotEmpty();
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 포트폴리오에 모두 좋아요한 사용자 저장
+     */
+    private Long persistLiker(List<Long> portfolioIdxList) {
+        User liker = persistUser();
+        for (Long portfolioIdx : portfolioIdxList) {
+            entityManager.persist(PortfolioLike.builder()
+                    .user(liker)
+                    .portfolio(entityManager.find(Portfolio.class, portfolioIdx))
+                    .likedAt(ZonedDateTime.now())
+                    .build());
+        }
+        return liker.getUserIdx();
+    }
+
+    private User persistUser() {
+        int n = sequence++;
+        return entityManager.persist(User.builder()
+                .loginId("user" + n)
+                .email("user" + n + "@devfolio.test")
+                .nickname("writer" + n)
+                .build());
+    }
+
+    /**
+     * 작성자, 썸네일, 카테고리가 있는 포트폴리오를 작성자마다 하나씩 저장
+     */
+    private List<Long> persistPortfolios(int count) {
+        List<Long> portfolioIdxList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = persistUser();
+            int n = sequence++;
+            Portfolio portfolio = entityManager.persist(Portfolio.builder()
+                    .title("portfolio " + n)
+                    .description("description " + n)
+                    .views(0)
+                    .likeCount(0)
+                    .commentCount(0)
+                    .createdAt(ZonedDateTime.now())
+                    .updatedAt(ZonedDateTime.now())
+                    .user(user)
+                    .build());
+            entityManager.persist(PortfolioImage.builder()
+                    .portfolio(portfolio)
+                    .imageUrl("images/thumbnail" + n + ".png")
+                    .s3Key("images/thumbnail" + n + ".png")
+                    .isThumbnail(true)
+                    .createdAt(ZonedDateTime.now())
+                    .build());
+            entityManager.persist(PortfolioCategoryMap.builder()
+                    .portfolio(portfolio)
+                    .category(category)
+                    .build());
+            portfolioIdxList.add(portfolio.getPortfolioIdx());
+        }
+        return portfolioIdxList;
+    }
+}